@@ -27,7 +27,6 @@ import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
 import com.sun.jersey.api.client.filter.LoggingFilter;
 import org.neo4j.helpers.collection.MapUtil;
 import org.neo4j.rest.graphdb.util.Config;
-import org.neo4j.rest.graphdb.util.JsonHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,7 +36,11 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLEncoder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 
@@ -46,9 +49,16 @@ public class ExecutingRestRequest implements RestRequest {
     private static final Logger log = LoggerFactory.getLogger(RestRequest.class);
 
     public static final MediaType STREAMING_JSON_TYPE = new MediaType(APPLICATION_JSON_TYPE.getType(),APPLICATION_JSON_TYPE.getSubtype(), MapUtil.stringMap("stream","true"));
+    // connectors are shared by all requests for the same base uri, credentials, user agent and connector settings
+    private static final Map<String, SharedConnector> connectors = new HashMap<>();
+
     private final String baseUri;
     private final UserAgent userAgent = new UserAgent();
+    private final SharedConnector shared;
+    private final boolean ownsReference;
+    private final RestClientConnector connector;
     private final Client client;
+    private final AtomicBoolean released = new AtomicBoolean();
 
     public ExecutingRestRequest( String baseUri ) {
         this( baseUri, null, null );
@@ -56,18 +66,67 @@ public class ExecutingRestRequest implements RestRequest {
 
     public ExecutingRestRequest( String baseUri, String username, String password ) {
         this.baseUri = uriWithoutSlash( baseUri );
-        client = createClient();
-        addAuthFilter(username, password);
+        this.shared = acquireConnector(username, password);
+        this.ownsReference = true;
+        this.connector = shared.connector;
+        this.client = connector.getClient();
+    }
+
+    private SharedConnector acquireConnector(String username, String password) {
+        String key = baseUri + "|" + credentialsHash(username, password) + "|" + userAgent.getValue() + "|" + connectorSettings();
+        synchronized (connectors) {
+            SharedConnector shared = connectors.get(key);
+            if (shared == null) {
+                RestClientConnector connector = createConnector();
+                Client client = connector.getClient();
+                configureClient(client);
+                addAuthFilter(client, username, password);
+                shared = new SharedConnector(key, connector);
+                connectors.put(key, shared);
+            }
+            shared.references++;
+            return shared;
+        }
+    }
+
+    // all settings the connector and its client are created with
+    private static String connectorSettings() {
+        return Config.getConnector() + "|" + Config.getConnectTimeout() + "|" + Config.getReadTimeout() + "|" +
+                Config.useLoggingFilter() + "|" + Config.getMaxConnections() + "|" + Config.getMaxConnectionsPerRoute() + "|" +
+                Config.getKeepAlive() + "|" + Config.getIdleTimeout();
+    }
+
+    // the connector cache outlives the requests, so it doesn't keep the plain password as key
+    private static String credentialsHash(String username, String password) {
+        if (username == null && password == null) return "";
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((username + ":" + password).getBytes("UTF-8"));
+            StringBuilder result = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return result.toString();
+        } catch (NoSuchAlgorithmException | UnsupportedEncodingException e) {
+            throw new RuntimeException("Error hashing the credentials", e);
+        }
+    }
 
+    protected RestClientConnector createConnector() {
+        String connectorClass = Config.getConnector();
+        try {
+            return (RestClientConnector) Class.forName(connectorClass).newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException("Error creating rest client connector " + connectorClass, e);
+        }
     }
 
-    protected void addAuthFilter(String username, String password) {
+    protected void addAuthFilter(Client client, String username, String password) {
         if (username == null) return;
         client.addFilter( new HTTPBasicAuthFilter( username, password ) );
     }
 
-    protected Client createClient() {
-        Client client = Client.create();
+    protected void configureClient(Client client) {
         client.setConnectTimeout(Config.getConnectTimeout());
         client.setReadTimeout(Config.getReadTimeout());
         client.setChunkedEncodingSize(8*1024);
@@ -75,12 +134,15 @@ public class ExecutingRestRequest implements RestRequest {
         if (Config.useLoggingFilter()) {
             client.addFilter(new LoggingFilter());
         }
-        return client;
     }
 
-    private ExecutingRestRequest( String uri, Client client ) {
+    // derived requests borrow the connector of the request they were created from
+    private ExecutingRestRequest( String uri, SharedConnector shared ) {
         this.baseUri = uriWithoutSlash( uri );
-        this.client = client;
+        this.shared = shared;
+        this.ownsReference = false;
+        this.connector = shared.connector;
+        this.client = connector.getClient();
     }
 
     protected String uriWithoutSlash( String uri ) {
@@ -118,10 +180,7 @@ public class ExecutingRestRequest implements RestRequest {
  
     @Override
     public RequestResult get( String path, Object data ) {
-        Builder builder = builder(path);
-        if ( data != null ) {
-            builder = builder.entity( JsonHelper.createJsonFrom( data ), APPLICATION_JSON_TYPE );
-        }
+        Builder builder = withEntity( builder( path ), data );
         if (log.isDebugEnabled()) log.debug("GET "+path+" "+data);
         return RequestResult.extractFrom(builder.get(ClientResponse.class));
     }
@@ -136,28 +195,45 @@ public class ExecutingRestRequest implements RestRequest {
 
     @Override
     public RequestResult post( String path, Object data ) {
-        Builder builder = builder( path );
-        if ( data != null ) {
-            Object payload = data instanceof InputStream ? data : JsonHelper.createJsonFrom(data);
-            builder = builder.entity( payload , APPLICATION_JSON_TYPE );
-        }
+        Builder builder = postBuilder(path, data);
         if (log.isDebugEnabled()) log.debug("POST "+path+" "+data);
         return RequestResult.extractFrom(builder.post(ClientResponse.class));
     }
 
     @Override
-    public RequestResult put( String path, Object data ) {
-        Builder builder = builder( path );
-        if ( data != null ) {
-            builder = builder.entity( JsonHelper.createJsonFrom( data ), APPLICATION_JSON_TYPE );
+    public RequestResult stream( String path, Object data ) {
+        Builder builder = postBuilder(path, data);
+        if (log.isDebugEnabled()) log.debug("POST (streamed) "+path+" "+data);
+        return RequestResult.extractStreamFrom(builder.post(ClientResponse.class));
+    }
+
+    private Builder postBuilder( String path, Object data ) {
+        return withEntity( builder( path ), data );
+    }
+
+    /**
+     * the data is serialized to the connection while the request is sent, input streams are passed through as they are
+     */
+    private Builder withEntity( Builder builder, Object data ) {
+        if ( data == null ) return builder;
+        if ( data instanceof InputStream ) return builder.entity( data, APPLICATION_JSON_TYPE );
+        if ( Config.useGzipRequests() ) {
+            builder = builder.header( "Content-Encoding", JsonEntity.GZIP_ENCODING );
+            return builder.entity( new JsonEntity( data, true ), APPLICATION_JSON_TYPE );
         }
+        return builder.entity( new JsonEntity( data, false ), APPLICATION_JSON_TYPE );
+    }
+
+    @Override
+    public RequestResult put( String path, Object data ) {
+        Builder builder = withEntity( builder( path ), data );
         if (log.isDebugEnabled()) log.debug("PUT "+path+" "+data);
         return RequestResult.extractFrom(builder.put(ClientResponse.class));
     }
 
     @Override
     public RestRequest with( String uri ) {
-        return new ExecutingRestRequest(uri, client);
+        return new ExecutingRestRequest(uri, shared);
     }
 
     private URI uri( String uri ) {
@@ -179,6 +255,51 @@ public class ExecutingRestRequest implements RestRequest {
 	   return requestResult.toMap();
 	}
 
+    /**
+     * @return the state of the connection pool shared by this request or null if the connector doesn't pool connections
+     */
+    public ConnectionPoolStatistics getPoolStatistics() {
+        return connector.getStatistics();
+    }
+
+    /**
+     * Releases the shared connector of this request, it is closed when no other request uses it anymore.
+     * Requests created via {@link #with(String)} must not be used afterwards.
+     */
+    public void release() {
+        if (!ownsReference || !released.compareAndSet(false, true)) return;
+        synchronized (connectors) {
+            if (--shared.references > 0) return;
+            if (connectors.get(shared.key) == shared) connectors.remove(shared.key);
+        }
+        shared.connector.close();
+    }
+
+    /**
+     * @deprecated connectors are released per request via {@link #release()}
+     */
+    @Deprecated
     public static void shutdown() {
     }
+
+    /**
+     * Detaches all shared connectors, subsequently created requests will use new ones. The detached connectors are
+     * still closed when their last request is released.
+     */
+    public static void closeConnectors() {
+        synchronized (connectors) {
+            connectors.clear();
+        }
+    }
+
+    private static class SharedConnector {
+        private final String key;
+        private final RestClientConnector connector;
+        private int references;
+
+        SharedConnector(String key, RestClientConnector connector) {
+            this.key = key;
+            this.connector = connector;
+        }
+    }
 }
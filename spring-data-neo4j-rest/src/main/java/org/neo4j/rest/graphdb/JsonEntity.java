@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2002-2013 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.rest.graphdb;
+
+import org.neo4j.rest.graphdb.util.JsonHelper;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Request body that serializes its data as json straight to the connection when the request is sent, instead of
+ * rendering it into a string first. Together with the chunked encoding of the client the payload is never held
+ * in memory as a whole.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class JsonEntity implements StreamingOutput {
+    public static final String GZIP_ENCODING = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    private final Object data;
+    private final boolean gzip;
+
+    public JsonEntity(Object data, boolean gzip) {
+        this.data = data;
+        this.gzip = gzip;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        if (!gzip) {
+            JsonHelper.writeJsonTo(data, output);
+            return;
+        }
+        GZIPOutputStream compressed = new GZIPOutputStream(output, GZIP_BUFFER_SIZE);
+        JsonHelper.writeJsonTo(data, compressed);
+        // the connection stream is closed by the client
+        compressed.finish();
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public Object getData() {
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(data);
+    }
+}
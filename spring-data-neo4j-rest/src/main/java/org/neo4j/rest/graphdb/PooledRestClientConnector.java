@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2002-2013 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.rest.graphdb;
+
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.client.apache4.ApacheHttpClient4;
+import com.sun.jersey.client.apache4.ApacheHttpClient4Handler;
+import com.sun.jersey.client.apache4.config.DefaultApacheHttpClient4Config;
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+import org.neo4j.rest.graphdb.util.Config;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes requests with Apache HttpClient 4 on a pool of keep-alive connections. Pool sizes, keep-alive duration and
+ * idle eviction are taken from {@link Config}. Requires jersey-apache-client4 and httpclient on the classpath.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class PooledRestClientConnector implements RestClientConnector {
+
+    private final PoolingClientConnectionManager connectionManager;
+    private final ApacheHttpClient4 client;
+    private final ScheduledExecutorService evictor;
+
+    public PooledRestClientConnector() {
+        connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(Config.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(Config.getMaxConnectionsPerRoute());
+
+        HttpParams params = new BasicHttpParams();
+        HttpConnectionParams.setConnectionTimeout(params, Config.getConnectTimeout());
+        HttpConnectionParams.setSoTimeout(params, Config.getReadTimeout());
+        HttpConnectionParams.setStaleCheckingEnabled(params, true);
+        DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager, params);
+        httpClient.setKeepAliveStrategy(new KeepAliveStrategy(Config.getKeepAlive()));
+
+        client = new ApacheHttpClient4(new ApacheHttpClient4Handler(httpClient, null, false), new DefaultApacheHttpClient4Config());
+        evictor = startEvictor(Config.getIdleTimeout());
+    }
+
+    private ScheduledExecutorService startEvictor(final long idleTimeout) {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "neo4j-rest-connection-evictor");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        long period = Math.max(1000, idleTimeout / 2);
+        evictor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                connectionManager.closeExpiredConnections();
+                connectionManager.closeIdleConnections(idleTimeout, TimeUnit.MILLISECONDS);
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+        return evictor;
+    }
+
+    @Override
+    public Client getClient() {
+        return client;
+    }
+
+    @Override
+    public ConnectionPoolStatistics getStatistics() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new ConnectionPoolStatistics(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax());
+    }
+
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        client.destroy();
+        connectionManager.shutdown();
+    }
+
+    /**
+     * honors the keep-alive timeout sent by the server, otherwise keeps connections for the configured duration
+     */
+    private static class KeepAliveStrategy implements ConnectionKeepAliveStrategy {
+        private final long keepAlive;
+
+        KeepAliveStrategy(long keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        @Override
+        public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+            HeaderElementIterator it = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (it.hasNext()) {
+                HeaderElement element = it.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Math.min(keepAlive, TimeUnit.SECONDS.toMillis(Long.parseLong(element.getValue())));
+                    } catch (NumberFormatException nfe) {
+                        // ignore
+                    }
+                }
+            }
+            return keepAlive;
+        }
+    }
+}
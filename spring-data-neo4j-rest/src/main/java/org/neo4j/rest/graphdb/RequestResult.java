@@ -77,6 +77,19 @@ public class RequestResult {
         //return new RequestResult(status, uriString(location), data,clientResponse);
     }
 
+    /**
+     * keeps the response stream open for incremental reading, the result has to be closed after consumption
+     */
+    public static RequestResult extractStreamFrom(ClientResponse clientResponse) {
+        final int status = clientResponse.getStatus();
+        final URI location = clientResponse.getLocation();
+        if (status == Response.Status.NO_CONTENT.getStatusCode()) {
+            clientResponse.close();
+            return new RequestResult(status, uriString(location), null, clientResponse);
+        }
+        return new RequestResult(status, uriString(location), clientResponse.getEntityInputStream(), clientResponse);
+    }
+
     public static RequestResult extractFrom(Map<String, Object> batchResult) {
         return new RequestResult(200, (String) batchResult.get("location"),JsonHelper.createJsonFrom(batchResult.get("body")));
     }
@@ -129,6 +142,14 @@ public class RequestResult {
         return string;
     }
 
+    public InputStream getStream() {
+        return stream;
+    }
+
+    public void close() {
+        closeStream();
+    }
+
     private void closeStream() {
         if (stream!=null) readFully(stream);
         stream = null;
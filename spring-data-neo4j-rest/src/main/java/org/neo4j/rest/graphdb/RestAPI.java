@@ -31,6 +31,7 @@ import org.neo4j.rest.graphdb.util.QueryResult;
 import org.neo4j.rest.graphdb.util.ResultConverter;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -48,6 +49,13 @@ public interface RestAPI extends RestAPIIndex, RestAPIInternal {
 
     RestNode getNodeById(long id);
 
+    /**
+     * loads the nodes that are not yet cached in batches
+     * @return the nodes in the order of the given ids
+     * @throws NotFoundException if any of the nodes doesn't exist
+     */
+    List<RestNode> getNodesByIds(Collection<Long> ids);
+
     RestNode createNode(Map<String, Object> props);
     RestNode createNode(Map<String, Object> props,Collection<String> labels);
 
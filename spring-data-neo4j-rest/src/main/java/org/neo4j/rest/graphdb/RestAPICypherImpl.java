@@ -22,8 +22,10 @@ package org.neo4j.rest.graphdb;
 import org.apache.lucene.search.Query;
 import org.neo4j.graphdb.*;
 import org.neo4j.graphdb.index.IndexHits;
+import org.neo4j.helpers.collection.ClosableIterable;
 import org.neo4j.helpers.collection.IterableWrapper;
 import org.neo4j.helpers.collection.IteratorUtil;
+import org.neo4j.helpers.collection.IteratorWrapper;
 import org.neo4j.helpers.collection.MapUtil;
 import org.neo4j.index.impl.lucene.AbstractIndexHits;
 import org.neo4j.rest.graphdb.converter.RestEntityExtractor;
@@ -36,6 +38,7 @@ import org.neo4j.rest.graphdb.index.RestIndexManager;
 import org.neo4j.rest.graphdb.query.*;
 import org.neo4j.rest.graphdb.traversal.RestTraversalDescription;
 import org.neo4j.rest.graphdb.traversal.RestTraverser;
+import org.neo4j.rest.graphdb.util.Config;
 import org.neo4j.rest.graphdb.util.QueryResult;
 import org.neo4j.rest.graphdb.util.QueryResultBuilder;
 import org.neo4j.rest.graphdb.util.ResultConverter;
@@ -59,6 +62,7 @@ public class RestAPICypherImpl implements RestAPI {
 
     public static final String _MATCH_NODE_QUERY = " MATCH (n) WHERE id(n) = {id} ";
     public static final String GET_NODE_QUERY = _MATCH_NODE_QUERY + _QUERY_RETURN_NODE;
+    public static final String GET_NODES_QUERY = " MATCH (n) WHERE id(n) IN {ids} " + _QUERY_RETURN_NODE;
     public static final String _MATCH_REL_QUERY = " START r=rel({id}) ";
     public static final String GET_REL_QUERY = _MATCH_REL_QUERY + _QUERY_RETURN_REL;
 
@@ -166,6 +170,34 @@ public class RestAPICypherImpl implements RestAPI {
         return getNodeById(id, Load.FromServer);
     }
 
+    @Override
+    public List<RestNode> getNodesByIds(Collection<Long> ids) {
+        Map<Long, RestNode> nodes = new HashMap<>(ids.size());
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (nodes.containsKey(id)) continue;
+            RestNode node = getNodeFromCache(id);
+            if (node != null) nodes.put(id, node);
+            else missing.add(id);
+        }
+        List<Long> toLoad = new ArrayList<>(missing);
+        int batchSize = Config.getFetchBatchSize();
+        for (int from = 0; from < toLoad.size(); from += batchSize) {
+            List<Long> batch = toLoad.subList(from, Math.min(toLoad.size(), from + batchSize));
+            for (List<Object> row : runQuery(GET_NODES_QUERY, map("ids", batch)).getRows()) {
+                RestNode node = addToCache(toNode(row));
+                nodes.put(node.getId(), node);
+            }
+        }
+        List<RestNode> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            RestNode node = nodes.get(id);
+            if (node == null) throw new NotFoundException("Node not found " + id);
+            result.add(node);
+        }
+        return result;
+    }
+
     @Override
     public RestRelationship getRelationshipById(long id) {
         return getRelationshipById(id, Load.FromServer);
@@ -234,7 +266,9 @@ public class RestAPICypherImpl implements RestAPI {
 
     @Override
     public void removeLabel(RestNode node, String label) {
-        CypherTransaction.Result result = runQuery(_MATCH_NODE_QUERY + (" REMOVE n:`" + label + "` ") + _QUERY_RETURN_NODE, map("id", node.getId()));
+        String statement = _MATCH_NODE_QUERY + (" REMOVE n:`" + label + "` ") + _QUERY_RETURN_NODE;
+        if (queueWrite(statement, map("id", node.getId()))) return;
+        CypherTransaction.Result result = runQuery(statement, map("id", node.getId()));
         if (!result.hasData()) {
             throw new RuntimeException("Error removing label " + label + " from node " + node);
         }
@@ -247,8 +281,7 @@ public class RestAPICypherImpl implements RestAPI {
     }
 
     private Iterable<RestNode> queryForNodes(String statement, Map<String, Object> params) {
-        Iterable<List<Object>> result = runQuery(statement, params).getRows();
-        return new IterableWrapper<RestNode, List<Object>>(result) {
+        return new StreamedRows<RestNode>(runStreamingQuery(statement, params, false)) {
             protected RestNode underlyingObjectToObject(List<Object> row) {
                 return addToCache(toNode(row));
             }
@@ -316,6 +349,7 @@ public class RestAPICypherImpl implements RestAPI {
     @Override
     public void addLabels(RestNode node, Collection<String> labels) {
         String statement = _MATCH_NODE_QUERY + " SET n" + toLabelString(labels) + _QUERY_RETURN_NODE;
+        if (queueWrite(statement, map("id", node.getId()))) return;
         CypherTransaction.Result result = runQuery(statement, map("id", node.getId()));
 
         if (!result.hasData()) {
@@ -402,10 +436,10 @@ public class RestAPICypherImpl implements RestAPI {
     @Override
     public void deleteEntity(RestEntity entity) {
         if (entity instanceof Node) {
-            runQuery(_MATCH_NODE_QUERY + " DELETE n", map("id", entity.getId()));
+            runWriteQuery(_MATCH_NODE_QUERY + " DELETE n", map("id", entity.getId()));
             restAPI.removeNodeFromCache(entity.getId());
         } else if (entity instanceof Relationship) {
-            runQuery(_MATCH_REL_QUERY + " DELETE r", map("id", entity.getId()));
+            runWriteQuery(_MATCH_REL_QUERY + " DELETE r", map("id", entity.getId()));
             restAPI.removeRelFromCache(entity.getId());
         }
     }
@@ -413,9 +447,9 @@ public class RestAPICypherImpl implements RestAPI {
     @Override
     public void setPropertyOnEntity(RestEntity entity, String key, Object value) {
         if (entity instanceof Node) {
-            runQuery(_MATCH_NODE_QUERY + " SET n.`" + key + "` = {value} ", map("id", entity.getId(), "value", value));
+            runWriteQuery(_MATCH_NODE_QUERY + " SET n.`" + key + "` = {value} ", map("id", entity.getId(), "value", value));
         } else if (entity instanceof Relationship) {
-            runQuery(_MATCH_REL_QUERY + " SET r.`" + key + "` = {value} ", map("id", entity.getId(), "value", value));
+            runWriteQuery(_MATCH_REL_QUERY + " SET r.`" + key + "` = {value} ", map("id", entity.getId(), "value", value));
         }
     }
 
@@ -423,18 +457,18 @@ public class RestAPICypherImpl implements RestAPI {
     @Override
     public void setPropertiesOnEntity(RestEntity entity, Map<String, Object> properties) {
         if (entity instanceof Node) {
-            runQuery(_MATCH_NODE_QUERY + " SET n = {props} ", map("id", entity.getId(), "props", properties));
+            runWriteQuery(_MATCH_NODE_QUERY + " SET n = {props} ", map("id", entity.getId(), "props", properties));
         } else if (entity instanceof Relationship) {
-            runQuery(_MATCH_REL_QUERY + " SET r = {props} ", map("id", entity.getId(), "props", properties));
+            runWriteQuery(_MATCH_REL_QUERY + " SET r = {props} ", map("id", entity.getId(), "props", properties));
         }
     }
 
     @Override
     public void removeProperty(RestEntity entity, String key) {
         if (entity instanceof Node) {
-            runQuery(_MATCH_NODE_QUERY + " REMOVE n.`" + key + "`", map("id", entity.getId()));
+            runWriteQuery(_MATCH_NODE_QUERY + " REMOVE n.`" + key + "`", map("id", entity.getId()));
         } else if (entity instanceof Relationship) {
-            runQuery(_MATCH_REL_QUERY + " REMOVE r.`" + key + "`", map("id", entity.getId()));
+            runWriteQuery(_MATCH_REL_QUERY + " REMOVE r.`" + key + "`", map("id", entity.getId()));
         }
     }
 
@@ -476,16 +510,52 @@ public class RestAPICypherImpl implements RestAPI {
         return runQuery(statement,params,false);
     }
 
+    private void runWriteQuery(String statement, Map<String, Object> params) {
+        if (queueWrite(statement, params)) return;
+        runQuery(statement, params);
+    }
+
+    /**
+     * In write-behind mode statements whose results are not needed are queued on the open transaction,
+     * they are sent with the next read, at commit or when the batch size is reached.
+     * @return true if the statement was queued
+     */
+    private boolean queueWrite(String statement, Map<String, Object> params) {
+        if (!Config.useWriteBehind() || !txManager.isActive()) return false;
+        txManager.getCypherTransaction().queue(statement, params, Config.getWriteBehindBatchSize());
+        return true;
+    }
+
+    private CypherTransaction.Result runStreamingQuery(String statement, Map<String, Object> params, boolean replace) {
+        if (!Config.streamResults()) {
+            return runQuery(statement, params, replace);
+        }
+        if (!txManager.isActive()) {
+            return newCypherTransaction().streamCommit(statement, params, replace);
+        }
+        return txManager.getCypherTransaction().stream(statement, params, replace);
+    }
+
     public CypherTransaction newCypherTransaction() {
         return new CypherTransaction(this, row);
     }
 
     public QueryResult<Map<String, Object>> query(String statement, Map<String, Object> params, ResultConverter resultConverter) {
-        CypherTransaction.Result result = runQuery(statement, params,true);
-        Iterable it = new IterableWrapper<Map<String, Object>,Map<String, Object>>(result) {
+        final CypherTransaction.Result result = runStreamingQuery(statement, params, true);
+        Iterable it = new ClosableIterable<Map<String, Object>>() {
             @Override
-            protected Map<String, Object> underlyingObjectToObject(Map<String, Object> value) {
-                return convertRestEntitiesInRow(value);
+            public Iterator<Map<String, Object>> iterator() {
+                return new IteratorWrapper<Map<String, Object>, Map<String, Object>>(result.iterator()) {
+                    @Override
+                    protected Map<String, Object> underlyingObjectToObject(Map<String, Object> value) {
+                        return convertRestEntitiesInRow(value);
+                    }
+                };
+            }
+
+            @Override
+            public void close() {
+                result.finish();
             }
         };
         return new QueryResultBuilder<>(it, resultConverter); // new RestEntityConverter(resultConverter));
@@ -732,12 +802,28 @@ public class RestAPICypherImpl implements RestAPI {
 
     public Iterable<Node> getAllNodes() {
         String statement = "MATCH (n) " + _QUERY_RETURN_NODE;
-        Iterable<List<Object>> result = runQuery(statement, null).getRows();
-        return new IterableWrapper<Node, List<Object>>(result) {
+        return new StreamedRows<Node>(runStreamingQuery(statement, null, false)) {
             @Override
             protected Node underlyingObjectToObject(List<Object> row) {
                 return addToCache(toNode(row));
             }
         };
     }
+
+    /**
+     * Converts the rows of a possibly streamed result, closing it releases the response when not all rows are read.
+     */
+    private static abstract class StreamedRows<T> extends IterableWrapper<T, List<Object>> implements ClosableIterable<T> {
+        private final CypherTransaction.Result result;
+
+        StreamedRows(CypherTransaction.Result result) {
+            super(result.getRows());
+            this.result = result;
+        }
+
+        @Override
+        public void close() {
+            result.finish();
+        }
+    }
 }
@@ -169,6 +169,15 @@ public class RestAPIImpl implements RestAPI {
     public RestNode getNodeById(long id) {
         return getNodeById(id, Load.FromServer);
     }
+
+    @Override
+    public List<RestNode> getNodesByIds(Collection<Long> ids) {
+        List<RestNode> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            result.add(getNodeById(id));
+        }
+        return result;
+    }
     @Override
     public RestRelationship getRelationshipById(long id) {
         return getRelationshipById(id, Load.FromServer);
@@ -296,7 +305,7 @@ public class RestAPIImpl implements RestAPI {
 
     @Override
     public void close() {
-        ExecutingRestRequest.shutdown();
+        if (restRequest instanceof ExecutingRestRequest) ((ExecutingRestRequest) restRequest).release();
     }
 
     // TODO
@@ -545,6 +554,10 @@ public class RestAPIImpl implements RestAPI {
         return entityRefetchTimeInMillis;
     }
 
+    public RestEntityCache getEntityCache() {
+        return entityCache;
+    }
+
     public String getBaseUri() {
         return restRequest.getUri();
     }
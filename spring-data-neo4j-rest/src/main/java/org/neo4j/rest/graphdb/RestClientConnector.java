@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2002-2013 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.rest.graphdb;
+
+import com.sun.jersey.api.client.Client;
+
+/**
+ * Provides the jersey client and the underlying http transport used by {@link ExecutingRestRequest}.
+ * A connector is shared by all requests against the same base uri, implementations are configured via
+ * {@link org.neo4j.rest.graphdb.util.Config#CONFIG_CONNECTOR} and need a public no-arg constructor.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public interface RestClientConnector {
+
+    /**
+     * @return the client of this connector, always the same instance
+     */
+    Client getClient();
+
+    /**
+     * @return the current state of the connection pool or null if the connector doesn't pool connections
+     */
+    ConnectionPoolStatistics getStatistics();
+
+    /**
+     * releases all connections and resources held by this connector
+     */
+    void close();
+}
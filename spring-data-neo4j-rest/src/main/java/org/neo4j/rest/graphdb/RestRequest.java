@@ -31,6 +31,11 @@ public interface RestRequest {
 
     RequestResult post(String path, Object data);
 
+    /**
+     * Posts the data but leaves the response stream open, it has to be consumed and closed by the caller via {@link RequestResult#close()}
+     */
+    RequestResult stream(String path, Object data);
+
     RequestResult put(String path, Object data);
 
     RestRequest with(String uri);
@@ -60,6 +60,10 @@ public class UserAgent {
         return props;
     }
 
+    public String getValue() {
+        return userAgent;
+    }
+
     public void install(Client client) {
         client.addFilter(new ClientFilter() {
             @Override
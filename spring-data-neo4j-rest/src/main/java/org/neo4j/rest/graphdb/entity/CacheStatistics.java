@@ -0,0 +1,47 @@
+package org.neo4j.rest.graphdb.entity;
+
+/**
+ * Snapshot of the counters of one of the stores of the {@link RestEntityCache}.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class CacheStatistics {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+
+    public CacheStatistics(long hits, long misses, long evictions, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getHitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheStatistics{hits=%d, misses=%d, evictions=%d, size=%d}", hits, misses, evictions, size);
+    }
+}
@@ -0,0 +1,199 @@
+package org.neo4j.rest.graphdb.entity;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded id to entity map that doesn't lock on reads. Lookups go straight to a {@link ConcurrentHashMap} and only mark
+ * the entry as referenced, eviction approximates LRU with a clock (second chance) sweep over the entries in insertion
+ * order, so recently read entries survive a round.
+ *
+ * Entries older than the time to live are treated as missing, soft values may be reclaimed by the garbage collector.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+class EntityCacheStore<T> {
+
+    private final ConcurrentHashMap<Long, Entry<T>> entries;
+    private final ConcurrentLinkedQueue<Entry<T>> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final int maxEntries;
+    private final long timeToLive;
+    private final boolean softValues;
+
+    private final StripedCounter hits = new StripedCounter();
+    private final StripedCounter misses = new StripedCounter();
+    private final StripedCounter evictions = new StripedCounter();
+
+    /**
+     * @param timeToLive in millis, 0 for no expiry
+     */
+    EntityCacheStore(int maxEntries, long timeToLive, boolean softValues) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.timeToLive = timeToLive;
+        this.softValues = softValues;
+        this.entries = new ConcurrentHashMap<>(Math.min(this.maxEntries, 1 << 16), 0.75f, 64);
+    }
+
+    T get(long id) {
+        Entry<T> entry = entries.get(id);
+        T value = live(entry);
+        if (value == null) {
+            if (entry != null) remove(entry);
+            misses.increment();
+            return null;
+        }
+        entry.touch();
+        hits.increment();
+        return value;
+    }
+
+    /**
+     * @return the live value already cached for the id, or null if the given value was added
+     */
+    T putIfAbsent(long id, T value) {
+        Entry<T> entry = new Entry<>(id, value, softValues);
+        while (true) {
+            Entry<T> existing = entries.putIfAbsent(id, entry);
+            if (existing == null) {
+                size.incrementAndGet();
+                enqueue(entry);
+                return null;
+            }
+            T current = live(existing);
+            if (current != null) {
+                existing.touch();
+                return current;
+            }
+            if (entries.replace(id, existing, entry)) {
+                existing.removed = true;
+                enqueue(entry);
+                return null;
+            }
+        }
+    }
+
+    void remove(long id) {
+        Entry<T> entry = entries.get(id);
+        if (entry != null) remove(entry);
+    }
+
+    void clear() {
+        for (Entry<T> entry : entries.values()) {
+            remove(entry);
+        }
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    CacheStatistics getStatistics() {
+        return new CacheStatistics(hits.get(), misses.get(), evictions.get(), size.get());
+    }
+
+    private void remove(Entry<T> entry) {
+        if (entries.remove(entry.id, entry)) {
+            entry.removed = true;
+            size.decrementAndGet();
+        }
+    }
+
+    private T live(Entry<T> entry) {
+        if (entry == null) return null;
+        if (timeToLive > 0 && System.currentTimeMillis() - entry.created > timeToLive) return null;
+        return entry.get();
+    }
+
+    private void enqueue(Entry<T> entry) {
+        clock.offer(entry);
+        if (queued.incrementAndGet() > 2 * maxEntries) purge();
+        if (size.get() > maxEntries) evict();
+    }
+
+    /**
+     * second chance sweep, referenced entries are requeued once with their flag cleared
+     */
+    private void evict() {
+        while (size.get() > maxEntries) {
+            Entry<T> entry = clock.poll();
+            if (entry == null) return;
+            queued.decrementAndGet();
+            if (entry.removed) continue;
+            if (entry.referenced && live(entry) != null) {
+                entry.referenced = false;
+                clock.offer(entry);
+                queued.incrementAndGet();
+                continue;
+            }
+            if (entries.remove(entry.id, entry)) {
+                entry.removed = true;
+                size.decrementAndGet();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * drops the queue slots of removed and replaced entries, which are otherwise only discarded by eviction
+     */
+    private void purge() {
+        for (Iterator<Entry<T>> it = clock.iterator(); it.hasNext(); ) {
+            if (it.next().removed) {
+                it.remove();
+                queued.decrementAndGet();
+            }
+        }
+    }
+
+    private static class Entry<T> {
+        final long id;
+        final long created = System.currentTimeMillis();
+        private final T value;
+        private final SoftReference<T> softValue;
+        volatile boolean referenced;
+        volatile boolean removed;
+
+        Entry(long id, T value, boolean soft) {
+            this.id = id;
+            this.value = soft ? null : value;
+            this.softValue = soft ? new SoftReference<>(value) : null;
+        }
+
+        T get() {
+            return softValue == null ? value : softValue.get();
+        }
+
+        void touch() {
+            // avoid the volatile write if the flag is already set, hot entries would otherwise bounce their cache line between cores
+            if (!referenced) referenced = true;
+        }
+    }
+
+    /**
+     * counter spread over padded slots picked by thread, so that concurrent readers don't contend on a single value
+     */
+    static class StripedCounter {
+        private static final int STRIPES = 16;
+        private static final int PADDING = 8;
+        private final AtomicLongArray slots = new AtomicLongArray(STRIPES * PADDING);
+
+        void increment() {
+            slots.incrementAndGet((int) (Thread.currentThread().getId() & (STRIPES - 1)) * PADDING);
+        }
+
+        long get() {
+            long sum = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                sum += slots.get(i * PADDING);
+            }
+            return sum;
+        }
+    }
+}
@@ -1,33 +1,43 @@
 package org.neo4j.rest.graphdb.entity;
 
-import org.neo4j.kernel.impl.cache.LruCache;
 import org.neo4j.rest.graphdb.RestAPI;
+import org.neo4j.rest.graphdb.util.Config;
 
 /**
+ * Caches nodes and relationships by id, size, time to live and soft values are taken from {@link Config}.
+ * Reads don't lock, so many threads can resolve hot entities concurrently.
+ *
  * @author mh
  * @since 21.09.14
  */
 public class RestEntityCache {
 
-    private LruCache<Long,RestNode> lruNodeCache = new LruCache<>("RestNode",10000);
-    private LruCache<Long,RestRelationship> lruRelCache = new LruCache<>("RestRelationship",10000);
+    private final EntityCacheStore<RestNode> nodeCache;
+    private final EntityCacheStore<RestRelationship> relCache;
 
     private final RestAPI restAPI;
 
     public RestEntityCache(RestAPI restAPI) {
+        this(restAPI, Config.getCacheMaxEntries(), Config.getCacheTimeToLive(), Config.useSoftCacheValues());
+    }
+
+    /**
+     * @param timeToLive in millis, 0 for no expiry
+     */
+    public RestEntityCache(RestAPI restAPI, int maxEntries, long timeToLive, boolean softValues) {
         this.restAPI = restAPI;
+        this.nodeCache = new EntityCacheStore<>(maxEntries, timeToLive, softValues);
+        this.relCache = new EntityCacheStore<>(maxEntries, timeToLive, softValues);
     }
 
     public RestNode addToCache(RestNode node) {
         if (node == null) return null;
         long id = node.getId();
         if (id != -1) {
-            RestNode existing = lruNodeCache.get(id);
-            if (existing !=null) {
+            RestNode existing = nodeCache.putIfAbsent(id, node);
+            if (existing != null) {
                 if (existing != node) existing.updateFrom(node, restAPI);
                 return existing;
-            } else {
-                lruNodeCache.put(id, node);
             }
         }
         return node;
@@ -36,28 +46,39 @@ public class RestEntityCache {
         if (rel == null) return null;
         long id = rel.getId();
         if (id != -1) {
-            RestRelationship existing = lruRelCache.get(id);
-            if (existing !=null) {
+            RestRelationship existing = relCache.putIfAbsent(id, rel);
+            if (existing != null) {
                 if (existing != rel) existing.updateFrom(rel, restAPI);
                 return existing;
-            } else {
-                lruRelCache.put(id, rel);
             }
         }
         return rel;
     }
 
     public RestNode getNode(long id) {
-        return lruNodeCache.get(id);
+        return nodeCache.get(id);
     }
     public RestRelationship getRelationship(long id) {
-        return lruRelCache.get(id);
+        return relCache.get(id);
     }
 
     public void removeNode(long id) {
-        lruNodeCache.remove(id);
+        nodeCache.remove(id);
     }
     public void removeRelationship(long id) {
-        lruRelCache.remove(id);
+        relCache.remove(id);
+    }
+
+    public void clear() {
+        nodeCache.clear();
+        relCache.clear();
+    }
+
+    public CacheStatistics getNodeStatistics() {
+        return nodeCache.getStatistics();
+    }
+
+    public CacheStatistics getRelationshipStatistics() {
+        return relCache.getStatistics();
     }
 }
@@ -4,6 +4,7 @@ import com.sun.jersey.api.client.ClientResponse;
 import org.neo4j.helpers.collection.IterableWrapper;
 import org.neo4j.helpers.collection.IteratorWrapper;
 import org.neo4j.rest.graphdb.*;
+import org.neo4j.rest.graphdb.util.PropertyArrayDeserializer;
 
 import javax.ws.rs.core.Response;
 import java.util.*;
@@ -79,28 +80,40 @@ public class CypherTransaction {
             final boolean replace = statement.doReplace();
             Iterable<List<Object>> rows = new IterableWrapper<List<Object>,Map>(rowsData) {
                 protected List<Object> underlyingObjectToObject(Map map) {
-                    List<Object> row = type.get(map);
-                    List graph = ResultType.graph.get(map);
-                    if (replace) replaceGraphElements(row, (List<Map>) graph);
-                    return row;
+                    return toRow(map, type, replace);
                 }
             };
             return new Result(columns, rows, statement);
         }
 
-        // todo hack !!
+        @SuppressWarnings("unchecked")
+        static List<Object> toRow(Map rowData, ResultType type, boolean replace) {
+            List<Object> row = type.get(rowData);
+            if (replace) {
+                List graph = ResultType.graph.get(rowData);
+                replaceGraphElements(row, (List<Map>) graph);
+            }
+            return row;
+        }
+
+        // todo hack !! the row format carries no ids, so the graph elements are matched to the row columns by their
+        // properties, only map columns of the same size that have not been replaced yet are compared
         private static void replaceGraphElements(List<Object> row, List<Map> graph) {
+            boolean[] replaced = new boolean[row.size()];
             for (Map pc : graph) {
-                Object props = pc.get("properties");
+                Map props = (Map) pc.get("properties");
                 int pos = -1;
-                for (int i = 0; i < row.size(); i++) {
+                for (int i = 0; i < row.size() && pos != -2; i++) {
                     Object o = row.get(i);
-                    if (props.equals(o)) {
-//                        row.set(i,pc);
+                    if (replaced[i] || !(o instanceof Map) || ((Map) o).size() != props.size()) continue;
+                    if (PropertyArrayDeserializer.sameProperties(props, o)) {
                         if (pos == -1) pos = i; else pos = -2;
                     }
                 }
-                if (pos >= 0) row.set(pos,pc);
+                if (pos >= 0) {
+                    row.set(pos, pc);
+                    replaced[pos] = true;
+                }
             }
         }
 
@@ -132,6 +145,28 @@ public class CypherTransaction {
         public boolean hasData() {
             return rows.iterator().hasNext();
         }
+
+        /**
+         * @return true if the rows are read lazily off the response and can only be iterated once
+         */
+        public boolean isStreamed() {
+            return rows instanceof StreamedResultParser.Rows;
+        }
+
+        /**
+         * Releases the response of a streamed result, rows that have not been read yet are discarded.
+         */
+        public void finish() {
+            if (isStreamed()) ((StreamedResultParser.Rows) rows).finish();
+        }
+
+        void buffer() {
+            if (isStreamed()) ((StreamedResultParser.Rows) rows).buffer();
+        }
+
+        void discard() {
+            if (isStreamed()) ((StreamedResultParser.Rows) rows).discard();
+        }
     }
 
     public static class Statement {
@@ -163,7 +198,7 @@ public class CypherTransaction {
             return type;
         }
 
-        private boolean doReplace() { return replace; }
+        boolean doReplace() { return replace; }
     }
 
     private final ResultType type;
@@ -171,6 +206,7 @@ public class CypherTransaction {
     private String commitUrl = null;
     private final RestRequest request;
     private final List<Statement> statements = new ArrayList<>(10);
+    private Result openResult;
 
     public void addAll(Statement...statements) {
         this.statements.addAll(asList(statements));
@@ -187,6 +223,26 @@ public class CypherTransaction {
         statements.add(new Statement(statement,params,type, replace));
     }
 
+    /**
+     * Queues a statement whose result is not needed. Queued statements are sent along with the next request of this
+     * transaction, at commit or as soon as <code>batchSize</code> statements are pending.
+     */
+    public void queue(String statement, Map<String, Object> params, int batchSize) {
+        add(statement, params, false);
+        if (statements.size() >= batchSize) send();
+    }
+
+    /**
+     * sends all queued statements, if there are any
+     */
+    public void flush() {
+        if (!statements.isEmpty()) send();
+    }
+
+    public int getPendingCount() {
+        return statements.size();
+    }
+
     public Result send(String statement, Map<String, Object> params) {
         return send(statement,params,false);
     }
@@ -209,6 +265,33 @@ public class CypherTransaction {
         else throw new CypherTransactionExecutionException("Error Sending",asList(new Statement(statement,params,type, replace)),errors("No.Results","No Results after single commit"));
     }
 
+    /**
+     * Like {@link #send(String, java.util.Map, boolean)} but the rows of the result are decoded lazily off the response.
+     * The result stays valid until the next request on this transaction, which reads its remaining rows into memory,
+     * a rollback drops them.
+     */
+    public Result stream(String statement, Map<String, Object> params, boolean replace) {
+        add(statement,params, replace);
+        List<Result> results = stream(transactionUrl());
+        if (results.size() > 0) return results.get(results.size() - 1);
+        throw new CypherTransactionExecutionException("Error Sending",asList(new Statement(statement,params,type, replace)),errors("No.Results","No Results after single send"));
+    }
+
+    /**
+     * Like {@link #commit(String, java.util.Map, boolean)} but the rows of the result are decoded lazily off the response,
+     * the response is released when the rows are exhausted or the result is finished.
+     */
+    public Result streamCommit(String statement, Map<String, Object> params, boolean replace) {
+        add(statement,params, replace);
+        try {
+            List<Result> results = stream(commitUrl());
+            if (results.size() > 0) return results.get(results.size() - 1);
+            throw new CypherTransactionExecutionException("Error Sending",asList(new Statement(statement,params,type, replace)),errors("No.Results","No Results after single commit"));
+        } finally {
+            commitUrl = null;
+        }
+    }
+
     public List<Result> send() {
         return send(transactionUrl());
     }
@@ -223,6 +306,7 @@ public class CypherTransaction {
     }
 
     private List<Result> send(String url) {
+        releaseOpenResult(true);
         try {
             RequestResult result = request.post(url, map("statements", statements));
             if (result.statusIs(Response.Status.OK) || result.statusIs(Response.Status.CREATED)) {
@@ -238,16 +322,56 @@ public class CypherTransaction {
         }
     }
 
+    private List<Result> stream(String url) {
+        releaseOpenResult(true);
+        try {
+            RequestResult result = request.stream(url, map("statements", statements));
+            if (result.statusIs(Response.Status.OK) || result.statusIs(Response.Status.CREATED)) {
+                if (result.statusIs(ClientResponse.Status.CREATED)) transactionUrl = result.getLocation();
+                StreamedResultParser parser = new StreamedResultParser(result, new ArrayList<>(statements), type);
+                List<Result> results = parser.readResults();
+                commitUrl = parser.getCommitUrl();
+                if (!results.isEmpty() && results.get(results.size() - 1).isStreamed()) {
+                    openResult = results.get(results.size() - 1);
+                }
+                return results;
+            } else {
+                List<Map<String, String>> errors = errors("Http." + result.getStatus(), result.getText());
+                throw new CypherTransactionExecutionException("Error executing statements: " + result.getStatus() +
+                        " " + result.getText(),statements, errors);
+            }
+        } finally {
+            statements.clear();
+        }
+    }
+
+    // the transaction endpoint can't serve a new request while a response is still being read,
+    // the rows are only worth reading when the transaction goes on
+    private void releaseOpenResult(boolean keepRows) {
+        if (openResult == null) return;
+        try {
+            if (keepRows) openResult.buffer();
+            else openResult.discard();
+        } finally {
+            openResult = null;
+        }
+    }
+
     private List<Map<String, String>> errors(String code, String message) {
         return asList(stringMap("code", code, "message", message));
     }
 
     public void rollback() {
-        if (transactionUrl != null) {
-            request.delete(transactionUrl);
+        try {
+            releaseOpenResult(false);
+        } finally {
+            statements.clear();
+            if (transactionUrl != null) {
+                request.delete(transactionUrl);
+            }
+            transactionUrl = null;
+            commitUrl = null;
         }
-        transactionUrl = null;
-        commitUrl = null;
     }
 
     private String commitUrl() {
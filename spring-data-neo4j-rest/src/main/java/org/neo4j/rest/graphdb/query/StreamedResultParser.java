@@ -0,0 +1,274 @@
+package org.neo4j.rest.graphdb.query;
+
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonToken;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.neo4j.rest.graphdb.RequestResult;
+import org.neo4j.rest.graphdb.util.PropertyArrayDeserializer;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Incrementally decodes a response of the transactional cypher endpoint. All results but the last are read eagerly,
+ * the rows of the last result are pulled off the open response stream one at a time, so memory consumption stays flat
+ * regardless of the result size. The response is closed when the rows are exhausted or the result is finished.
+ *
+ * Relies on the server writing <code>commit</code> before <code>results</code> and <code>errors</code> after them.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+class StreamedResultParser {
+
+    private static final ObjectMapper OBJECT_MAPPER = PropertyArrayDeserializer.register(new ObjectMapper());
+
+    private final RequestResult response;
+    private final List<CypherTransaction.Statement> statements;
+    private final CypherTransaction.ResultType type;
+    private final JsonParser parser;
+    private String commitUrl;
+    private boolean closed;
+
+    StreamedResultParser(RequestResult response, List<CypherTransaction.Statement> statements, CypherTransaction.ResultType type) {
+        this.response = response;
+        this.statements = statements;
+        this.type = type;
+        try {
+            this.parser = OBJECT_MAPPER.getJsonFactory().createJsonParser(response.getStream());
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException("Error reading cypher result stream", e);
+        }
+    }
+
+    public String getCommitUrl() {
+        return commitUrl;
+    }
+
+    /**
+     * @return the results of the statements, the last of which is streamed
+     */
+    @SuppressWarnings("unchecked")
+    List<CypherTransaction.Result> readResults() {
+        List<CypherTransaction.Result> results = new ArrayList<>(statements.size());
+        try {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if ("commit".equals(field)) {
+                    commitUrl = parser.getText();
+                } else if ("results".equals(field)) {
+                    expect(token, JsonToken.START_ARRAY);
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        CypherTransaction.Statement statement = statements.get(results.size());
+                        boolean last = results.size() == statements.size() - 1;
+                        CypherTransaction.Result result = readResult(statement, last);
+                        results.add(result);
+                        if (result.getRows() instanceof Rows) return results;
+                    }
+                } else if ("errors".equals(field)) {
+                    checkErrors((List<Map<String, String>>) OBJECT_MAPPER.readValue(parser, List.class));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            close();
+            return results;
+        } catch (IOException e) {
+            close();
+            throw new RuntimeException("Error reading cypher result stream", e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private CypherTransaction.Result readResult(CypherTransaction.Statement statement, boolean streamRows) throws IOException {
+        List<String> columns = null;
+        List<List<Object>> rows = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("columns".equals(field)) {
+                columns = OBJECT_MAPPER.readValue(parser, List.class);
+            } else if ("data".equals(field)) {
+                expect(token, JsonToken.START_ARRAY);
+                if (streamRows && columns != null) {
+                    return new CypherTransaction.Result(columns, new Rows(statement.doReplace()), statement);
+                }
+                List<Map> rowsData = OBJECT_MAPPER.readValue(parser, List.class);
+                for (Map rowData : rowsData) {
+                    rows.add(CypherTransaction.Result.toRow(rowData, type, statement.doReplace()));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new CypherTransaction.Result(columns, rows, statement);
+    }
+
+    /**
+     * reads everything after the data array of the streamed result, i.e. the remainder of the result, superfluous results,
+     * the transaction information and the errors
+     */
+    @SuppressWarnings("unchecked")
+    private void readTrailer() throws IOException {
+        int depth = 2; // inside the streamed result object and the results array
+        JsonToken token;
+        while (depth > 0 && (token = parser.nextToken()) != null) {
+            if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) depth--;
+            else parser.skipChildren();
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("errors".equals(field)) {
+                checkErrors((List<Map<String, String>>) OBJECT_MAPPER.readValue(parser, List.class));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void checkErrors(List<Map<String, String>> errors) {
+        if (errors != null && !errors.isEmpty()) {
+            throw new CypherTransactionExecutionException("Error executing cypher statements ", statements, errors);
+        }
+    }
+
+    private void expect(JsonToken token, JsonToken expected) throws IOException {
+        if (token != expected) {
+            throw new IOException("Unexpected token " + token + " expected " + expected + " at " + parser.getCurrentLocation());
+        }
+    }
+
+    void close() {
+        if (closed) return;
+        closed = true;
+        try {
+            if (parser != null) parser.close();
+        } catch (IOException e) {
+            // ignore
+        } finally {
+            response.close();
+        }
+    }
+
+    /**
+     * Single pass cursor over the streamed rows, repeated calls to {@link #iterator()} continue where the last one left off.
+     */
+    class Rows implements Iterable<List<Object>>, Iterator<List<Object>> {
+        private final boolean replace;
+        private final Deque<List<Object>> buffer = new ArrayDeque<>();
+        private boolean exhausted;
+
+        Rows(boolean replace) {
+            this.replace = replace;
+        }
+
+        @Override
+        public Iterator<List<Object>> iterator() {
+            return this;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!buffer.isEmpty()) return true;
+            List<Object> row = readRow();
+            if (row == null) return false;
+            buffer.add(row);
+            return true;
+        }
+
+        @Override
+        public List<Object> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return buffer.poll();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<Object> readRow() {
+            if (exhausted) return null;
+            try {
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    Map rowData = OBJECT_MAPPER.readValue(parser, Map.class);
+                    return CypherTransaction.Result.toRow(rowData, type, replace);
+                }
+                exhausted = true;
+                readTrailer();
+                close();
+                return null;
+            } catch (IOException e) {
+                exhausted = true;
+                close();
+                throw new RuntimeException("Error reading cypher result stream", e);
+            } catch (RuntimeException e) {
+                exhausted = true;
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * @return the number of rows read off the response but not returned yet
+         */
+        int bufferedRows() {
+            return buffer.size();
+        }
+
+        /**
+         * @return true as long as the rest of the response has not been read
+         */
+        boolean isResponseOpen() {
+            return !closed;
+        }
+
+        /**
+         * reads the remaining rows into memory and releases the response, so that the transaction can be used for further requests
+         */
+        void buffer() {
+            List<Object> row;
+            while ((row = readRow()) != null) {
+                buffer.add(row);
+            }
+        }
+
+        /**
+         * drops the remaining rows and closes the response without reading it, for results whose transaction is rolled back
+         */
+        void discard() {
+            buffer.clear();
+            exhausted = true;
+            close();
+        }
+
+        /**
+         * skips the remaining rows without decoding them and releases the response
+         */
+        void finish() {
+            buffer.clear();
+            if (exhausted) return;
+            try {
+                JsonToken token;
+                while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                }
+                exhausted = true;
+                if (token != null) readTrailer();
+            } catch (IOException e) {
+                exhausted = true;
+                throw new RuntimeException("Error reading cypher result stream", e);
+            } finally {
+                close();
+            }
+        }
+    }
+}
@@ -27,36 +27,27 @@ import java.util.Collection;
  * @since 02.02.11
  */
 public class ArrayConverter {
-        public Object toArray(Collection col) {
+    public Object toArray(Collection col) {
         Object entry = getNonNullEntry(col);
         if (entry==null) return null;
         Class<? extends Object> elementClass = getArrayElementClass( entry );
-        Object array = Array.newInstance(elementClass, col.size());
         if (Object.class.isAssignableFrom( elementClass)) {
-            col.toArray( (Object[])array );
-        } else {
-            int i=0;
-            for ( Object value : col ) {
-                setArrayValue(array,i,value,elementClass);
-                i+=1;
-            }
+            return col.toArray( (Object[]) Array.newInstance(elementClass, col.size()) );
         }
-        return array;
+        return toPrimitiveArray( col, elementClass );
     }
 
-    private void setArrayValue( Object array, int i, Object value, Class<? extends Object> type ) {
-        if (value==null) return;
-        if ( value instanceof Number ) {
-            Number number = (Number) value;
-            if (type.equals( int.class )) { Array.setInt( array, i, number.intValue()); return;}
-            if (type.equals( long.class )) { Array.setLong( array, i, number.longValue());  return;}
-            if (type.equals( double.class )) { Array.setDouble( array, i, number.doubleValue());  return;}
-            if (type.equals( float.class )) { Array.setFloat( array, i, number.floatValue()); return;}
-            if (type.equals( byte.class )) { Array.setByte( array, i, number.byteValue());  return;}
-            if (type.equals( short.class )) { Array.setShort( array, i, number.shortValue());  return;}
-        }
-        if (type.equals( char.class )) { Array.setChar( array, i, (Character)value );  return;}
-        if (type.equals( boolean.class )) { Array.setBoolean( array, i, (Boolean) value );  return;}
+    // typed loops instead of reflective Array.setXxx calls per element, elements of other types keep the default value
+    private Object toPrimitiveArray( Collection col, Class<? extends Object> type ) {
+        int i=0;
+        if (type.equals( int.class )) { int[] array = new int[col.size()]; for ( Object value : col ) { if (value instanceof Number) array[i]=((Number)value).intValue(); i++; } return array; }
+        if (type.equals( long.class )) { long[] array = new long[col.size()]; for ( Object value : col ) { if (value instanceof Number) array[i]=((Number)value).longValue(); i++; } return array; }
+        if (type.equals( double.class )) { double[] array = new double[col.size()]; for ( Object value : col ) { if (value instanceof Number) array[i]=((Number)value).doubleValue(); i++; } return array; }
+        if (type.equals( float.class )) { float[] array = new float[col.size()]; for ( Object value : col ) { if (value instanceof Number) array[i]=((Number)value).floatValue(); i++; } return array; }
+        if (type.equals( byte.class )) { byte[] array = new byte[col.size()]; for ( Object value : col ) { if (value instanceof Number) array[i]=((Number)value).byteValue(); i++; } return array; }
+        if (type.equals( short.class )) { short[] array = new short[col.size()]; for ( Object value : col ) { if (value instanceof Number) array[i]=((Number)value).shortValue(); i++; } return array; }
+        if (type.equals( char.class )) { char[] array = new char[col.size()]; for ( Object value : col ) { if (value instanceof Character) array[i]=(Character)value; i++; } return array; }
+        boolean[] array = new boolean[col.size()]; for ( Object value : col ) { if (value instanceof Boolean) array[i]=(Boolean)value; i++; } return array;
     }
 
     private Class<? extends Object> getArrayElementClass( Object entry ) {
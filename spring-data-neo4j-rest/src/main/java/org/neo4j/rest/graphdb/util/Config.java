@@ -26,7 +26,18 @@ public class Config {
     public static final String CONFIG_STREAM = CONFIG_PREFIX + "stream";
     public static final String CONFIG_BATCH_TRANSACTION = CONFIG_PREFIX+"batch_transaction";
     public static final String CONFIG_LOG_REQUESTS = CONFIG_PREFIX+"logging_filter";
+    public static final String CONFIG_STREAM_RESULTS = CONFIG_PREFIX+"stream_results";
+    public static final String CONFIG_WRITE_BEHIND = CONFIG_PREFIX+"write_behind";
+    public static final String CONFIG_WRITE_BEHIND_BATCH_SIZE = CONFIG_PREFIX+"write_behind_batch_size";
     public static final String WRITE_THREADS = "write_threads";
+    public static final String CONFIG_CONNECTOR = CONFIG_PREFIX + "connector";
+    public static final String CONNECTOR_DEFAULT = "default";
+    public static final String CONNECTOR_POOLED = "pooled";
+    public static final String CONFIG_CACHE_MAX_ENTRIES = CONFIG_PREFIX+"cache.max_entries";
+    public static final String CONFIG_CACHE_SOFT_VALUES = CONFIG_PREFIX+"cache.soft_values";
+    public static final String CONFIG_FETCH_BATCH_SIZE = CONFIG_PREFIX+"fetch_batch_size";
+    public static final String CONFIG_GZIP_REQUESTS = CONFIG_PREFIX+"gzip_requests";
+    public static final String CONFIG_PRIMITIVE_ARRAYS = CONFIG_PREFIX+"primitive_arrays";
 
     public static int getConnectTimeout() {
         return getTimeout("connect_timeout", 30);
@@ -36,6 +47,38 @@ public class Config {
         return getTimeout("read_timeout", 30);
     }
 
+    /**
+     * @return the class name of the {@link org.neo4j.rest.graphdb.RestClientConnector} to use, "default" and "pooled" are shortcuts for the built in connectors
+     */
+    public static String getConnector() {
+        String connector = System.getProperty(CONFIG_CONNECTOR, CONNECTOR_DEFAULT);
+        if (connector.equalsIgnoreCase(CONNECTOR_DEFAULT)) return "org.neo4j.rest.graphdb.DefaultRestClientConnector";
+        if (connector.equalsIgnoreCase(CONNECTOR_POOLED)) return "org.neo4j.rest.graphdb.PooledRestClientConnector";
+        return connector;
+    }
+
+    public static int getMaxConnections() {
+        return Integer.parseInt(System.getProperty(CONFIG_PREFIX + "max_connections", "200"));
+    }
+
+    public static int getMaxConnectionsPerRoute() {
+        return Integer.parseInt(System.getProperty(CONFIG_PREFIX + "max_connections_per_route", "200"));
+    }
+
+    /**
+     * @return how long pooled connections are kept alive if the server doesn't send a keep-alive timeout, in millis
+     */
+    public static int getKeepAlive() {
+        return getTimeout("keep_alive", 60);
+    }
+
+    /**
+     * @return after which time pooled connections that are not used are evicted, in millis
+     */
+    public static int getIdleTimeout() {
+        return getTimeout("idle_timeout", 30);
+    }
+
     public static boolean streamingIsEnabled() {
         return Boolean.parseBoolean(System.getProperty(CONFIG_STREAM,"true"));
     }
@@ -44,6 +87,66 @@ public class Config {
         return System.getProperty(CONFIG_BATCH_TRANSACTION,"false").equalsIgnoreCase("true");
     }
 
+    /**
+     * @return true if cypher results should be decoded row by row off the open http response instead of being read into memory as a whole
+     */
+    public static boolean streamResults() {
+        return System.getProperty(CONFIG_STREAM_RESULTS,"false").equalsIgnoreCase("true");
+    }
+
+    /**
+     * @return true if write statements whose results are not needed should be queued on the open transaction and sent in batches
+     */
+    public static boolean useWriteBehind() {
+        return System.getProperty(CONFIG_WRITE_BEHIND,"false").equalsIgnoreCase("true");
+    }
+
+    public static int getWriteBehindBatchSize() {
+        return Integer.parseInt(System.getProperty(CONFIG_WRITE_BEHIND_BATCH_SIZE, "100"));
+    }
+
+    /**
+     * @return the maximum number of nodes and of relationships each kept in the entity cache
+     */
+    public static int getCacheMaxEntries() {
+        return Integer.parseInt(System.getProperty(CONFIG_CACHE_MAX_ENTRIES, "10000"));
+    }
+
+    /**
+     * @return after which time cached entities are fetched from the server again, in millis, 0 means never
+     */
+    public static int getCacheTimeToLive() {
+        return getTimeout("cache.ttl", 0);
+    }
+
+    /**
+     * @return true if cached entities should be softly referenced so that they can be reclaimed under memory pressure
+     */
+    public static boolean useSoftCacheValues() {
+        return System.getProperty(CONFIG_CACHE_SOFT_VALUES,"false").equalsIgnoreCase("true");
+    }
+
+    /**
+     * @return how many entities are loaded with a single query when fetching multiple entities by id
+     */
+    public static int getFetchBatchSize() {
+        return Integer.parseInt(System.getProperty(CONFIG_FETCH_BATCH_SIZE, "1000"));
+    }
+
+    /**
+     * @return true if request bodies should be sent gzip compressed, the server has to accept <code>Content-Encoding: gzip</code>
+     */
+    public static boolean useGzipRequests() {
+        return System.getProperty(CONFIG_GZIP_REQUESTS,"false").equalsIgnoreCase("true");
+    }
+
+    /**
+     * @return true if array properties of nodes and relationships should be decoded into primitive arrays while the response is parsed
+     */
+    public static boolean decodePrimitiveArrays() {
+        return System.getProperty(CONFIG_PRIMITIVE_ARRAYS,"false").equalsIgnoreCase("true");
+    }
+
     public static boolean useLoggingFilter() {
         return System.getProperty(CONFIG_LOG_REQUESTS,"false").equalsIgnoreCase("true");
     }
@@ -26,19 +26,21 @@ package org.neo4j.rest.graphdb.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 
+import org.codehaus.jackson.JsonEncoding;
 import org.codehaus.jackson.JsonGenerator;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.neo4j.rest.graphdb.PropertiesMap;
 
 public class JsonHelper {
 
-    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    static final ObjectMapper OBJECT_MAPPER = PropertyArrayDeserializer.register(new ObjectMapper());
 
     @SuppressWarnings("unchecked")
     public static Map<String, Object> jsonToMap( String json ) {
@@ -70,8 +72,7 @@ public class JsonHelper {
     public static String createJsonFrom( Object data ) {
         try {
             StringWriter writer = new StringWriter();
-            JsonGenerator generator = OBJECT_MAPPER.getJsonFactory()
-                    .createJsonGenerator( writer ).useDefaultPrettyPrinter();
+            JsonGenerator generator = OBJECT_MAPPER.getJsonFactory().createJsonGenerator( writer );
             OBJECT_MAPPER.writeValue(generator, data);
             writer.close();
             return writer.getBuffer().toString();
@@ -80,6 +81,20 @@ public class JsonHelper {
         }
     }
 
+    /**
+     * writes the data as compact UTF-8 json directly to the stream, the stream is flushed but left open.
+     * The generator's buffers are recycled per thread by jackson, so nothing is allocated in the size of the payload.
+     */
+    public static void writeJsonTo( Object data, OutputStream stream ) throws IOException {
+        JsonGenerator generator = OBJECT_MAPPER.getJsonFactory().createJsonGenerator( stream, JsonEncoding.UTF8 );
+        generator.disable( JsonGenerator.Feature.AUTO_CLOSE_TARGET );
+        try {
+            OBJECT_MAPPER.writeValue( generator, data );
+        } finally {
+            generator.close();
+        }
+    }
+
     public static String readString(InputStream stream) {
         try {
             return new Scanner(stream).useDelimiter("\\Z").next();
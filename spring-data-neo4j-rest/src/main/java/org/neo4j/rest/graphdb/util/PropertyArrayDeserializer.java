@@ -0,0 +1,290 @@
+/**
+ * Copyright (c) 2002-2013 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.rest.graphdb.util;
+
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonStreamContext;
+import org.codehaus.jackson.JsonToken;
+import org.codehaus.jackson.Version;
+import org.codehaus.jackson.map.DeserializationContext;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.deser.std.UntypedObjectDeserializer;
+import org.codehaus.jackson.map.module.SimpleModule;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes untyped json like jackson does, except for the property maps of entity representations (the object in the
+ * <code>data</code> field following the <code>self</code> uri of a REST API representation and in the
+ * <code>properties</code> field of the nodes and relationships in <code>results[].data[].graph</code> of the
+ * transactional endpoint): homogeneous arrays of numbers, booleans and strings in there are read directly into
+ * <code>int[]</code>, <code>long[]</code>, <code>double[]</code>, <code>boolean[]</code> and <code>String[]</code>
+ * while parsing, instead of into lists of boxed values that are copied into arrays afterwards.
+ * <p/>
+ * Integral arrays become <code>int[]</code> if all values fit, <code>long[]</code> otherwise, arrays mixing integral
+ * and floating point values become <code>double[]</code>. Empty arrays and arrays containing nulls, nested values or
+ * mixed types stay lists.
+ * <p/>
+ * Other maps, e.g. user maps returned by a cypher statement like <code>RETURN {data:{xs:[1,2]}}</code> and the property
+ * maps in the rows of the transactional endpoint, are not decoded, use {@link #sameProperties} to match the latter with
+ * graph elements.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class PropertyArrayDeserializer extends UntypedObjectDeserializer {
+    public static final String PROPERTIES_FIELD = "data";
+    public static final String GRAPH_PROPERTIES_FIELD = "properties";
+    private static final String SELF_FIELD = "self";
+    private static final String GRAPH_FIELD = "graph";
+    private static final String RESULT_DATA_FIELD = "data";
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * registers the deserializer for untyped values of the mapper, if enabled by {@link Config#decodePrimitiveArrays()}
+     */
+    public static ObjectMapper register(ObjectMapper mapper) {
+        if (!Config.decodePrimitiveArrays()) return mapper;
+        SimpleModule module = new SimpleModule("PropertyArrays", new Version(1, 0, 0, null));
+        module.addDeserializer(Object.class, new PropertyArrayDeserializer());
+        mapper.registerModule(module);
+        return mapper;
+    }
+
+    @Override
+    protected Object mapObject(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        JsonToken t = jp.getCurrentToken();
+        if (t == JsonToken.START_OBJECT) t = jp.nextToken();
+        Map<String, Object> result = new LinkedHashMap<>();
+        boolean representation = false;
+        for (; t == JsonToken.FIELD_NAME; t = jp.nextToken()) {
+            String field = jp.getCurrentName();
+            JsonToken value = jp.nextToken();
+            if (value == JsonToken.START_OBJECT && isPropertyMap(jp, field, representation)) {
+                result.put(field, mapProperties(jp, ctxt));
+            } else {
+                result.put(field, deserialize(jp, ctxt));
+            }
+            if (value == JsonToken.VALUE_STRING && SELF_FIELD.equals(field)) representation = true;
+        }
+        return result;
+    }
+
+    // the parser is positioned on the start of the field's object, so its context is the one of the field value
+    private static boolean isPropertyMap(JsonParser jp, String field, boolean representation) {
+        if (PROPERTIES_FIELD.equals(field)) return representation;
+        return GRAPH_PROPERTIES_FIELD.equals(field) && isGraphElement(jp.getParsingContext().getParent());
+    }
+
+    /**
+     * @return true for the context of a node or relationship in <code>results[].data[].graph.nodes</code> or
+     * <code>results[].data[].graph.relationships</code>
+     */
+    private static boolean isGraphElement(JsonStreamContext element) {
+        JsonStreamContext elements = element.getParent();
+        if (elements == null || !elements.inArray()) return false;
+        JsonStreamContext graph = elements.getParent();
+        if (graph == null || !("nodes".equals(graph.getCurrentName()) || "relationships".equals(graph.getCurrentName()))) return false;
+        JsonStreamContext row = graph.getParent();
+        if (row == null || !GRAPH_FIELD.equals(row.getCurrentName())) return false;
+        JsonStreamContext rows = row.getParent();
+        return rows != null && rows.inArray() && rows.getParent() != null && RESULT_DATA_FIELD.equals(rows.getParent().getCurrentName());
+    }
+
+    /**
+     * compares property maps regardless of whether their arrays were decoded into primitive arrays or not
+     */
+    public static boolean sameProperties(Map<?, ?> properties, Object other) {
+        if (!(other instanceof Map)) return false;
+        Map<?, ?> otherProperties = (Map<?, ?>) other;
+        if (properties.size() != otherProperties.size()) return false;
+        for (Map.Entry<?, ?> entry : properties.entrySet()) {
+            if (!otherProperties.containsKey(entry.getKey())) return false;
+            if (!samePropertyValue(entry.getValue(), otherProperties.get(entry.getKey()))) return false;
+        }
+        return true;
+    }
+
+    private static boolean samePropertyValue(Object value, Object other) {
+        if (value == null || other == null) return value == other;
+        if (other.getClass().isArray()) {
+            Object swap = value;
+            value = other;
+            other = swap;
+        }
+        if (!value.getClass().isArray()) return value.equals(other);
+        int length = Array.getLength(value);
+        if (length != length(other)) return false;
+        for (int i = 0; i < length; i++) {
+            if (!sameElement(value, i, element(other, i))) return false;
+        }
+        return true;
+    }
+
+    private static int length(Object value) {
+        if (value instanceof List) return ((List<?>) value).size();
+        return value.getClass().isArray() ? Array.getLength(value) : -1;
+    }
+
+    private static Object element(Object values, int i) {
+        return values instanceof List ? ((List<?>) values).get(i) : Array.get(values, i);
+    }
+
+    // compares the elements of decoded arrays without boxing them, decoded arrays widen their numbers,
+    // e.g. 2 in [1.5,2] becomes 2.0
+    private static boolean sameElement(Object values, int i, Object other) {
+        if (values instanceof int[]) return sameNumber(((int[]) values)[i], other);
+        if (values instanceof long[]) return sameNumber(((long[]) values)[i], other);
+        if (values instanceof double[]) return other instanceof Number && ((double[]) values)[i] == ((Number) other).doubleValue();
+        if (values instanceof boolean[]) return other instanceof Boolean && ((boolean[]) values)[i] == (Boolean) other;
+        Object value = Array.get(values, i);
+        if (value instanceof Number && other instanceof Number) {
+            if (isIntegral(value) && isIntegral(other)) return ((Number) value).longValue() == ((Number) other).longValue();
+            return ((Number) value).doubleValue() == ((Number) other).doubleValue();
+        }
+        return value == null ? other == null : value.equals(other);
+    }
+
+    private static boolean sameNumber(long value, Object other) {
+        if (!(other instanceof Number)) return false;
+        return isIntegral(other) ? value == ((Number) other).longValue() : value == ((Number) other).doubleValue();
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+
+    private Map<String, Object> mapProperties(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (JsonToken t = jp.nextToken(); t == JsonToken.FIELD_NAME; t = jp.nextToken()) {
+            String field = jp.getCurrentName();
+            if (jp.nextToken() == JsonToken.START_ARRAY) {
+                result.put(field, mapPropertyArray(jp, ctxt));
+            } else {
+                result.put(field, deserialize(jp, ctxt));
+            }
+        }
+        return result;
+    }
+
+    private Object mapPropertyArray(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        JsonToken t = jp.nextToken();
+        switch (t) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return mapNumberArray(jp, ctxt);
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return mapBooleanArray(jp, ctxt);
+            case VALUE_STRING:
+                return mapStringArray(jp, ctxt);
+            default:
+                return mapRemaining(jp, ctxt, new ArrayList<Object>());
+        }
+    }
+
+    private Object mapNumberArray(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        long[] longs = new long[INITIAL_CAPACITY];
+        double[] doubles = null;
+        boolean fitsInt = true;
+        int size = 0;
+        for (JsonToken t = jp.getCurrentToken(); t != JsonToken.END_ARRAY; t = jp.nextToken()) {
+            boolean integral = t == JsonToken.VALUE_NUMBER_INT && jp.getNumberType() != JsonParser.NumberType.BIG_INTEGER;
+            if (integral && doubles == null) {
+                if (size == longs.length) longs = Arrays.copyOf(longs, size * 2);
+                long value = jp.getLongValue();
+                fitsInt &= value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+                longs[size++] = value;
+            } else if (integral || t == JsonToken.VALUE_NUMBER_FLOAT) {
+                if (doubles == null) doubles = toDoubles(longs, size);
+                if (size == doubles.length) doubles = Arrays.copyOf(doubles, size * 2);
+                doubles[size++] = jp.getDoubleValue();
+            } else {
+                List<Object> result = new ArrayList<>(size + INITIAL_CAPACITY);
+                for (int i = 0; i < size; i++) {
+                    if (doubles != null) result.add(doubles[i]);
+                    else if (fitsInt) result.add((int) longs[i]);
+                    else result.add(longs[i]);
+                }
+                return mapRemaining(jp, ctxt, result);
+            }
+        }
+        if (doubles != null) return Arrays.copyOf(doubles, size);
+        if (!fitsInt) return Arrays.copyOf(longs, size);
+        int[] ints = new int[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = (int) longs[i];
+        }
+        return ints;
+    }
+
+    private static double[] toDoubles(long[] longs, int size) {
+        double[] doubles = new double[longs.length];
+        for (int i = 0; i < size; i++) {
+            doubles[i] = longs[i];
+        }
+        return doubles;
+    }
+
+    private Object mapBooleanArray(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        boolean[] booleans = new boolean[INITIAL_CAPACITY];
+        int size = 0;
+        for (JsonToken t = jp.getCurrentToken(); t != JsonToken.END_ARRAY; t = jp.nextToken()) {
+            if (t != JsonToken.VALUE_TRUE && t != JsonToken.VALUE_FALSE) {
+                List<Object> result = new ArrayList<>(size + INITIAL_CAPACITY);
+                for (int i = 0; i < size; i++) {
+                    result.add(booleans[i]);
+                }
+                return mapRemaining(jp, ctxt, result);
+            }
+            if (size == booleans.length) booleans = Arrays.copyOf(booleans, size * 2);
+            booleans[size++] = t == JsonToken.VALUE_TRUE;
+        }
+        return Arrays.copyOf(booleans, size);
+    }
+
+    private Object mapStringArray(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        List<String> strings = new ArrayList<>(INITIAL_CAPACITY);
+        for (JsonToken t = jp.getCurrentToken(); t != JsonToken.END_ARRAY; t = jp.nextToken()) {
+            if (t != JsonToken.VALUE_STRING) {
+                return mapRemaining(jp, ctxt, new ArrayList<Object>(strings));
+            }
+            strings.add(jp.getText());
+        }
+        return strings.toArray(new String[strings.size()]);
+    }
+
+    /**
+     * adds the current and all following values of the array to the list
+     */
+    private List<Object> mapRemaining(JsonParser jp, DeserializationContext ctxt, List<Object> result) throws IOException {
+        for (JsonToken t = jp.getCurrentToken(); t != JsonToken.END_ARRAY; t = jp.nextToken()) {
+            result.add(deserialize(jp, ctxt));
+        }
+        return result;
+    }
+}
@@ -21,19 +21,25 @@ package org.neo4j.rest.graphdb.util;
 
 import org.neo4j.graphdb.ResourceIterable;
 import org.neo4j.graphdb.ResourceIterator;
+import org.neo4j.helpers.collection.ClosableIterable;
 import org.neo4j.helpers.collection.IterableWrapper;
 
 import java.util.Iterator;
 
 public abstract class ResourceIterableWrapper<T,U> extends IterableWrapper<T,U> implements ResourceIterable<T> {
+    private final Iterable<U> iterableToWrap;
+
     public ResourceIterableWrapper(Iterable<U> iterableToWrap) {
         super(iterableToWrap);
+        this.iterableToWrap = iterableToWrap;
     }
 
     public ResourceIterator<T> iterator() {
         final Iterator<T> it = super.iterator();
         return new ResourceIterator<T>() {
-            public void close() { }
+            public void close() {
+                if (iterableToWrap instanceof ClosableIterable) ((ClosableIterable) iterableToWrap).close();
+            }
 
             public boolean hasNext() { return it.hasNext(); }
 
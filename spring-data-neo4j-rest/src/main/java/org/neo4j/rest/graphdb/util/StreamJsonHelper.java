@@ -38,7 +38,7 @@ import java.util.Map;
 
 public class StreamJsonHelper {
 
-    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    static final ObjectMapper OBJECT_MAPPER = PropertyArrayDeserializer.register(new ObjectMapper());
 
     @SuppressWarnings("unchecked")
     public static Map<String, Object> jsonToMap( InputStream stream ) {
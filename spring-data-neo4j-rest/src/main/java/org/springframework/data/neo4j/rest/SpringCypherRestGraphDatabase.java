@@ -33,7 +33,9 @@ import org.springframework.data.neo4j.support.query.CypherQueryEngine;
 import org.springframework.data.neo4j.support.schema.SchemaIndexProvider;
 
 import javax.transaction.TransactionManager;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 public class SpringCypherRestGraphDatabase extends CypherRestGraphDatabase implements GraphDatabase {
@@ -61,6 +63,11 @@ public class SpringCypherRestGraphDatabase extends CypherRestGraphDatabase imple
         return restAPI.createNode(props,labels);
     }
 
+    @Override
+    public List<Node> getNodesByIds(Collection<Long> ids) {
+        return new ArrayList<Node>(getRestAPI().getNodesByIds(ids));
+    }
+
     @Override
     public Node getOrCreateNode(String indexName, String key, Object value, final Map<String, Object> properties, Collection<String> labels) {
         if (indexName ==null || key == null || value==null) throw new IllegalArgumentException("Unique index "+ indexName +" key "+key+" value must not be null");
@@ -35,7 +35,9 @@ import org.springframework.data.neo4j.support.query.CypherQueryEngine;
 import org.springframework.data.neo4j.support.schema.SchemaIndexProvider;
 
 import javax.transaction.TransactionManager;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import static org.neo4j.helpers.collection.MapUtil.map;
@@ -74,6 +76,11 @@ public class SpringRestGraphDatabase extends org.neo4j.rest.graphdb.RestGraphDat
         return restAPI.createNode(props,labels);
     }
 
+    @Override
+    public List<Node> getNodesByIds(Collection<Long> ids) {
+        return new ArrayList<Node>(getRestAPI().getNodesByIds(ids));
+    }
+
     private String[] toLabels(Collection<String> labels) {
         if (labels==null || labels.isEmpty()) return NO_LABELS;
         return labels.toArray(new String[labels.size()]);
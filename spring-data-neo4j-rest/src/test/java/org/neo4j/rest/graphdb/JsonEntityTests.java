@@ -0,0 +1,35 @@
+package org.neo4j.rest.graphdb;
+
+import org.junit.Test;
+import org.neo4j.rest.graphdb.util.JsonHelper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+public class JsonEntityTests {
+
+    private final Map<String, Object> data = map("statement", "UNWIND {rows} AS row CREATE (n {name:row})", "rows", Arrays.asList("a", "b"));
+
+    @Test
+    public void testWritesCompactJson() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new JsonEntity(data, false).write(output);
+        String json = output.toString("UTF-8");
+        assertFalse(json.contains("\n"));
+        assertEquals(data, JsonHelper.jsonToMap(json));
+    }
+
+    @Test
+    public void testWritesGzipCompressedJson() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new JsonEntity(data, true).write(output);
+        String json = JsonHelper.readString(new GZIPInputStream(new ByteArrayInputStream(output.toByteArray())));
+        assertEquals(data, JsonHelper.jsonToMap(json));
+    }
+}
@@ -0,0 +1,105 @@
+package org.neo4j.rest.graphdb;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.rest.graphdb.query.CypherTransaction;
+import org.neo4j.rest.graphdb.util.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+public class PooledRestClientConnectorTests extends RestTestBase {
+
+    @Before
+    public void usePooledConnector() {
+        ExecutingRestRequest.closeConnectors();
+        System.setProperty(Config.CONFIG_CONNECTOR, Config.CONNECTOR_POOLED);
+        System.setProperty(Config.CONFIG_PREFIX + "max_connections", "10");
+        System.setProperty(Config.CONFIG_PREFIX + "max_connections_per_route", "5");
+    }
+
+    @After
+    public void resetConnector() {
+        System.clearProperty(Config.CONFIG_CONNECTOR);
+        System.clearProperty(Config.CONFIG_PREFIX + "max_connections");
+        System.clearProperty(Config.CONFIG_PREFIX + "max_connections_per_route");
+        ExecutingRestRequest.closeConnectors();
+    }
+
+    @Test
+    public void testRequestsForSameUriShareConnector() throws Exception {
+        ExecutingRestRequest request1 = new ExecutingRestRequest(SERVER_ROOT_URI);
+        ExecutingRestRequest request2 = new ExecutingRestRequest(SERVER_ROOT_URI);
+        assertEquals(200, request1.get("").getStatus());
+        assertEquals(200, request2.get("").getStatus());
+        ConnectionPoolStatistics statistics = request1.getPoolStatistics();
+        assertNotNull(statistics);
+        assertEquals(10, statistics.getMax());
+        assertEquals(0, statistics.getLeased());
+        assertEquals(1, statistics.getAvailable());
+        request1.release();
+        request2.release();
+    }
+
+    @Test
+    public void testRequestsWithDifferentSettingsUseSeparateConnectors() throws Exception {
+        ExecutingRestRequest request1 = new ExecutingRestRequest(SERVER_ROOT_URI);
+        System.setProperty(Config.CONFIG_PREFIX + "max_connections", "20");
+        ExecutingRestRequest request2 = new ExecutingRestRequest(SERVER_ROOT_URI);
+        assertEquals(10, request1.getPoolStatistics().getMax());
+        assertEquals(20, request2.getPoolStatistics().getMax());
+        request1.release();
+        request2.release();
+    }
+
+    @Test
+    public void testConnectorIsClosedWhenLastRequestIsReleased() throws Exception {
+        ExecutingRestRequest request1 = new ExecutingRestRequest(SERVER_ROOT_URI);
+        ExecutingRestRequest request2 = new ExecutingRestRequest(SERVER_ROOT_URI);
+        assertEquals(200, request1.get("").getStatus());
+        request1.release();
+        request1.release();
+        assertEquals(200, request2.get("").getStatus());
+        assertEquals(1, request2.getPoolStatistics().getAvailable());
+        request2.release();
+
+        ExecutingRestRequest request3 = new ExecutingRestRequest(SERVER_ROOT_URI);
+        assertEquals(0, request3.getPoolStatistics().getAvailable());
+        request3.release();
+    }
+
+    @Test
+    public void testDetachedConnectorStaysUsable() throws Exception {
+        ExecutingRestRequest request = new ExecutingRestRequest(SERVER_ROOT_URI);
+        ExecutingRestRequest.closeConnectors();
+        assertEquals(200, request.get("").getStatus());
+        request.release();
+    }
+
+    @Test
+    public void testConcurrentTransactionsReuseConnections() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(20);
+        List<Future<Number>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final int value = i;
+            results.add(pool.submit(new Callable<Number>() {
+                public Number call() throws Exception {
+                    CypherTransaction tx = new CypherTransaction(SERVER_ROOT_URI, CypherTransaction.ResultType.row);
+                    return (Number) tx.commit("RETURN {value} as value", map("value", value)).getRows().iterator().next().get(0);
+                }
+            }));
+        }
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).get().intValue());
+        }
+        pool.shutdown();
+        ConnectionPoolStatistics statistics = new ExecutingRestRequest(SERVER_ROOT_URI).getPoolStatistics();
+        assertEquals(0, statistics.getLeased());
+        assertTrue(statistics.getAvailable() <= 5);
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2002-2013 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.rest.graphdb;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.NotFoundException;
+import org.neo4j.helpers.collection.ClosableIterable;
+import org.neo4j.rest.graphdb.entity.RestNode;
+import org.neo4j.rest.graphdb.util.Config;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+public class RestAPITests extends RestTestBase {
+
+    private RestAPI restAPI;
+
+    @Before
+    public void init() {
+        this.restAPI = ((RestAPIProvider) getRestGraphDb()).getRestAPI();
+    }
+
+    @Test
+    public void testGetNodesByIds() throws Exception {
+        RestNode first = restAPI.createNode(map("name", "first"));
+        RestNode second = restAPI.createNode(map("name", "second"));
+        RestNode third = restAPI.createNode(map("name", "third"));
+        restAPI.removeNodeFromCache(second.getId());
+        restAPI.removeNodeFromCache(third.getId());
+        List<RestNode> nodes = restAPI.getNodesByIds(Arrays.asList(third.getId(), first.getId(), second.getId(), third.getId()));
+        assertEquals(4, nodes.size());
+        assertEquals("third", nodes.get(0).getProperty("name"));
+        assertSame(first, nodes.get(1));
+        assertEquals("second", nodes.get(2).getProperty("name"));
+        assertSame(nodes.get(0), nodes.get(3));
+        assertSame(nodes.get(2), restAPI.getNodeFromCache(second.getId()));
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void testGetNodesByIdsFailsForMissingNode() throws Exception {
+        RestNode node = restAPI.createNode(map("name", "node"));
+        restAPI.getNodesByIds(Arrays.asList(node.getId(), Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testClosingStreamedNodesReleasesTheResponse() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            restAPI.createNode(map("name", "node" + i), singleton("Streamed"));
+        }
+        System.setProperty(Config.CONFIG_STREAM_RESULTS, "true");
+        try {
+            Iterable<RestNode> nodes = restAPI.getNodesByLabel("Streamed");
+            assertTrue(nodes instanceof ClosableIterable);
+            Iterator<RestNode> it = nodes.iterator();
+            assertTrue(it.hasNext());
+            it.next();
+            ((ClosableIterable<RestNode>) nodes).close();
+            assertEquals(false, it.hasNext());
+            RestNode node = restAPI.createNode(map("name", "after"));
+            assertEquals("after", node.getProperty("name"));
+        } finally {
+            System.clearProperty(Config.CONFIG_STREAM_RESULTS);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.neo4j.rest.graphdb.entity;
+
+import org.neo4j.kernel.impl.cache.LruCache;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the read mostly throughput of the lock free {@link EntityCacheStore} with the synchronized {@link LruCache}
+ * that backed the entity cache before, at 1 to 64 threads. Not a unit test, run the main method.
+ *
+ * 95% of the operations are lookups, 80% of them hit a hot set of 1% of the ids, misses are put into the cache.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class EntityCacheBenchmark {
+
+    private static final int MAX_ENTRIES = 10000;
+    private static final int IDS = 50000;
+    private static final int HOT_IDS = IDS / 100;
+    private static final long WARMUP_MILLIS = 1000;
+    private static final long RUN_MILLIS = 3000;
+
+    interface Cache {
+        Object get(long id);
+        void put(long id, Object value);
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%-8s %20s %20s%n", "threads", "LruCache ops/s", "EntityCacheStore ops/s");
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            long lru = run(threads, lruCache());
+            long store = run(threads, entityCacheStore());
+            System.out.printf("%-8d %20d %20d%n", threads, lru, store);
+        }
+    }
+
+    private static Cache lruCache() {
+        final LruCache<Long, Object> cache = new LruCache<>("benchmark", MAX_ENTRIES);
+        return new Cache() {
+            public Object get(long id) {
+                return cache.get(id);
+            }
+
+            public void put(long id, Object value) {
+                cache.put(id, value);
+            }
+        };
+    }
+
+    private static Cache entityCacheStore() {
+        final EntityCacheStore<Object> cache = new EntityCacheStore<>(MAX_ENTRIES, 0, false);
+        return new Cache() {
+            public Object get(long id) {
+                return cache.get(id);
+            }
+
+            public void put(long id, Object value) {
+                cache.putIfAbsent(id, value);
+            }
+        };
+    }
+
+    private static long run(int threads, final Cache cache) throws InterruptedException {
+        for (long id = 0; id < MAX_ENTRIES; id++) {
+            cache.put(id, id);
+        }
+        final AtomicLong operations = new AtomicLong();
+        final long start = System.currentTimeMillis();
+        final long measureFrom = start + WARMUP_MILLIS;
+        final long end = measureFrom + RUN_MILLIS;
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            final Random random = new Random(t);
+            Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    long count = 0;
+                    long now;
+                    while ((now = System.currentTimeMillis()) < end) {
+                        for (int i = 0; i < 1000; i++) {
+                            long id = random.nextInt(10) < 8 ? random.nextInt(HOT_IDS) : random.nextInt(IDS);
+                            if (random.nextInt(20) == 0 || cache.get(id) == null) cache.put(id, id);
+                        }
+                        if (now >= measureFrom) count += 1000;
+                    }
+                    operations.addAndGet(count);
+                    done.countDown();
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+        return operations.get() * TimeUnit.SECONDS.toMillis(1) / RUN_MILLIS;
+    }
+}
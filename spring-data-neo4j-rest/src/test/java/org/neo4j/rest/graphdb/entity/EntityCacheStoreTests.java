@@ -0,0 +1,115 @@
+package org.neo4j.rest.graphdb.entity;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author mh
+ * @since 12.03.15
+ */
+public class EntityCacheStoreTests {
+
+    @Test
+    public void testPutAndGet() throws Exception {
+        EntityCacheStore<String> store = new EntityCacheStore<>(10, 0, false);
+        assertNull(store.putIfAbsent(1, "one"));
+        assertEquals("one", store.putIfAbsent(1, "uno"));
+        assertEquals("one", store.get(1));
+        assertNull(store.get(2));
+        CacheStatistics statistics = store.getStatistics();
+        assertEquals(1, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(1, statistics.getSize());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        EntityCacheStore<String> store = new EntityCacheStore<>(10, 0, false);
+        store.putIfAbsent(1, "one");
+        store.remove(1);
+        assertNull(store.get(1));
+        assertEquals(0, store.size());
+        assertNull(store.putIfAbsent(1, "uno"));
+        assertEquals("uno", store.get(1));
+    }
+
+    @Test
+    public void testEvictsUnreferencedEntriesFirst() throws Exception {
+        EntityCacheStore<String> store = new EntityCacheStore<>(3, 0, false);
+        store.putIfAbsent(1, "one");
+        store.putIfAbsent(2, "two");
+        store.putIfAbsent(3, "three");
+        store.get(1);
+        store.putIfAbsent(4, "four");
+        assertEquals(3, store.size());
+        assertEquals("one", store.get(1));
+        assertNull(store.get(2));
+        assertEquals(1, store.getStatistics().getEvictions());
+    }
+
+    @Test
+    public void testStaysBoundedUnderChurn() throws Exception {
+        EntityCacheStore<String> store = new EntityCacheStore<>(100, 0, false);
+        for (int i = 0; i < 10000; i++) {
+            store.putIfAbsent(i, "value" + i);
+            if (i % 3 == 0) store.get(i - 1);
+            if (i % 7 == 0) store.remove(i - 2);
+        }
+        assertTrue(store.size() <= 100);
+        assertEquals("value9999", store.get(9999));
+    }
+
+    @Test
+    public void testExpiresEntries() throws Exception {
+        EntityCacheStore<String> store = new EntityCacheStore<>(10, 50, false);
+        store.putIfAbsent(1, "one");
+        assertEquals("one", store.get(1));
+        Thread.sleep(100);
+        assertNull(store.get(1));
+        assertEquals(0, store.size());
+        assertNull(store.putIfAbsent(1, "uno"));
+        assertEquals("uno", store.get(1));
+    }
+
+    @Test
+    public void testSoftValues() throws Exception {
+        EntityCacheStore<String> store = new EntityCacheStore<>(10, 0, true);
+        String value = new String("one");
+        store.putIfAbsent(1, value);
+        assertSame(value, store.get(1));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final EntityCacheStore<String> store = new EntityCacheStore<>(500, 0, false);
+        final int threads = 8;
+        final CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            final int seed = t;
+            pool.submit(new Runnable() {
+                public void run() {
+                    try {
+                        for (int i = 0; i < 20000; i++) {
+                            long id = (i * 31 + seed) % 1000;
+                            if (store.get(id) == null) store.putIfAbsent(id, "value" + id);
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertTrue(store.size() <= 500);
+        CacheStatistics statistics = store.getStatistics();
+        assertEquals(threads * 20000, statistics.getHits() + statistics.getMisses());
+    }
+}
@@ -12,9 +12,11 @@ import java.util.*;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.neo4j.helpers.collection.MapUtil.map;
 
-public class CypherTransactionTest extends RestTestBase {
+public class CypherTransactionTests extends RestTestBase {
 
     @Test
     public void testSingleSend() throws Exception {
@@ -61,6 +63,21 @@ public class CypherTransactionTest extends RestTestBase {
 
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReplacesOnlyGraphElementsInRows() throws Exception {
+        CypherTransaction transaction = new CypherTransaction(SERVER_ROOT_URI, CypherTransaction.ResultType.row);
+        CypherTransaction.Result result = transaction.send("CREATE (n:Person {name:'Row', scores:[1,2]}) RETURN n, {data:{scores:[1,2]}} AS m, 42 AS answer", null, true);
+        List<Object> row = result.getRows().iterator().next();
+        transaction.rollback();
+
+        Map nodeMap = (Map) row.get(0);
+        assertEquals(true, nodeMap.containsKey("id"));
+        assertEquals("Row", ((Map) nodeMap.get("properties")).get("name"));
+        assertEquals(map("data", map("scores", asList(1, 2))), row.get(1));
+        assertEquals(42, row.get(2));
+    }
+
     @Test
     public void testCommit() throws Exception {
         CypherTransaction transaction = new CypherTransaction(SERVER_ROOT_URI, CypherTransaction.ResultType.row);
@@ -83,6 +100,77 @@ public class CypherTransactionTest extends RestTestBase {
         assertEquals("John",node.getProperty("name"));
     }
 
+    @Test
+    public void testStreamLargeResult() throws Exception {
+        CypherTransaction transaction = new CypherTransaction(SERVER_ROOT_URI, CypherTransaction.ResultType.row);
+        int count = 500000;
+        CypherTransaction.Result result = transaction.streamCommit("UNWIND range(1,{count}) AS i RETURN i, 'value'+i as value", map("count", count), false);
+        assertEquals(asList("i", "value"), result.getColumns());
+        assertEquals(true, result.isStreamed());
+        StreamedResultParser.Rows streamedRows = (StreamedResultParser.Rows) result.getRows();
+        int rows = 0;
+        for (Map<String, Object> row : result) {
+            rows++;
+            assertEquals(rows, ((Number) row.get("i")).intValue());
+            assertEquals("value" + rows, row.get("value"));
+            if (rows < count) {
+                // each row is decoded when it is requested, the remainder of the response is not read yet
+                assertEquals("buffered rows at row " + rows, 0, streamedRows.bufferedRows());
+                assertTrue("response open at row " + rows, streamedRows.isResponseOpen());
+            }
+        }
+        assertEquals(count, rows);
+        assertEquals(false, result.getRows().iterator().hasNext());
+        assertFalse(streamedRows.isResponseOpen());
+    }
+
+    @Test
+    public void testStreamedResultIsBufferedOnNextRequest() throws Exception {
+        CypherTransaction transaction = new CypherTransaction(SERVER_ROOT_URI, CypherTransaction.ResultType.row);
+        CypherTransaction.Result streamed = transaction.stream("UNWIND range(1,100) AS i RETURN i", null, false);
+        Iterator<List<Object>> rows = streamed.getRows().iterator();
+        assertEquals(Arrays.<Object>asList(1), rows.next());
+        CypherTransaction.Result result = transaction.send("RETURN 42", null);
+        assertEquals(Arrays.<Object>asList(42), result.getRows().iterator().next());
+        int count = 1;
+        while (rows.hasNext()) {
+            assertEquals(Arrays.<Object>asList(++count), rows.next());
+        }
+        assertEquals(100, count);
+        transaction.commit();
+    }
+
+    @Test
+    public void testFinishStreamedResult() throws Exception {
+        CypherTransaction transaction = new CypherTransaction(SERVER_ROOT_URI, CypherTransaction.ResultType.row);
+        CypherTransaction.Result result = transaction.stream("UNWIND range(1,10000) AS i RETURN i", null, false);
+        assertEquals(true, result.hasData());
+        result.finish();
+        assertEquals(false, result.hasData());
+        transaction.commit();
+    }
+
+    @Test
+    public void testRollbackDiscardsStreamedResult() throws Exception {
+        CypherTransaction transaction = new CypherTransaction(SERVER_ROOT_URI, CypherTransaction.ResultType.row);
+        CypherTransaction.Result result = transaction.stream("UNWIND range(1,100000) AS i RETURN i", null, false);
+        StreamedResultParser.Rows streamedRows = (StreamedResultParser.Rows) result.getRows();
+        assertEquals(Arrays.<Object>asList(1), streamedRows.next());
+        transaction.rollback();
+        assertEquals(0, streamedRows.bufferedRows());
+        assertFalse(streamedRows.isResponseOpen());
+        assertFalse(result.hasData());
+    }
+
+    @Test(expected = CypherTransactionExecutionException.class)
+    public void testStreamedResultReportsErrors() throws Exception {
+        CypherTransaction transaction = new CypherTransaction(SERVER_ROOT_URI, CypherTransaction.ResultType.row);
+        CypherTransaction.Result result = transaction.streamCommit("RETURN 1/0", null, false);
+        for (List<Object> row : result.getRows()) {
+            row.get(0);
+        }
+    }
+
     @Test(expected = NotFoundException.class)
     public void testRollback() throws Exception {
         CypherTransaction transaction = new CypherTransaction(SERVER_ROOT_URI, CypherTransaction.ResultType.row);
@@ -0,0 +1,55 @@
+package org.neo4j.rest.graphdb.query;
+
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.rest.graphdb.RestAPICypherImpl;
+import org.neo4j.rest.graphdb.RestAPIProvider;
+import org.neo4j.rest.graphdb.RestTestBase;
+import org.neo4j.rest.graphdb.util.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+public class RestCypherTransactionTests extends RestTestBase {
+
+    @Test
+    public void testWriteBehindBatchesStatements() throws Exception {
+        System.setProperty(Config.CONFIG_WRITE_BEHIND, "true");
+        System.setProperty(Config.CONFIG_WRITE_BEHIND_BATCH_SIZE, "10");
+        try {
+            RestAPICypherImpl api = (RestAPICypherImpl) ((RestAPIProvider) getRestGraphDb()).getRestAPI();
+            Transaction tx = api.beginTx();
+            List<Node> nodes = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                nodes.add(api.createNode(map("name", "node" + i)));
+            }
+            CypherTransaction cypherTransaction = api.getTxManager().getCypherTransaction();
+            for (int i = 0; i < 5; i++) {
+                nodes.get(i).setProperty("value", i);
+            }
+            assertEquals(5, cypherTransaction.getPendingCount());
+            CypherResult result = api.query("MATCH (n) WHERE has(n.value) RETURN count(*) as count", null);
+            assertEquals(5, ((Number) result.getData().iterator().next().get(0)).intValue());
+            assertEquals(0, cypherTransaction.getPendingCount());
+            for (int i = 0; i < 15; i++) {
+                nodes.get(i % 5).setProperty("value", i);
+            }
+            assertEquals(5, cypherTransaction.getPendingCount());
+            tx.success();
+            tx.close();
+            try (Transaction check = getGraphDatabase().beginTx()) {
+                for (int i = 0; i < 5; i++) {
+                    assertEquals(10 + i, getGraphDatabase().getNodeById(nodes.get(i).getId()).getProperty("value"));
+                }
+                check.success();
+            }
+        } finally {
+            System.clearProperty(Config.CONFIG_WRITE_BEHIND);
+            System.clearProperty(Config.CONFIG_WRITE_BEHIND_BATCH_SIZE);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.neo4j.rest.graphdb.util;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+public class PropertyArrayDeserializerTests {
+
+    private ObjectMapper mapper;
+
+    @Before
+    public void setUp() throws Exception {
+        System.setProperty(Config.CONFIG_PRIMITIVE_ARRAYS, "true");
+        mapper = PropertyArrayDeserializer.register(new ObjectMapper());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        System.clearProperty(Config.CONFIG_PRIMITIVE_ARRAYS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> properties(String json) throws Exception {
+        Map<String, Object> node = (Map<String, Object>) mapper.readValue("{\"self\":\"http://localhost:7474/db/data/node/1\",\"data\":" + json + "}", Object.class);
+        return (Map<String, Object>) node.get("data");
+    }
+
+    @Test
+    public void testDecodesHomogeneousArraysIntoPrimitiveArrays() throws Exception {
+        Map<String, Object> data = properties("{\"ints\":[1,2,3],\"longs\":[1,12345678901],\"doubles\":[1.5,2],\"flags\":[true,false],\"names\":[\"a\",\"b\"],\"name\":\"x\"}");
+        assertArrayEquals(new int[]{1, 2, 3}, (int[]) data.get("ints"));
+        assertArrayEquals(new long[]{1, 12345678901L}, (long[]) data.get("longs"));
+        assertArrayEquals(new double[]{1.5, 2}, (double[]) data.get("doubles"), 0);
+        assertTrue(Arrays.equals(new boolean[]{true, false}, (boolean[]) data.get("flags")));
+        assertArrayEquals(new String[]{"a", "b"}, (String[]) data.get("names"));
+        assertEquals("x", data.get("name"));
+    }
+
+    @Test
+    public void testKeepsMixedAndEmptyArraysAsLists() throws Exception {
+        Map<String, Object> data = properties("{\"mixed\":[1,\"a\",null],\"empty\":[]}");
+        assertEquals(Arrays.<Object>asList(1, "a", null), data.get("mixed"));
+        assertEquals(0, ((List) data.get("empty")).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDecodesGraphPropertiesOfTransactionalResults() throws Exception {
+        String json = "{\"results\":[{\"columns\":[\"n\"],\"data\":[{\"row\":[{\"ages\":[1,2],\"scores\":[1.5,2]}]," +
+                "\"graph\":{\"nodes\":[{\"id\":\"1\",\"labels\":[\"Person\"],\"properties\":{\"ages\":[1,2],\"scores\":[1.5,2]}}]," +
+                "\"relationships\":[{\"id\":\"2\",\"type\":\"KNOWS\",\"startNode\":\"1\",\"endNode\":\"1\",\"properties\":{\"since\":[2014,2015]}}]}}]}],\"errors\":[]}";
+        Map<String, Object> response = (Map<String, Object>) mapper.readValue(json, Object.class);
+        Map<String, Object> result = ((List<Map<String, Object>>) response.get("results")).get(0);
+        Map<String, Object> rowData = ((List<Map<String, Object>>) result.get("data")).get(0);
+        Map<String, Object> graph = (Map<String, Object>) rowData.get("graph");
+        Map<String, Object> node = ((List<Map<String, Object>>) graph.get("nodes")).get(0);
+        Map<String, Object> relationship = ((List<Map<String, Object>>) graph.get("relationships")).get(0);
+        Map<String, Object> nodeProperties = (Map<String, Object>) node.get("properties");
+
+        assertArrayEquals(new int[]{1, 2}, (int[]) nodeProperties.get("ages"));
+        assertArrayEquals(new double[]{1.5, 2}, (double[]) nodeProperties.get("scores"), 0);
+        assertArrayEquals(new int[]{2014, 2015}, (int[]) ((Map<String, Object>) relationship.get("properties")).get("since"));
+
+        Object row = ((List<Object>) rowData.get("row")).get(0);
+        assertEquals(Arrays.asList(1, 2), ((Map<String, Object>) row).get("ages"));
+        assertTrue(PropertyArrayDeserializer.sameProperties(nodeProperties, row));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testKeepsUserMapsOfTransactionalRowsAsLists() throws Exception {
+        String json = "{\"results\":[{\"columns\":[\"m\"],\"data\":[{\"row\":[{\"data\":{\"xs\":[1,2]},\"properties\":{\"ys\":[3]}}]," +
+                "\"graph\":{\"nodes\":[],\"relationships\":[]}}]}],\"errors\":[]}";
+        Map<String, Object> response = (Map<String, Object>) mapper.readValue(json, Object.class);
+        Map<String, Object> result = ((List<Map<String, Object>>) response.get("results")).get(0);
+        Map<String, Object> rowData = ((List<Map<String, Object>>) result.get("data")).get(0);
+        Map<String, Object> value = (Map<String, Object>) ((List<Object>) rowData.get("row")).get(0);
+
+        assertEquals(Arrays.asList(1, 2), ((Map<String, Object>) value.get("data")).get("xs"));
+        assertEquals(Arrays.asList(3), ((Map<String, Object>) value.get("properties")).get("ys"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOnlyDecodesDataOfRepresentations() throws Exception {
+        Map<String, Object> map = (Map<String, Object>) mapper.readValue("{\"data\":{\"xs\":[1,2]}}", Object.class);
+        assertEquals(Arrays.asList(1, 2), ((Map<String, Object>) map.get("data")).get("xs"));
+    }
+
+    @Test
+    public void testComparesDecodedArraysWithLists() throws Exception {
+        Map<String, Object> properties = properties("{\"ints\":[1,2],\"doubles\":[1.5,2],\"flags\":[true],\"names\":[\"a\"]}");
+        assertTrue(PropertyArrayDeserializer.sameProperties(properties, map("ints", Arrays.asList(1, 2), "doubles", Arrays.asList(1.5, 2),
+                "flags", Arrays.asList(true), "names", Arrays.asList("a"))));
+        assertFalse(PropertyArrayDeserializer.sameProperties(properties, map("ints", Arrays.asList(1, 3), "doubles", Arrays.asList(1.5, 2),
+                "flags", Arrays.asList(true), "names", Arrays.asList("a"))));
+        assertFalse(PropertyArrayDeserializer.sameProperties(properties, map("ints", Arrays.asList(1), "doubles", Arrays.asList(1.5, 2),
+                "flags", Arrays.asList(true), "names", Arrays.asList("a"))));
+    }
+
+    @Test
+    public void testOnlyDecodesPropertyMaps() throws Exception {
+        Map<?, ?> result = mapper.readValue("{\"columns\":[\"n\"],\"data\":[[1,2]]}", Map.class);
+        assertEquals(Arrays.asList(Arrays.asList(1, 2)), result.get("data"));
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.rest.integration;
+
+import org.junit.*;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.neo4j.rest.support.RestTestBase;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.typerepresentation.TypeCountCache;
+import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategies;
+import org.springframework.data.neo4j.unique.schemabased.domain.Club;
+import org.springframework.data.neo4j.unique.schemabased.domain.UniqueClub;
+import org.springframework.test.context.CleanContextCacheTestExecutionListener;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.transaction.TransactionalTestExecutionListener;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * @author mh
+ * @since 12.03.15
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(locations = {
+        "classpath:unique-schema-test-context.xml",
+        "classpath:RestTests-context.xml"})
+@TestExecutionListeners({CleanContextCacheTestExecutionListener.class, DependencyInjectionTestExecutionListener.class, TransactionalTestExecutionListener.class})
+public class RestSaveAllTests {
+
+    @Autowired
+    private Neo4jTemplate template;
+
+    private TypeRepresentationStrategies strategies;
+
+    @BeforeClass
+    public static void startDb() throws Exception {
+        RestTestBase.startDb();
+    }
+
+    @Before
+    public void cleanDb() {
+        RestTestBase.cleanDb();
+        strategies = template.getInfrastructure().getTypeRepresentationStrategies();
+        strategies.setCountCache(new TypeCountCache(60000));
+    }
+
+    @After
+    public void removeCountCache() {
+        strategies.setCountCache(null);
+    }
+
+    @AfterClass
+    public static void shutdownDb() {
+        RestTestBase.shutdownDb();
+    }
+
+    @Test
+    public void testSaveAllCreatesNodesInBulk() {
+        final Club first = new Club();
+        first.setName("foo");
+        final Club second = new Club();
+        second.setName("bar");
+        template.saveAll(Arrays.asList(first, second));
+
+        assertNotNull(first.getId());
+        assertNotNull(second.getId());
+        assertEquals("foo", template.findOne(first.getId(), Club.class).getName());
+        assertEquals("bar", template.findOne(second.getId(), Club.class).getName());
+        assertEquals(2, template.count(Club.class));
+    }
+
+    @Test
+    public void testSaveAllCountsOnlyCreatedUniqueNodes() {
+        assertEquals(0, template.count(UniqueClub.class));
+        final UniqueClub existing = template.save(new UniqueClub("foo"));
+
+        final UniqueClub foo = new UniqueClub("foo");
+        final UniqueClub bar = new UniqueClub("bar");
+        final UniqueClub otherBar = new UniqueClub("bar");
+        template.saveAll(Arrays.asList(foo, bar, otherBar));
+
+        assertEquals(existing.getId(), foo.getId());
+        assertNotNull(bar.getId());
+        assertEquals(bar.getId(), otherBar.getId());
+        final Map<String, Object> clubs = template.query("MATCH (n:`UniqueClub`) RETURN count(*) AS clubs", Collections.<String, Object>emptyMap()).single();
+        assertEquals(2, ((Number) clubs.get("clubs")).longValue());
+        assertEquals(2, template.count(UniqueClub.class));
+    }
+}
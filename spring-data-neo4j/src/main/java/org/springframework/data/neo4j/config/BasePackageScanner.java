@@ -1,5 +1,7 @@
 package org.springframework.data.neo4j.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.ManagedSet;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
@@ -8,7 +10,18 @@ import org.springframework.data.annotation.Persistent;
 import org.springframework.data.neo4j.annotation.NodeEntity;
 import org.springframework.data.neo4j.annotation.RelationshipEntity;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -17,18 +30,44 @@ import java.util.Set;
  */
 public class BasePackageScanner {
 
+    /**
+     * Location of the entity index written at build time by the
+     * {@link org.springframework.data.neo4j.querydsl.EntityIndexProcessor}, one class name per line.
+     */
+    public static final String ENTITY_INDEX = "META-INF/spring-data-neo4j.entities";
+
+    /**
+     * System property that, if "true", ignores the entity index and always scans the classpath.
+     */
+    public static final String IGNORE_ENTITY_INDEX = "spring.data.neo4j.index.ignore";
+
+    private static final Logger log = LoggerFactory.getLogger(BasePackageScanner.class);
+
     public static Set<String> scanBasePackage(String basePackage) {
         return scanBasePackages(basePackage.split(","));
     }
 
+    /**
+     * Uses the entity indexes for a base package if every classpath root that contains the package ships one.
+     * Otherwise, or if the indexes list no entities of the package, the package is also scanned for annotated classes.
+     */
     public static Set<String> scanBasePackages(String...basePackages) {
-        ClassPathScanningCandidateComponentProvider componentProvider = new ClassPathScanningCandidateComponentProvider(false);
-//        componentProvider.addIncludeFilter(new AnnotationTypeFilter(Persistent.class));
-        componentProvider.addIncludeFilter(new AnnotationTypeFilter(NodeEntity.class));
-        componentProvider.addIncludeFilter(new AnnotationTypeFilter(RelationshipEntity.class));
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final Map<String, Set<String>> indexes = readEntityIndexes(classLoader);
+        ClassPathScanningCandidateComponentProvider componentProvider = null;
 
         Set<String> classes = new ManagedSet<String>();
         for (String basePackage : basePackages) {
+            basePackage = basePackage.trim();
+            final Set<String> indexed = new HashSet<>();
+            final boolean complete = collectIndexedClasses(indexes, classLoader, basePackage, indexed);
+            classes.addAll(indexed);
+            if (complete && !indexed.isEmpty()) {
+                if (log.isDebugEnabled()) log.debug("Using the entity index for base package " + basePackage);
+                continue;
+            }
+            if (log.isDebugEnabled()) log.debug("Scanning the classpath for entities in base package " + basePackage);
+            if (componentProvider == null) componentProvider = entityScanner();
             for (BeanDefinition candidate : componentProvider.findCandidateComponents(basePackage)) {
                 classes.add(candidate.getBeanClassName());
             }
@@ -37,16 +76,82 @@ public class BasePackageScanner {
         return classes;
     }
 
+    private static ClassPathScanningCandidateComponentProvider entityScanner() {
+        ClassPathScanningCandidateComponentProvider componentProvider = new ClassPathScanningCandidateComponentProvider(false);
+//        componentProvider.addIncludeFilter(new AnnotationTypeFilter(Persistent.class));
+        componentProvider.addIncludeFilter(new AnnotationTypeFilter(NodeEntity.class));
+        componentProvider.addIncludeFilter(new AnnotationTypeFilter(RelationshipEntity.class));
+        return componentProvider;
+    }
+
     public static Set<? extends Class<?>> scanBasePackageForClasses(String...basePackages) throws ClassNotFoundException {
-        Set<Class<?>> classes = new HashSet<>();
+        final List<String> packages = new ArrayList<>();
         for (String basePackage : basePackages) {
-            for (String className : scanBasePackage(basePackage)){
-                classes.add(loadClass(className));
-            }
+            packages.addAll(Arrays.asList(basePackage.split(",")));
+        }
+        Set<Class<?>> classes = new HashSet<>();
+        for (String className : scanBasePackages(packages.toArray(new String[packages.size()]))) {
+            classes.add(loadClass(className));
         }
         return classes;
     }
 
+    /**
+     * Adds the indexed entities of the base package to the given set.
+     * @return false if a classpath root that contains the package has no index
+     */
+    private static boolean collectIndexedClasses(Map<String, Set<String>> indexes, ClassLoader classLoader, String basePackage, Set<String> classes) {
+        if (indexes.isEmpty()) return false;
+        final String packagePrefix = basePackage + ".";
+        for (Set<String> classNames : indexes.values()) {
+            for (String className : classNames) {
+                if (className.startsWith(packagePrefix)) classes.add(className);
+            }
+        }
+        final String packagePath = basePackage.replace('.', '/');
+        try {
+            final Enumeration<URL> packageUrls = classLoader.getResources(packagePath);
+            while (packageUrls.hasMoreElements()) {
+                String url = packageUrls.nextElement().toString();
+                if (url.endsWith("/")) url = url.substring(0, url.length() - 1);
+                String root = url.substring(0, url.length() - packagePath.length());
+                if (!root.endsWith("/")) root += "/";
+                if (!indexes.containsKey(root)) return false;
+            }
+            return true;
+        } catch (IOException e) {
+            throw new IllegalStateException("Error locating the base package " + basePackage, e);
+        }
+    }
+
+    /**
+     * @return the class names of the entity indexes on the classpath by the classpath root they were found in, empty if
+     * there are none or they are ignored
+     */
+    private static Map<String, Set<String>> readEntityIndexes(ClassLoader classLoader) {
+        final Map<String, Set<String>> indexes = new HashMap<>();
+        if (Boolean.getBoolean(IGNORE_ENTITY_INDEX)) return indexes;
+        try {
+            final Enumeration<URL> indexUrls = classLoader.getResources(ENTITY_INDEX);
+            while (indexUrls.hasMoreElements()) {
+                final URL indexUrl = indexUrls.nextElement();
+                final String url = indexUrl.toString();
+                final Set<String> classNames = new HashSet<>();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexUrl.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (!line.isEmpty() && !line.startsWith("#")) classNames.add(line);
+                    }
+                }
+                indexes.put(url.substring(0, url.length() - ENTITY_INDEX.length()), classNames);
+            }
+            return indexes;
+        } catch (IOException e) {
+            throw new IllegalStateException("Error reading the entity index " + ENTITY_INDEX, e);
+        }
+    }
+
     private static Class loadClass(String className) throws ClassNotFoundException {
         return Thread.currentThread().getContextClassLoader().loadClass(className);
     }
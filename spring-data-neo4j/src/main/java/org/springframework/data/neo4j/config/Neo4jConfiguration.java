@@ -75,6 +75,10 @@ public class Neo4jConfiguration {
 
     private Set<? extends Class<?>> initialEntitySet;
     private boolean createIndex = true;
+    private boolean batchIndexCreation;
+    private long countCacheTimeToLive;
+    private boolean dirtyTracking;
+    private boolean generatedAccessors;
 
     @Autowired(required = false)
     private Validator validator;
@@ -116,6 +120,9 @@ public class Neo4jConfiguration {
         factoryBean.setGraphDatabase(graphDatabase());
         factoryBean.setIsNewStrategyFactory(isNewStrategyFactory());
         factoryBean.setTypeSafetyPolicy(typeSafetyPolicy());
+        factoryBean.setCountCacheTimeToLive(countCacheTimeToLive);
+        factoryBean.setDirtyTracking(dirtyTracking);
+        factoryBean.setGeneratedAccessors(generatedAccessors);
         
         factoryBean.setIndexProvider(indexProvider());
 
@@ -253,6 +260,12 @@ public class Neo4jConfiguration {
     public EntityIndexCreator entityIndexCreator() throws Exception {
         if (!createIndex) return new NoEntityIndexCreator();
 
+        if (batchIndexCreation) {
+            return new BatchEntityIndexCreator(
+                indexProvider(),
+                schemaIndexProvider(),
+                nodeTypeRepresentationStrategy().isLabelBased());
+        }
         return new DefaultEntityIndexCreator(
             indexProvider(),
             schemaIndexProvider(),
@@ -309,6 +322,54 @@ public class Neo4jConfiguration {
         return createIndex;
     }
 
+    /**
+     * @param batchIndexCreation if true, the schema indexes of the initial entity set are compared with the existing
+     * ones at startup and only the missing ones are created, together, false (the default) creates them one by one
+     */
+    public void setBatchIndexCreation(boolean batchIndexCreation) {
+        this.batchIndexCreation = batchIndexCreation;
+    }
+
+    public boolean isBatchIndexCreation() {
+        return batchIndexCreation;
+    }
+
+    /**
+     * @param countCacheTimeToLive in millis, a positive value caches the counts per entity type for that long,
+     * 0 (the default) always counts exactly
+     */
+    public void setCountCacheTimeToLive(long countCacheTimeToLive) {
+        this.countCacheTimeToLive = countCacheTimeToLive;
+    }
+
+    public long getCountCacheTimeToLive() {
+        return countCacheTimeToLive;
+    }
+
+    /**
+     * @param dirtyTracking if true, saving a loaded entity only writes the properties and relationships that changed
+     * since it was loaded or last saved, false (the default) always writes all of them
+     */
+    public void setDirtyTracking(boolean dirtyTracking) {
+        this.dirtyTracking = dirtyTracking;
+    }
+
+    public boolean isDirtyTracking() {
+        return dirtyTracking;
+    }
+
+    /**
+     * @param generatedAccessors if true, entities are instantiated and their fields read and written with method handles
+     * that are created once per entity type, false (the default) uses reflection
+     */
+    public void setGeneratedAccessors(boolean generatedAccessors) {
+        this.generatedAccessors = generatedAccessors;
+    }
+
+    public boolean isGeneratedAccessors() {
+        return generatedAccessors;
+    }
+
     private String[] basePackage;
 
 
@@ -0,0 +1,35 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.conversion;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Implemented by result converters that need a context (e.g. a read transaction) for converting values on another
+ * thread than the one that runs the query, see {@link Result#parallel(int)}.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public interface ConversionScope {
+    <V> V execute(Callable<V> conversions) throws Exception;
+
+    /**
+     * @return false if the values have to be converted on the calling thread, e.g. because it runs a transaction whose
+     * changes other threads can't see
+     */
+    boolean canConvertConcurrently();
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.conversion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Converts the values of an iterable on a shared fork join pool. The values are read in chunks on the iterating thread
+ * and at most <code>parallelism</code> chunks are converted at the same time, the converted values are returned in the
+ * original order.
+ * <p/>
+ * Every chunk is converted by one worker, so entities that occur several times within a chunk are the same instance
+ * (the stacked entity cache is per thread), across chunks they are not. If the converter is a {@link ConversionScope}
+ * that can't convert concurrently when iteration starts, the values are converted on the iterating thread.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+class ParallelConvertingIterable<T, R> implements Iterable<R> {
+    private static final Logger log = LoggerFactory.getLogger(ParallelConvertingIterable.class);
+    static final int CHUNK_SIZE = 256;
+
+    private static ForkJoinPool pool;
+
+    private final Iterable<T> source;
+    private final Class<R> type;
+    private final ResultConverter<T, R> converter;
+    private final MappingPolicy mappingPolicy;
+    private final int parallelism;
+
+    ParallelConvertingIterable(Iterable<T> source, Class<R> type, ResultConverter<T, R> converter, MappingPolicy mappingPolicy, int parallelism) {
+        this.source = source;
+        this.type = type;
+        this.converter = converter;
+        this.mappingPolicy = mappingPolicy;
+        this.parallelism = parallelism;
+    }
+
+    private static synchronized ForkJoinPool pool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        }
+        return pool;
+    }
+
+    @Override
+    public Iterator<R> iterator() {
+        final Iterator<T> values = source.iterator();
+        if (converter instanceof ConversionScope && !((ConversionScope) converter).canConvertConcurrently()) {
+            if (log.isDebugEnabled()) log.debug("Converting to " + type + " on the calling thread instead of in parallel, a transaction with possible changes is running");
+            return sequential(values);
+        }
+        return new Iterator<R>() {
+            private final Deque<Future<List<R>>> pending = new ArrayDeque<>(parallelism);
+            private Iterator<R> current = Collections.<R>emptyList().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext()) {
+                    submitChunks();
+                    if (pending.isEmpty()) return false;
+                    current = converted(pending.removeFirst()).iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return current.next();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+            private void submitChunks() {
+                while (pending.size() < parallelism && values.hasNext()) {
+                    final List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+                    while (chunk.size() < CHUNK_SIZE && values.hasNext()) {
+                        chunk.add(values.next());
+                    }
+                    pending.addLast(pool().submit(new Callable<List<R>>() {
+                        @Override
+                        public List<R> call() throws Exception {
+                            return convertInScope(chunk);
+                        }
+                    }));
+                }
+            }
+        };
+    }
+
+    private Iterator<R> sequential(final Iterator<T> values) {
+        return new Iterator<R>() {
+            @Override
+            public boolean hasNext() {
+                return values.hasNext();
+            }
+
+            @Override
+            public R next() {
+                return converter.convert(values.next(), type, mappingPolicy);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private List<R> convertInScope(final List<T> chunk) throws Exception {
+        final Callable<List<R>> conversions = new Callable<List<R>>() {
+            @Override
+            public List<R> call() {
+                final List<R> result = new ArrayList<>(chunk.size());
+                for (T value : chunk) {
+                    result.add(converter.convert(value, type, mappingPolicy));
+                }
+                return result;
+            }
+        };
+        if (converter instanceof ConversionScope) {
+            return ((ConversionScope) converter).execute(conversions);
+        }
+        return conversions.call();
+    }
+
+    private static <R> List<R> converted(Future<List<R>> chunk) {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while converting results", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException("Error converting results", cause);
+        }
+    }
+}
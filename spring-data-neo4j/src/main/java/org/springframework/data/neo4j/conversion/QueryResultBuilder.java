@@ -37,6 +37,9 @@ public class QueryResultBuilder<T> implements Result<T> {
     private final boolean isClosableIterable;
     private boolean isClosed;
     private MappingPolicy mappingPolicy;
+    private int parallelism = 1;
+    private final QueryResultBuilder<?> source;
+    private final List<AutoCloseable> openIterators = new ArrayList<>(1);
 
     @SuppressWarnings("unchecked")
     public QueryResultBuilder(Iterable<T> result) {
@@ -44,9 +47,17 @@ public class QueryResultBuilder<T> implements Result<T> {
     }
 
     public QueryResultBuilder(Iterable<T> result, final ResultConverter<T,?> defaultConverter) {
+        this(result, defaultConverter, null);
+    }
+
+    /**
+     * @param source the result this one was converted from, it is closed together with this result
+     */
+    private QueryResultBuilder(Iterable<T> result, final ResultConverter defaultConverter, QueryResultBuilder<?> source) {
         this.result = result;
         this.isClosableIterable = result instanceof IndexHits || result instanceof ClosableIterable || result instanceof AutoCloseable;
         this.defaultConverter = defaultConverter;
+        this.source = source;
     }
 
     @SuppressWarnings("unchecked")
@@ -80,13 +91,16 @@ public class QueryResultBuilder<T> implements Result<T> {
 
     @Override
     public <R> Result<R> to(final Class<R> type, final ResultConverter<T, R> resultConverter) {
-        Iterable<R> it = new IterableWrapper<R, T>(result) {
+        if (parallelism > 1) {
+            return new QueryResultBuilder<R>(new ParallelConvertingIterable<T, R>(this, type, resultConverter, mappingPolicy, parallelism), defaultConverter, this);
+        }
+        Iterable<R> it = new IterableWrapper<R, T>(this) {
             @Override
             protected R underlyingObjectToObject(T object) {
                 return resultConverter.convert(object,type,mappingPolicy);
             }
         };
-        return new QueryResultBuilder<R>(it,defaultConverter);
+        return new QueryResultBuilder<R>(it,defaultConverter,this);
     }
 
 
@@ -118,20 +132,50 @@ public class QueryResultBuilder<T> implements Result<T> {
     }
 
 
+    /**
+     * Closes the underlying result and the cursors of its iterators, also when they were not consumed completely.
+     */
+    @Override
+    public void close() {
+        closeIfNeeded();
+    }
+
     private void closeIfNeeded() {
-        if (isClosableIterable && !isClosed) {
+        if (isClosed) return;
+        isClosed = true;
+        for (AutoCloseable iterator : openIterators) {
+            closeQuietly(iterator);
+        }
+        openIterators.clear();
+        if (isClosableIterable) {
             if (result instanceof IndexHits) {
                ((IndexHits) result).close();
             } else if (result instanceof ClosableIterable) {
                ((ClosableIterable) result).close();
+            } else if (result instanceof AutoCloseable) {
+               closeQuietly((AutoCloseable) result);
             }
-            isClosed=true;
+        }
+        if (source != null) {
+            source.closeIfNeeded();
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // ignore, the result is discarded
         }
     }
 
     @Override
     public Iterator<T> iterator() {
-        return result.iterator();
+        final Iterator<T> iterator = result.iterator();
+        if (iterator instanceof AutoCloseable) {
+            openIterators.add((AutoCloseable) iterator);
+        }
+        return iterator;
     }
 
     public Result<T> with(MappingPolicy mappingPolicy) {
@@ -139,6 +183,12 @@ public class QueryResultBuilder<T> implements Result<T> {
         return this;
     }
 
+    @Override
+    public Result<T> parallel(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
     public static <T> QueryResultBuilder<T> from(Iterable<T> values) {
         return new QueryResultBuilder<T>(values);
     }
@@ -24,11 +24,21 @@ import org.springframework.data.neo4j.mapping.MappingPolicy;
 * @author mh
 * @since 28.06.11
 */
-public interface Result<T> extends Iterable<T> {
+public interface Result<T> extends Iterable<T>, AutoCloseable {
     <R> Result<R> to(Class<R> type);
     <R> Result<R> to(Class<R> type, ResultConverter<T, R> resultConverter);
     Result<T> with(MappingPolicy mappingPolicy);
 
+    /**
+     * Converts the values of the next {@link #to} on up to <code>parallelism</code> threads, in chunks read from this
+     * result and in the original order. A parallelism of 1 (the default) converts on the iterating thread.
+     * <p/>
+     * Every chunk is converted in its own read transaction, which can't see uncommitted changes. So if a transaction
+     * that is not read-only is running when the iteration starts the values are converted sequentially on the iterating
+     * thread instead.
+     */
+    Result<T> parallel(int parallelism);
+
     T single();
 
     T singleOrNull();
@@ -42,4 +52,11 @@ public interface Result<T> extends Iterable<T> {
     Slice<T> slice(Pageable page);
 
     void finish();
+
+    /**
+     * Releases the underlying result, e.g. the cursor of a lazily iterated query result that was not consumed
+     * completely. Results converted with {@link #to} close the result they were converted from.
+     */
+    @Override
+    void close();
 }
@@ -0,0 +1,264 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.PathExpander;
+import org.neo4j.graphdb.RelationshipExpander;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.traversal.*;
+import org.neo4j.kernel.Traversal;
+import org.neo4j.kernel.Uniqueness;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Traversal description that records the relationship types and directions, depth limits and uniqueness it is built
+ * with, so that a {@link FieldTraversalDescriptionBuilder} that returns it can have its @GraphTraversal field
+ * loaded with a single Cypher variable length match instead of the traversal framework, see {@link #toCypher(boolean)}.
+ * <pre>
+ * return CypherTraversalDescription.description().relationships(withName("knows"), Direction.OUTGOING).maxDepth(2)
+ *              .evaluator(Evaluators.excludeStartPosition());
+ * </pre>
+ * Everything else (custom evaluators, expanders, ordering) is passed on to a regular traversal description, which is
+ * used by {@link #traverse(Node)} and for fields whose description can't be translated. Unlike
+ * {@link Traversal#description()} the description traverses breadth first, like the Cypher match.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class CypherTraversalDescription implements TraversalDescription {
+    private final TraversalDescription delegate;
+    private final List<RelationshipType> types;
+    private final List<Direction> directions;
+    private final UniquenessFactory uniqueness;
+    private final int minDepth;
+    private final int maxDepth;
+    private final boolean breadthFirst;
+    private final boolean translatable;
+
+    private CypherTraversalDescription(TraversalDescription delegate, List<RelationshipType> types, List<Direction> directions, UniquenessFactory uniqueness, int minDepth, int maxDepth, boolean breadthFirst, boolean translatable) {
+        this.delegate = delegate;
+        this.types = types;
+        this.directions = directions;
+        this.uniqueness = uniqueness;
+        this.minDepth = minDepth;
+        this.maxDepth = maxDepth;
+        this.breadthFirst = breadthFirst;
+        this.translatable = translatable;
+    }
+
+    @SuppressWarnings("deprecation")
+    public static CypherTraversalDescription description() {
+        return new CypherTraversalDescription(Traversal.description().breadthFirst(), new ArrayList<RelationshipType>(), new ArrayList<Direction>(), Uniqueness.NODE_GLOBAL, 0, -1, true, true);
+    }
+
+    private CypherTraversalDescription with(TraversalDescription delegate, UniquenessFactory uniqueness, int minDepth, int maxDepth, boolean translatable) {
+        return new CypherTraversalDescription(delegate, types, directions, uniqueness, minDepth, maxDepth, breadthFirst, translatable);
+    }
+
+    private CypherTraversalDescription untranslatable(TraversalDescription delegate) {
+        return with(delegate, uniqueness, minDepth, maxDepth, false);
+    }
+
+    /**
+     * @return the description that also stops at the given depth (inclusive)
+     */
+    public CypherTraversalDescription maxDepth(int depth) {
+        return with(delegate.evaluator(Evaluators.toDepth(depth)), uniqueness, minDepth, maxDepth == -1 ? depth : Math.min(maxDepth, depth), translatable);
+    }
+
+    /**
+     * @return the description that only returns positions from the given depth (inclusive) on
+     */
+    public CypherTraversalDescription minDepth(int depth) {
+        return with(delegate.evaluator(Evaluators.fromDepth(depth)), uniqueness, Math.max(minDepth, depth), maxDepth, translatable);
+    }
+
+    @Override
+    public CypherTraversalDescription uniqueness(UniquenessFactory uniqueness) {
+        return with(delegate.uniqueness(uniqueness), uniqueness, minDepth, maxDepth, translatable);
+    }
+
+    @Override
+    public CypherTraversalDescription uniqueness(UniquenessFactory uniqueness, Object optionalParameter) {
+        return untranslatable(delegate.uniqueness(uniqueness, optionalParameter));
+    }
+
+    @Override
+    public CypherTraversalDescription evaluator(Evaluator evaluator) {
+        final TraversalDescription evaluated = delegate.evaluator(evaluator);
+        if (evaluator == Evaluators.all()) return with(evaluated, uniqueness, minDepth, maxDepth, translatable);
+        if (evaluator == Evaluators.excludeStartPosition()) return with(evaluated, uniqueness, Math.max(minDepth, 1), maxDepth, translatable);
+        return untranslatable(evaluated);
+    }
+
+    @Override
+    public CypherTraversalDescription evaluator(PathEvaluator evaluator) {
+        final TraversalDescription evaluated = delegate.evaluator(evaluator);
+        if (evaluator == Evaluators.all()) return with(evaluated, uniqueness, minDepth, maxDepth, translatable);
+        if (evaluator == Evaluators.excludeStartPosition()) return with(evaluated, uniqueness, Math.max(minDepth, 1), maxDepth, translatable);
+        return untranslatable(evaluated);
+    }
+
+    @Override
+    public CypherTraversalDescription order(BranchOrderingPolicy selector) {
+        return untranslatable(delegate.order(selector));
+    }
+
+    @Override
+    public CypherTraversalDescription depthFirst() {
+        return new CypherTraversalDescription(delegate.depthFirst(), types, directions, uniqueness, minDepth, maxDepth, false, translatable);
+    }
+
+    @Override
+    public CypherTraversalDescription breadthFirst() {
+        return new CypherTraversalDescription(delegate.breadthFirst(), types, directions, uniqueness, minDepth, maxDepth, true, translatable);
+    }
+
+    @Override
+    public CypherTraversalDescription relationships(RelationshipType type) {
+        return relationships(type, Direction.BOTH);
+    }
+
+    @Override
+    public CypherTraversalDescription relationships(RelationshipType type, Direction direction) {
+        final List<RelationshipType> types = new ArrayList<>(this.types);
+        final List<Direction> directions = new ArrayList<>(this.directions);
+        types.add(type);
+        directions.add(direction);
+        return new CypherTraversalDescription(delegate.relationships(type, direction), types, directions, uniqueness, minDepth, maxDepth, breadthFirst, translatable);
+    }
+
+    @Override
+    public CypherTraversalDescription expand(PathExpander<?> expander) {
+        return untranslatable(delegate.expand(expander));
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public <STATE> CypherTraversalDescription expand(PathExpander<STATE> expander, InitialStateFactory<STATE> initialState) {
+        return untranslatable(delegate.expand(expander, initialState));
+    }
+
+    @Override
+    public <STATE> CypherTraversalDescription expand(PathExpander<STATE> expander, InitialBranchState<STATE> initialState) {
+        return untranslatable(delegate.expand(expander, initialState));
+    }
+
+    @SuppressWarnings("deprecation")
+    public CypherTraversalDescription expand(RelationshipExpander expander) {
+        return untranslatable(delegate.expand(expander));
+    }
+
+    @Override
+    public CypherTraversalDescription sort(Comparator<? super Path> comparator) {
+        return untranslatable(delegate.sort(comparator));
+    }
+
+    @Override
+    public CypherTraversalDescription reverse() {
+        return untranslatable(delegate.reverse());
+    }
+
+    @Override
+    public Traverser traverse(Node startNode) {
+        return delegate.traverse(startNode);
+    }
+
+    @Override
+    public Traverser traverse(Node... startNodes) {
+        return delegate.traverse(startNodes);
+    }
+
+    @Override
+    public Traverser traverse(Iterable<Node> startNodes) {
+        return delegate.traverse(startNodes);
+    }
+
+    /**
+     * Translates the description into a Cypher query with the id of the start node as <code>{start}</code> parameter.
+     * Supported are relationship types with a common direction, depth limits, {@link Evaluators#all()},
+     * {@link Evaluators#excludeStartPosition()} and the uniqueness {@link Uniqueness#NODE_GLOBAL} (returning each node
+     * once) or {@link Uniqueness#RELATIONSHIP_PATH} (returning every path).
+     * <p/>
+     * Descriptions without a max depth are not translated, an unbounded variable length match enumerates every path
+     * before they are made distinct, which on cyclic or dense graphs is far more expensive than the traversal. Neither
+     * is node global uniqueness with a min depth greater than 1, the traversal skips nodes that it first reaches above
+     * the min depth, Cypher doesn't. Nor is node global uniqueness after {@link #depthFirst()}, a depth first
+     * traversal doesn't expand nodes again that it first reaches on a longer path, so it can miss nodes within the max
+     * depth that Cypher returns.
+     *
+     * @param returnPaths true to return the paths, false to return their end nodes
+     * @return the query, or null if the description can't be translated
+     */
+    public String toCypher(boolean returnPaths) {
+        if (!translatable || maxDepth == -1) return null;
+        final boolean distinctNodes;
+        if (uniqueness == Uniqueness.NODE_GLOBAL) {
+            if (returnPaths || minDepth > 1 || !breadthFirst) return null;
+            distinctNodes = true;
+        } else if (uniqueness == Uniqueness.RELATIONSHIP_PATH) {
+            distinctNodes = false;
+        } else {
+            return null;
+        }
+        Direction direction = Direction.BOTH;
+        final StringBuilder typeNames = new StringBuilder();
+        for (int i = 0; i < types.size(); i++) {
+            if (i == 0) direction = directions.get(i);
+            else if (direction != directions.get(i)) return null;
+            typeNames.append(i == 0 ? ":" : "|").append('`').append(types.get(i).name()).append('`');
+        }
+        final StringBuilder query = new StringBuilder("START start=node({start}) MATCH ");
+        if (returnPaths) query.append("p=");
+        query.append("(start)").append(direction == Direction.INCOMING ? "<-[" : "-[").append(typeNames)
+             .append('*').append(minDepth).append("..").append(maxDepth)
+             .append(direction == Direction.OUTGOING ? "]->" : "]-").append("(n)");
+        if (distinctNodes && minDepth > 0) query.append(" WHERE n <> start");
+        query.append(" RETURN ").append(returnPaths ? "p" : distinctNodes ? "DISTINCT n" : "n");
+        return query.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final CypherTraversalDescription that = (CypherTraversalDescription) o;
+        return translatable && that.translatable && minDepth == that.minDepth && maxDepth == that.maxDepth
+                && breadthFirst == that.breadthFirst && uniqueness == that.uniqueness && types.equals(that.types) && directions.equals(that.directions);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = types.hashCode();
+        result = 31 * result + directions.hashCode();
+        result = 31 * result + uniqueness.hashCode();
+        result = 31 * result + (breadthFirst ? 1 : 0);
+        result = 31 * result + minDepth;
+        return 31 * result + maxDepth;
+    }
+
+    @Override
+    public String toString() {
+        if (!translatable) return delegate.toString();
+        return "CypherTraversalDescription{types=" + types + ", directions=" + directions + ", depth=" + minDepth + ".." + (maxDepth == -1 ? "" : maxDepth) + ", uniqueness=" + uniqueness + (breadthFirst ? "" : ", depthFirst") + "}";
+    }
+}
@@ -27,6 +27,7 @@ import org.springframework.data.neo4j.support.query.CypherQueryEngineImpl;
 
 import javax.transaction.TransactionManager;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 
@@ -38,6 +39,13 @@ public interface GraphDatabase {
      */
     Node getNodeById(long id);
 
+    /**
+     * @param ids node ids
+     * @return the requested nodes in the order of the ids, remote databases load them with as few requests as possible
+     * @throws org.neo4j.graphdb.NotFoundException
+     */
+    List<Node> getNodesByIds(Collection<Long> ids);
+
     /**
      * creates the node and initializes its properties
      */
@@ -24,9 +24,7 @@ import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * @author Michael Hunger
@@ -35,8 +33,8 @@ import java.util.Map;
 public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
     protected final Object entity;
     protected final Class<?> type;
-    private final Map<Neo4jPersistentProperty, FieldAccessor> fieldAccessors = new HashMap<Neo4jPersistentProperty, FieldAccessor>();
-    private final Map<Neo4jPersistentProperty,List<FieldAccessListener>> fieldAccessorListeners = new HashMap<Neo4jPersistentProperty, List<FieldAccessListener>>();
+    // shared by all states of the entity type
+    private final FieldAccessorTable fieldAccessorTable;
     private STATE state;
     protected final static Logger log= LoggerFactory.getLogger(DefaultEntityState.class);
     private final FieldAccessorFactoryProviders<Object> fieldAccessorFactoryProviders;
@@ -49,10 +47,10 @@ public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
         this.persistentEntity = persistentEntity;
         if (delegatingFieldAccessorFactory!=null) {
             fieldAccessorFactoryProviders = delegatingFieldAccessorFactory.accessorFactoriesFor(persistentEntity);
-            this.fieldAccessors.putAll(fieldAccessorFactoryProviders.getFieldAccessors());
-            this.fieldAccessorListeners.putAll(fieldAccessorFactoryProviders.getFieldAccessListeners());
+            fieldAccessorTable = fieldAccessorFactoryProviders.getAccessorTable();
         } else {
             fieldAccessorFactoryProviders = null; // todo
+            fieldAccessorTable = null;
         }
     }
 
@@ -128,12 +126,15 @@ public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
     }
 
     protected FieldAccessor accessorFor(final Neo4jPersistentProperty property) {
-        return fieldAccessors.get(property);
+        if (fieldAccessorTable == null) return null;
+        return fieldAccessorTable.accessorFor(property);
     }
 
     private void notifyListeners(final Neo4jPersistentProperty field, final Object result) {
-        if (!fieldAccessorListeners.containsKey(field) || fieldAccessorListeners.get(field) == null) return;
-        for (final FieldAccessListener listener : fieldAccessorListeners.get(field)) {
+        if (fieldAccessorTable == null) return;
+        final List<FieldAccessListener> listeners = fieldAccessorTable.listenersFor(field);
+        if (listeners == null) return;
+        for (final FieldAccessListener listener : listeners) {
             listener.valueChanged(entity, null, result); // todo oldValue
         }
     }
@@ -63,9 +63,33 @@ public class FieldAccessorFactoryProviders<T> {
 
     private final List<FieldAccessorFactoryProvider<T>> fieldAccessorFactoryProviders = new ArrayList<FieldAccessorFactoryProvider<T>>();
     private Neo4jPersistentProperty idProperty;
+    private volatile FieldAccessorTable accessorTable;
 
     FieldAccessorFactoryProviders() {}
 
+    /**
+     * @return the accessors and listeners of the type, created on first use and shared afterwards
+     */
+    public FieldAccessorTable getAccessorTable() {
+        FieldAccessorTable table = accessorTable;
+        if (table != null) return table;
+        synchronized (this) {
+            if (accessorTable != null) return accessorTable;
+            int count = fieldAccessorFactoryProviders.size();
+            final List<Neo4jPersistentProperty> properties = new ArrayList<Neo4jPersistentProperty>(count);
+            final List<FieldAccessor> accessors = new ArrayList<FieldAccessor>(count);
+            final List<List<FieldAccessListener>> listeners = new ArrayList<List<FieldAccessListener>>(count);
+            for (int i = 0; i < count; i++) {
+                FieldAccessorFactoryProvider<T> fieldAccessorFactoryProvider = fieldAccessorFactoryProviders.get(i);
+                properties.add(fieldAccessorFactoryProvider.getProperty());
+                accessors.add(fieldAccessorFactoryProvider.accessor());
+                listeners.add(fieldAccessorFactoryProvider.listeners());
+            }
+            accessorTable = new FieldAccessorTable(properties, accessors, listeners);
+            return accessorTable;
+        }
+    }
+
     public Map<Neo4jPersistentProperty, FieldAccessor> getFieldAccessors() {
         int count = fieldAccessorFactoryProviders.size();
         final Map<Neo4jPersistentProperty, FieldAccessor> result = new HashMap<Neo4jPersistentProperty, FieldAccessor>(count,1);
@@ -91,6 +115,7 @@ public class FieldAccessorFactoryProviders<T> {
     @SuppressWarnings("unchecked")
     public void add(Neo4jPersistentProperty property, FieldAccessorFactory fieldAccessorFactory, List<FieldAccessorListenerFactory> listenerFactories) {
         fieldAccessorFactoryProviders.add(new FieldAccessorFactoryProvider(property, fieldAccessorFactory, listenerFactories));
+        accessorTable = null;
         if (property.isIdProperty()) this.idProperty = property;
     }
 
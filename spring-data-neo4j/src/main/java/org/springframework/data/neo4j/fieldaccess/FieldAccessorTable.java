@@ -0,0 +1,86 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The field accessors and listeners of one entity type, indexed by {@link Neo4jPersistentProperty#getOrdinal()}.
+ * The table is immutable and shared by all entity states of the type, field accessors only keep per-field state.
+ * <p/>
+ * Properties of other entity types for the same field (e.g. of a super type) and properties without ordinal are resolved
+ * by equality.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class FieldAccessorTable {
+    private final Neo4jPersistentProperty[] properties;
+    private final FieldAccessor[] accessors;
+    private final List<FieldAccessListener>[] listeners;
+    private final Map<Neo4jPersistentProperty, Integer> ordinals;
+
+    @SuppressWarnings("unchecked")
+    FieldAccessorTable(List<Neo4jPersistentProperty> properties, List<FieldAccessor> accessors, List<List<FieldAccessListener>> listeners) {
+        int assigned = 0;
+        int unassigned = 0;
+        for (Neo4jPersistentProperty property : properties) {
+            if (property.getOrdinal() < 0) unassigned++;
+            else assigned = Math.max(assigned, property.getOrdinal() + 1);
+        }
+        final int size = assigned + unassigned;
+        this.properties = new Neo4jPersistentProperty[size];
+        this.accessors = new FieldAccessor[size];
+        this.listeners = new List[size];
+        final Map<Neo4jPersistentProperty, Integer> ordinals = new HashMap<Neo4jPersistentProperty, Integer>(properties.size());
+        int next = assigned;
+        for (int i = 0; i < properties.size(); i++) {
+            final Neo4jPersistentProperty property = properties.get(i);
+            final int index = property.getOrdinal() < 0 ? next++ : property.getOrdinal();
+            this.properties[index] = property;
+            this.accessors[index] = accessors.get(i);
+            final List<FieldAccessListener> fieldListeners = listeners.get(i);
+            this.listeners[index] = fieldListeners == null || fieldListeners.isEmpty() ? null : Collections.unmodifiableList(fieldListeners);
+            ordinals.put(property, index);
+        }
+        this.ordinals = ordinals;
+    }
+
+    public FieldAccessor accessorFor(Neo4jPersistentProperty property) {
+        final int index = indexOf(property);
+        return index < 0 ? null : accessors[index];
+    }
+
+    /**
+     * @return the listeners of the property or null if there are none
+     */
+    public List<FieldAccessListener> listenersFor(Neo4jPersistentProperty property) {
+        final int index = indexOf(property);
+        return index < 0 ? null : listeners[index];
+    }
+
+    private int indexOf(Neo4jPersistentProperty property) {
+        final int ordinal = property.getOrdinal();
+        if (ordinal >= 0 && ordinal < properties.length && properties[ordinal] == property) return ordinal;
+        final Integer index = ordinals.get(property);
+        return index == null ? -1 : index;
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Thread bound neighbour nodes that were loaded upfront for a (node, relationship-type, direction) combination, so that
+ * the {@link RelationshipHelper} doesn't have to read the relationships of each node separately while mapping.
+ * Registrations are only visible between the outermost {@link #push()} and {@link #pop()}.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class PrefetchedRelationships {
+    private static class Key {
+        final long nodeId;
+        final String type;
+        final Direction direction;
+
+        Key(long nodeId, String type, Direction direction) {
+            this.nodeId = nodeId;
+            this.type = type;
+            this.direction = direction;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key key = (Key) o;
+            return nodeId == key.nodeId && type.equals(key.type) && direction == key.direction;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = (int) (nodeId ^ (nodeId >>> 32));
+            result = 31 * result + type.hashCode();
+            return 31 * result + direction.hashCode();
+        }
+    }
+
+    private long depth;
+    private final Map<Key, Collection<Node>> neighbours = new HashMap<>();
+    private static ThreadLocal<PrefetchedRelationships> prefetched = new ThreadLocal<PrefetchedRelationships>();
+
+    public static void push() {
+        PrefetchedRelationships current = prefetched.get();
+        if (current == null) {
+            current = new PrefetchedRelationships();
+            prefetched.set(current);
+        }
+        current.depth++;
+    }
+
+    public static void pop() {
+        if (--prefetched().depth == 0) {
+            prefetched.remove();
+        }
+    }
+
+    public static void add(long nodeId, String type, Direction direction, Collection<Node> nodes) {
+        prefetched().neighbours.put(new Key(nodeId, type, direction), nodes);
+    }
+
+    /**
+     * @return the neighbours registered for the node, or null if they were not prefetched
+     */
+    public static Collection<Node> get(Node node, String type, Direction direction) {
+        PrefetchedRelationships current = prefetched.get();
+        if (current == null) return null;
+        return current.neighbours.get(new Key(node.getId(), type, direction));
+    }
+
+    private static PrefetchedRelationships prefetched() {
+        return prefetched.get();
+    }
+}
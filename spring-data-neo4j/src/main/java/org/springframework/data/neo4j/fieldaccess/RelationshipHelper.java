@@ -24,6 +24,7 @@ import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.support.typerepresentation.LabelBasedNodeTypeRepresentationStrategy;
 import org.springframework.util.Assert;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
@@ -48,6 +49,8 @@ public class RelationshipHelper {
     }
 
     private Iterable<Node> getOtherNodes(Node node) {
+        final Collection<Node> prefetched = PrefetchedRelationships.get(node, type.name(), direction);
+        if (prefetched != null) return prefetched;
         final Set<Node> result = new HashSet<>();
         for (final Relationship rel : node.getRelationships(type, direction)) {
             result.add(rel.getOtherNode(node));
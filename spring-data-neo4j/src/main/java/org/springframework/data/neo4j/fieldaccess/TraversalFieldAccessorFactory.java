@@ -22,6 +22,7 @@ import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.traversal.TraversalDescription;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.neo4j.annotation.GraphTraversal;
+import org.springframework.data.neo4j.core.CypherTraversalDescription;
 import org.springframework.data.neo4j.core.FieldTraversalDescriptionBuilder;
 
 
@@ -30,6 +31,10 @@ import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 
 import java.lang.reflect.Constructor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.neo4j.helpers.collection.MapUtil.map;
 
 import static org.springframework.data.neo4j.support.DoReturn.doReturn;
 
@@ -64,6 +69,7 @@ public class TraversalFieldAccessorFactory implements FieldAccessorFactory {
         private final FieldTraversalDescriptionBuilder fieldTraversalDescriptionBuilder;
 	    private Class<?> target;
         protected String[] params;
+        private final ConcurrentMap<CypherTraversalDescription, String> cypherQueries = new ConcurrentHashMap<>();
 
         public TraversalFieldAccessor(final Neo4jPersistentProperty property, Neo4jTemplate template) {
 	        this.property = property;
@@ -112,9 +118,30 @@ public class TraversalFieldAccessorFactory implements FieldAccessorFactory {
 	    @Override
 	    public Object getValue(final Object entity, MappingPolicy mappingPolicy) {
 	        final TraversalDescription traversalDescription = fieldTraversalDescriptionBuilder.build(entity, property,params);
+            final String query = cypherQuery(traversalDescription);
+            if (query != null) {
+                final Node startNode = template.getPersistentState(entity);
+                return doReturn(template.query(query, map("start", startNode.getId())).to(target));
+            }
             return doReturn(template.traverse(entity, target, traversalDescription));
 	    }
 
+        /**
+         * @return the Cypher query for a translatable {@link CypherTraversalDescription} that returns nodes, node
+         * entities or paths, translated once per distinct description, null otherwise
+         */
+        private String cypherQuery(TraversalDescription traversalDescription) {
+            if (!(traversalDescription instanceof CypherTraversalDescription)) return null;
+            final CypherTraversalDescription description = (CypherTraversalDescription) traversalDescription;
+            final String cached = cypherQueries.get(description);
+            if (cached != null) return cached;
+            final boolean returnPaths = Path.class.isAssignableFrom(target);
+            if (!returnPaths && !Node.class.isAssignableFrom(target) && !template.isNodeEntity(target)) return null;
+            final String query = description.toCypher(returnPaths);
+            if (query != null) cypherQueries.putIfAbsent(description, query);
+            return query;
+        }
+
 
 	    private FieldTraversalDescriptionBuilder createTraversalDescription(final GraphTraversal graphEntityTraversal) {
 	        try {
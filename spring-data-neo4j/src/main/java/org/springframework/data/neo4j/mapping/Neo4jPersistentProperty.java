@@ -98,4 +98,9 @@ public interface Neo4jPersistentProperty extends PersistentProperty<Neo4jPersist
     boolean isTargetTypeEnforced();
     
     boolean isIndexedNumerically();
+
+    /**
+     * @return the position of the property within its owning entity, assigned when it is added to the entity, -1 if unassigned
+     */
+    int getOrdinal();
 }
@@ -0,0 +1,135 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.querydsl;
+
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelationshipEntity;
+import org.springframework.data.neo4j.config.BasePackageScanner;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes the names of all @NodeEntity and @RelationshipEntity classes of the compilation (including the subclasses of
+ * entities, as both annotations are inherited) to {@link BasePackageScanner#ENTITY_INDEX}. As with the classpath scan only
+ * concrete top level or static nested classes are included. If that index is on the
+ * classpath, {@link BasePackageScanner} reads the entity classes from it instead of scanning the classpath.
+ * <p/>
+ * The index only contains the classes of one compilation, so incremental builds that compile only some of the
+ * sources have to run a full build for an up to date index.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+@SupportedAnnotationTypes("*")
+public class EntityIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> entities = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            for (Element element : roundEnv.getRootElements()) {
+                collectEntities(element);
+            }
+        }
+        return false;
+    }
+
+    private void collectEntities(Element element) {
+        if (!(element.getKind().isClass() || element.getKind().isInterface())) return;
+        final TypeElement type = (TypeElement) element;
+        if (type.getKind() == ElementKind.CLASS && isCandidate(type) && isEntity(type)) {
+            entities.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            collectEntities(enclosed);
+        }
+    }
+
+    private boolean isCandidate(TypeElement type) {
+        final Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT)) return false;
+        return type.getNestingKind() == NestingKind.TOP_LEVEL || modifiers.contains(Modifier.STATIC);
+    }
+
+    private boolean isEntity(TypeElement type) {
+        for (TypeElement current = type; current != null; current = superClass(current)) {
+            for (AnnotationMirror annotation : current.getAnnotationMirrors()) {
+                final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+                if (isEntityAnnotation(annotationType)) return true;
+                for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+                    if (isEntityAnnotation((TypeElement) metaAnnotation.getAnnotationType().asElement())) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isEntityAnnotation(TypeElement annotationType) {
+        final String name = annotationType.getQualifiedName().toString();
+        return name.equals(NodeEntity.class.getName()) || name.equals(RelationshipEntity.class.getName());
+    }
+
+    private TypeElement superClass(TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) return null;
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private void writeIndex() {
+        if (entities.isEmpty()) return;
+        try {
+            final FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", BasePackageScanner.ENTITY_INDEX);
+            try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String entity : entities) {
+                    writer.write(entity);
+                    writer.write('\n');
+                }
+            }
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Wrote " + entities.size() + " entities to " + BasePackageScanner.ENTITY_INDEX);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write " + BasePackageScanner.ENTITY_INDEX + ": " + e);
+        }
+    }
+}
@@ -22,17 +22,21 @@ import org.neo4j.graphdb.PropertyContainer;
 import org.neo4j.graphdb.index.IndexHits;
 import org.neo4j.graphdb.index.ReadableIndex;
 import org.neo4j.helpers.collection.ClosableIterable;
+import org.neo4j.helpers.collection.IteratorUtil;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.domain.*;
 import org.springframework.data.geo.Box;
 import org.springframework.data.geo.Circle;
 import org.springframework.data.geo.Shape;
 import org.springframework.data.neo4j.conversion.Result;
+import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.repository.query.CypherQuery;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
+import org.springframework.data.neo4j.template.GraphCallback;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -40,6 +44,10 @@ import java.util.List;
 
 import static java.lang.String.format;
 import static org.neo4j.helpers.collection.MapUtil.map;
+import static org.springframework.data.neo4j.repository.query.QueryTemplates.AFTER_ID_PARAMETER;
+import static org.springframework.data.neo4j.repository.query.QueryTemplates.AFTER_PARAMETER;
+import static org.springframework.data.neo4j.repository.query.QueryTemplates.LIMIT_PARAMETER;
+import static org.springframework.data.neo4j.repository.query.QueryTemplates.SKIP_PARAMETER;
 
 /**
  * Repository like finder for Node and Relationship-Entities. Provides finder methods for direct access, access via {@link org.springframework.data.neo4j.core.TypeRepresentationStrategy}
@@ -51,6 +59,8 @@ import static org.neo4j.helpers.collection.MapUtil.map;
 @Transactional(readOnly = true)
 public abstract class AbstractGraphRepository<S extends PropertyContainer, T> implements
         GraphRepository<T>, NamedIndexRepository<T>, SpatialRepository<T>, CypherDslRepository<T> {
+    static final int DELETE_CHUNK_SIZE = 1000;
+
     private final LegacyIndexSearcher<S,T> legacyIndexSearcher;
     private final GeoQueries<S,T> geoQueries;
 
@@ -99,10 +109,14 @@ public abstract class AbstractGraphRepository<S extends PropertyContainer, T> im
     @Override
     @Transactional
     public <U extends T> Iterable<U> save(Iterable<U> entities) {
+        if (entities instanceof Collection) {
+            return template.saveAll((Collection<U>) entities);
+        }
+        final List<U> list = new ArrayList<>();
         for (U entity : entities) {
-            save(entity);
+            list.add(entity);
         }
-        return entities;
+        return template.saveAll(list);
     }
     
     /**
@@ -290,15 +304,33 @@ public abstract class AbstractGraphRepository<S extends PropertyContainer, T> im
     @Override
     @Transactional
     public void delete(Iterable<? extends T> entities) {
-        for (T entity : entities) {
-            delete(entity);
-        }
+        template.deleteAll(IteratorUtil.addToCollection(entities, new ArrayList<T>()));
     }
 
+    /**
+     * Deletes the entities in chunks of {@link #DELETE_CHUNK_SIZE}, each chunk in its own transaction unless a
+     * transaction is already running, so that huge types don't have to be loaded or deleted at once.
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteAll() {
-        delete(findAll());
+        boolean more = true;
+        while (more) {
+            more = template.exec(new GraphCallback<Boolean>() {
+                @Override
+                public Boolean doWithGraph(GraphDatabase graph) throws Exception {
+                    final List<T> chunk = new ArrayList<T>(DELETE_CHUNK_SIZE);
+                    try (Result<T> entities = findAll()) {
+                        for (T entity : entities) {
+                            chunk.add(entity);
+                            if (chunk.size() == DELETE_CHUNK_SIZE) break;
+                        }
+                    }
+                    template.deleteAll(chunk);
+                    return chunk.size() == DELETE_CHUNK_SIZE;
+                }
+            });
+        }
     }
 
     @Override
@@ -316,11 +348,26 @@ public abstract class AbstractGraphRepository<S extends PropertyContainer, T> im
     public Page<T> findAll(final Pageable pageable) {
         int count = pageable.getPageSize();
         int offset = pageable.getOffset();
-        Result<T> foundEntities = findAll(pageable.getSort());
-        final Iterator<T> iterator = foundEntities.iterator();
-        final PageImpl<T> page = extractPage(pageable, count, offset, iterator);
-        foundEntities.finish();
-        return page;
+        CypherQuery cq = new CypherQuery(template.getEntityType(clazz).getEntity(),template, template.isLabelBased(), null);
+        Result<T> foundEntities = query(cq.toPagedQueryString(pageable.getSort()), map(SKIP_PARAMETER, offset, LIMIT_PARAMETER, count));
+        final List<T> content = IteratorUtil.addToCollection(foundEntities, new ArrayList<T>(count));
+        final boolean lastPage = content.size() < count && (offset == 0 || !content.isEmpty());
+        final long total = lastPage ? offset + content.size() : count();
+        return new PageImpl<T>(content, pageable, total);
+    }
+
+    @Override
+    public Slice<T> findAllAfter(Object lastValue, Long lastId, Pageable pageable) {
+        int count = pageable.getPageSize();
+        CypherQuery cq = new CypherQuery(template.getEntityType(clazz).getEntity(),template, template.isLabelBased(), null);
+        final boolean after = lastValue != null && lastId != null;
+        final Map<String, Object> params = after
+                ? map(LIMIT_PARAMETER, count + 1, AFTER_PARAMETER, lastValue, AFTER_ID_PARAMETER, lastId)
+                : map(LIMIT_PARAMETER, count + 1);
+        Result<T> foundEntities = query(cq.toKeysetQueryString(pageable.getSort(), after), params);
+        final List<T> content = IteratorUtil.addToCollection(foundEntities, new ArrayList<T>(count + 1));
+        final boolean hasNext = content.size() > count;
+        return new SliceImpl<T>(hasNext ? content.subList(0, count) : content, pageable, hasNext);
     }
 
     @Override
@@ -328,58 +375,11 @@ public abstract class AbstractGraphRepository<S extends PropertyContainer, T> im
         return new Iterable<T>() {
             @Override
             public Iterator<T> iterator() {
-                final Iterator<Long> idIterator = ids.iterator();
-                return new Iterator<T>() {
-
-                     @Override
-                     public boolean hasNext() {
-                         return idIterator.hasNext();
-                     }
-
-                     @Override
-                     public T next() {
-                          return template.findOne(idIterator.next(), clazz);
-                     }
-
-                     @Override
-                     public void remove() {
-                          throw new UnsupportedOperationException();
-                     }
-                };
+                return template.findAll(ids, clazz).iterator();
             }
         };
     }
 
-    private PageImpl<T> extractPage(Pageable pageable, int count, int offset, Iterator<T> iterator) {
-        final List<T> result = new ArrayList<T>(count);
-        int total=subList(offset, count, iterator, result);
-        if (iterator.hasNext()) total++;
-        return new PageImpl<T>(result, pageable, total);
-    }
-
-    private SliceImpl<T> extractSlice(Pageable pageable, int count, int offset, Iterator<T> iterator) {
-        final List<T> result = new ArrayList<T>(count);
-        int total=subList(offset, count, iterator, result);
-        boolean hasNext = iterator.hasNext();
-        return new SliceImpl<>(result, pageable, hasNext);
-    }
-
-    private int subList(int skip, int limit, Iterator<T> source, final List<T> list) {
-        int count=0;
-        while (source.hasNext()) {
-            count++;
-            T t = source.next();
-            if (skip > 0) {
-                skip--;
-            } else {
-                list.add(t);
-                limit--;
-            }
-            if (limit + skip == 0) break;
-        }
-        return count;
-    }
-
     @SuppressWarnings("unchecked")
     @Override
     public Page<T> query(Execute query, Execute countQuery, Map<String, Object> params, Pageable page) {
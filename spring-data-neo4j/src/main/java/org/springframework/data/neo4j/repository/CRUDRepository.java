@@ -18,6 +18,8 @@ package org.springframework.data.neo4j.repository;
 
 import java.util.Map;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.conversion.Result;
 import org.springframework.data.repository.NoRepositoryBean;
@@ -51,6 +53,18 @@ public interface CRUDRepository<T> extends PagingAndSortingRepository<T, Long> {
     Result<T> findAll(Sort sort);
 
 
+    /**
+     * keyset (seek) pagination on the first sort property of the pageable, instead of skipping over the previous pages
+     * the query continues after the last entity of the previous slice, the offset of the pageable is ignored
+     * entities with the same value of the sort property are ordered by their id
+     * @param lastValue the value of the sort property of the last entity of the previous slice, null for the first slice
+     * @param lastId the id of the last entity of the previous slice, null for the first slice
+     * @param pageable page size and sort of the slice
+     * @return the next slice of elements of the repository type
+     */
+    Slice<T> findAllAfter(Object lastValue, Long lastId, Pageable pageable);
+
+
     Class getStoredJavaType(Object entity);
 
     
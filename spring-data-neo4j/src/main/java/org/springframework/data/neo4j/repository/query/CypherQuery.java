@@ -198,10 +198,16 @@ public class CypherQuery implements CypherQueryDefinition {
     }
 
     private String render() {
+        return render(null);
+    }
+
+    private String render(String additionalCondition) {
 
         String startClauses = collectionToDelimitedString(this.startClauses, ", ");
         String matchClauses = toQueryString(this.matchClauses);
-        String whereClauses = collectionToDelimitedString(this.whereClauses, " AND ");
+        List<Object> conditions = new ArrayList<Object>(this.whereClauses);
+        if (additionalCondition != null) conditions.add(additionalCondition);
+        String whereClauses = collectionToDelimitedString(conditions, " AND ");
 
         StringBuilder builder = new StringBuilder("");
         boolean startClauseInUse = renderStartClauses(builder, startClauses);
@@ -326,6 +332,31 @@ public class CypherQuery implements CypherQueryDefinition {
         return builder.toString().trim();
     }
 
+    @Override
+    public String toPagedQueryString(Sort sort) {
+        if (sort == null || !sort.iterator().hasNext()) {
+            // without an order the rows of consecutive pages may overlap
+            final String id = String.format(QueryTemplates.KEYSET_ID, getEntityName(entity));
+            return (render() + addSorts(new Sort(id)) + QueryTemplates.SKIP_LIMIT_PLACEHOLDERS).trim();
+        }
+        return (toQueryString(sort) + QueryTemplates.SKIP_LIMIT_PLACEHOLDERS).trim();
+    }
+
+    @Override
+    public String toKeysetQueryString(Sort sort, boolean after) {
+        if (sort == null || !sort.iterator().hasNext()) {
+            throw new IllegalArgumentException("Keyset pagination requires a sort property");
+        }
+        final Sort.Order order = getEntityAwareOrderRef(sort.iterator().next());
+        // the id breaks ties of the sort property, so no rows with the same value as the last one are skipped
+        final String id = String.format(QueryTemplates.KEYSET_ID, getEntityName(entity));
+        final String condition = after ? String.format(QueryTemplates.KEYSET_CLAUSE, order.getProperty(), order.isAscending() ? ">" : "<", id) : null;
+        StringBuilder builder = new StringBuilder(render(condition));
+        builder.append(addSorts(new Sort(order, new Sort.Order(order.getDirection(), id))));
+        builder.append(QueryTemplates.LIMIT_PLACEHOLDER);
+        return builder.toString().trim();
+    }
+
     @Override
     public String toString() {
         return toQueryString();
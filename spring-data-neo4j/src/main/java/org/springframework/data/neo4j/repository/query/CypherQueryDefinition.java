@@ -52,4 +52,26 @@ interface CypherQueryDefinition extends ParameterResolver {
      * @return
      */
     String toQueryString(Pageable pageable);
+
+    /**
+     * Returns a Cypher query adding the given {@link Sort}, skip and limit are added as the parameters
+     * {@link QueryTemplates#SKIP_PARAMETER} and {@link QueryTemplates#LIMIT_PARAMETER}, so that the query string
+     * doesn't change from page to page. Without a sort the rows are ordered by node id, so that pages don't overlap.
+     *
+     * @param sort
+     * @return
+     */
+    String toPagedQueryString(Sort sort);
+
+    /**
+     * Returns a Cypher query for keyset pagination on the first order of the given {@link Sort}, with the node id as
+     * tie breaker. If <code>after</code> only the rows following the parameters {@link QueryTemplates#AFTER_PARAMETER}
+     * (value) and {@link QueryTemplates#AFTER_ID_PARAMETER} (id) in sort order are returned, the number of rows is
+     * limited by the parameter {@link QueryTemplates#LIMIT_PARAMETER}.
+     *
+     * @param sort
+     * @param after
+     * @return
+     */
+    String toKeysetQueryString(Sort sort, boolean after);
 }
@@ -29,7 +29,10 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.Assert;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * {@link RepositoryQuery} implementation that derives a Cypher query from the {@link GraphQueryMethod}'s method name.
@@ -39,7 +42,9 @@ import java.util.Map;
 public class DerivedCypherRepositoryQuery extends CypherGraphRepositoryQuery {
 
     public static final Logger log = LoggerFactory.getLogger(DerivedCypherRepositoryQuery.class);
+    private static final int MAX_CACHED_QUERY_STRINGS = 256;
     private final CypherQueryDefinition query;
+    private final ConcurrentMap<QueryShape, String> queryStrings = new ConcurrentHashMap<QueryShape, String>();
 
     /**
      * Creates a new {@link DerivedCypherRepositoryQuery} from the given {@link MappingContext},
@@ -66,18 +71,67 @@ public class DerivedCypherRepositoryQuery extends CypherGraphRepositoryQuery {
     }
 
     /**
-     * Returns the actual Cypher query applying {@link Pageable} or {@link Sort} instances.
+     * Adds skip and limit of the {@link Pageable} as parameters, see {@link #createQueryWithPagingAndSorting(ParameterAccessor)}.
+     * For {@link org.springframework.data.domain.Page} and {@link org.springframework.data.domain.Slice} results one more
+     * row than the page size is requested to tell if there is a next page.
+     */
+    @Override
+    protected Map<String, Object> resolveParams(ParameterAccessor accessor) {
+        final Map<String, Object> params = super.resolveParams(accessor);
+        final Pageable pageable = accessor.getPageable();
+        if (pageable == null) return params;
+        final Map<String, Object> result = new HashMap<String, Object>(params);
+        result.put(QueryTemplates.SKIP_PARAMETER, pageable.getOffset());
+        final GraphQueryMethod queryMethod = getQueryMethod();
+        final boolean paged = queryMethod.isPageQuery() || queryMethod.isSliceQuery();
+        result.put(QueryTemplates.LIMIT_PARAMETER, paged ? pageable.getPageSize() + 1 : pageable.getPageSize());
+        return result;
+    }
+
+    /**
+     * Returns the actual Cypher query applying {@link Pageable} or {@link Sort} instances. Skip and limit are
+     * parameters, so the query string only depends on the sort orders and whether paging is requested and is cached
+     * for each of these combinations.
      * 
      * @param accessor parameters
      * @return query string
      */
     protected String createQueryWithPagingAndSorting(ParameterAccessor accessor) {
-        if (accessor.getPageable() != null) {
-            return query.toQueryString(accessor.getPageable());
-        } else if (accessor.getSort() != null) {
-            return query.toQueryString(accessor.getSort());
+        final Pageable pageable = accessor.getPageable();
+        final QueryShape shape = pageable != null ? new QueryShape(pageable.getSort(), true) : new QueryShape(accessor.getSort(), false);
+        String queryString = queryStrings.get(shape);
+        if (queryString != null) return queryString;
+        if (shape.paged) {
+            queryString = query.toPagedQueryString(shape.sort);
         } else {
-            return query.toQueryString();
+            queryString = shape.sort == null ? query.toQueryString() : query.toQueryString(shape.sort);
+        }
+        // sorts can come from user input, don't grow without bounds
+        if (queryStrings.size() < MAX_CACHED_QUERY_STRINGS) queryStrings.putIfAbsent(shape, queryString);
+        return queryString;
+    }
+
+    private static class QueryShape {
+        private final Sort sort;
+        private final boolean paged;
+
+        QueryShape(Sort sort, boolean paged) {
+            this.sort = sort;
+            this.paged = paged;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            QueryShape that = (QueryShape) o;
+            return paged == that.paged && (sort == null ? that.sort == null : sort.equals(that.sort));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (sort != null ? sort.hashCode() : 0) + (paged ? 1 : 0);
         }
     }
 }
@@ -16,6 +16,7 @@
 package org.springframework.data.neo4j.repository.query;
 
 import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.conversion.Result;
 import org.springframework.data.neo4j.support.GenericTypeExtractor;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
@@ -138,6 +139,13 @@ public class GraphQueryMethod extends QueryMethod {
         return hasResultOfType(Iterable.class);
     }
 
+    /**
+     * @return true if the method returns a lazily converted {@link Result} that the caller iterates and closes
+     */
+    boolean isLazyResult() {
+        return hasResultOfType(Result.class);
+    }
+
     public RepositoryQuery createQuery(final Neo4jTemplate template) {
         if (queryAnnotation == null) {
             if (namedQueries.hasQuery(getNamedQueryName())) {
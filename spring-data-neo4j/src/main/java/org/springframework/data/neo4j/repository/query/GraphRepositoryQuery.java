@@ -108,11 +108,14 @@ abstract class GraphRepositoryQuery implements RepositoryQuery, ParameterResolve
         Result<?> queryResult = queryEngine.query(queryString, params);
         Class<?> returnType = queryMethod.getReturnType();
         if (queryMethod.isPageQuery() || queryMethod.isSliceQuery()) {
-            @SuppressWarnings("unchecked") final Iterable<?> result = queryResult.to(compoundType);
-            Long count = computeCount(params);
+            final List<?> result = IteratorUtil.addToCollection(queryResult.to(compoundType), new ArrayList());
+            Long count = queryMethod.isPageQuery() && !isLastPage(result, accessor.getPageable()) ? computeCount(params) : null;
             return createPage(result, accessor.getPageable(), count, queryMethod.isPageQuery());
         }
 
+        if (queryMethod.isLazyResult()) {
+            return queryResult.to(compoundType);
+        }
         if (queryMethod.isIterableResult()) {
             Class<? extends Iterable> collectionType = (Class<? extends Iterable>) returnType;
             return queryResult.to(compoundType).as(collectionType);
@@ -120,6 +123,15 @@ abstract class GraphRepositoryQuery implements RepositoryQuery, ParameterResolve
         return queryResult.to(returnType).singleOrNull();
     }
 
+    /**
+     * Paged queries fetch one row more than the page size, if it is missing this is the last page and the total is
+     * known without running the count query.
+     */
+    private boolean isLastPage(List<?> result, Pageable pageable) {
+        if (pageable == null) return true;
+        return result.size() <= pageable.getPageSize() && (pageable.getOffset() == 0 || !result.isEmpty());
+    }
+
     private Long computeCount(Map<String, Object> params) {
         String countQuery = queryMethod.getCountQueryString();
         if (countQuery == null || !StringUtils.hasText(countQuery)) return null;
@@ -134,7 +146,7 @@ abstract class GraphRepositoryQuery implements RepositoryQuery, ParameterResolve
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected Object createPage(Iterable<?> result, Pageable pageable, Long count, boolean isPageQuery) {
-        final List resultList = IteratorUtil.addToCollection(result, new ArrayList());
+        final List resultList = result instanceof List ? (List) result : IteratorUtil.addToCollection(result, new ArrayList());
         if (pageable==null) {
             return isPageQuery ? new PageImpl(resultList) : new SliceImpl(resultList);
         }
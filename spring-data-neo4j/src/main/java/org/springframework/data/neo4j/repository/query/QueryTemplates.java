@@ -51,6 +51,14 @@ public abstract class QueryTemplates {
 
     public static final String START_NODE_LOOKUP = "`%s`=node({%s})";
     static final String SKIP_LIMIT = " SKIP %d LIMIT %d";
+    public static final String SKIP_PARAMETER = "_skip";
+    public static final String LIMIT_PARAMETER = "_limit";
+    static final String SKIP_LIMIT_PLACEHOLDERS = " SKIP {" + SKIP_PARAMETER + "} LIMIT {" + LIMIT_PARAMETER + "}";
+    static final String LIMIT_PLACEHOLDER = " LIMIT {" + LIMIT_PARAMETER + "}";
+    public static final String AFTER_PARAMETER = "_after";
+    public static final String AFTER_ID_PARAMETER = "_afterId";
+    static final String KEYSET_ID = "id(`%s`)";
+    static final String KEYSET_CLAUSE = "(%1$s %2$s {" + AFTER_PARAMETER + "} OR (%1$s = {" + AFTER_PARAMETER + "} AND %3$s %2$s {" + AFTER_ID_PARAMETER + "}))";
     static final String START_CLAUSE_INDEX_LOOKUP = "`%s`=node:`%s`(`%s`=" + PLACEHOLDER + ")";
     static final String START_CLAUSE_INDEX_QUERY = "`%s`=node:`%s`(" + PLACEHOLDER + ")";
     static final String WHERE_CLAUSE_1 = "`%1$s`.`%2$s` %3$s {%4$s}";
@@ -95,6 +95,15 @@ public class DelegatingGraphDatabase implements GraphDatabase {
         return delegate.getNodeById(id);
     }
 
+    @Override
+    public List<Node> getNodesByIds(Collection<Long> ids) {
+        List<Node> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            result.add(delegate.getNodeById(id));
+        }
+        return result;
+    }
+
     @Override
     public Node createNode(Map<String, Object> props, Collection<String> labels) {
         return setProperties(delegate.createNode(toLabels(labels)), props);
@@ -24,6 +24,7 @@ import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
 import org.springframework.data.neo4j.support.index.IndexProvider;
 import org.springframework.data.neo4j.support.mapping.EntityRemover;
+import org.springframework.data.neo4j.support.mapping.EntitySnapshots;
 import org.springframework.data.neo4j.support.mapping.EntityStateHandler;
 import org.springframework.data.neo4j.support.mapping.Neo4jEntityPersister;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
@@ -73,4 +74,9 @@ public interface Infrastructure {
     SchemaIndexProvider getSchemaIndexProvider();
 
     CypherQueryExecutor getCypherQueryExecutor();
+
+    /**
+     * @return the snapshots used to write only changed values on save, null if dirty tracking is disabled
+     */
+    EntitySnapshots getEntitySnapshots();
 }
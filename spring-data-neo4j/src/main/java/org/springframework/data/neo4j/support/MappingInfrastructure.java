@@ -24,6 +24,7 @@ import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
 import org.springframework.data.neo4j.support.index.IndexProvider;
 import org.springframework.data.neo4j.support.mapping.EntityRemover;
+import org.springframework.data.neo4j.support.mapping.EntitySnapshots;
 import org.springframework.data.neo4j.support.mapping.EntityStateHandler;
 import org.springframework.data.neo4j.support.mapping.Neo4jEntityPersister;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
@@ -60,8 +61,9 @@ public class MappingInfrastructure implements Infrastructure {
     private final GraphDatabaseService graphDatabaseService;
     private final GraphDatabase graphDatabase;
     private final TypeSafetyPolicy typeSafetyPolicy;
+    private final EntitySnapshots entitySnapshots;
 
-    public MappingInfrastructure(GraphDatabase graphDatabase, GraphDatabaseService graphDatabaseService, IndexProvider indexProvider, ResultConverter resultConverter, PlatformTransactionManager transactionManager, TypeRepresentationStrategies typeRepresentationStrategies, EntityRemover entityRemover, Neo4jEntityPersister entityPersister, EntityStateHandler entityStateHandler, CypherQueryExecutor cypherQueryExecutor, Neo4jMappingContext mappingContext, TypeRepresentationStrategy<Relationship> relationshipTypeRepresentationStrategy, TypeRepresentationStrategy<Node> nodeTypeRepresentationStrategy, Validator validator, ConversionService conversionService, SchemaIndexProvider schemaIndexProvider, TypeSafetyPolicy typeSafetyPolicy) {
+    public MappingInfrastructure(GraphDatabase graphDatabase, GraphDatabaseService graphDatabaseService, IndexProvider indexProvider, ResultConverter resultConverter, PlatformTransactionManager transactionManager, TypeRepresentationStrategies typeRepresentationStrategies, EntityRemover entityRemover, Neo4jEntityPersister entityPersister, EntityStateHandler entityStateHandler, CypherQueryExecutor cypherQueryExecutor, Neo4jMappingContext mappingContext, TypeRepresentationStrategy<Relationship> relationshipTypeRepresentationStrategy, TypeRepresentationStrategy<Node> nodeTypeRepresentationStrategy, Validator validator, ConversionService conversionService, SchemaIndexProvider schemaIndexProvider, TypeSafetyPolicy typeSafetyPolicy, EntitySnapshots entitySnapshots) {
         this.graphDatabase = graphDatabase;
         this.graphDatabaseService = graphDatabaseService;
         this.indexProvider = indexProvider;
@@ -79,6 +81,7 @@ public class MappingInfrastructure implements Infrastructure {
         this.conversionService = conversionService;
         this.schemaIndexProvider = schemaIndexProvider;
         this.typeSafetyPolicy = typeSafetyPolicy;
+        this.entitySnapshots = entitySnapshots;
     }
 
     @Override
@@ -165,4 +168,9 @@ public class MappingInfrastructure implements Infrastructure {
     public CypherQueryExecutor getCypherQueryExecutor() {
         return cypherQueryExecutor;
     }
+
+    @Override
+    public EntitySnapshots getEntitySnapshots() {
+        return entitySnapshots;
+    }
 }
@@ -32,11 +32,14 @@ import org.springframework.data.neo4j.mapping.EntityInstantiator;
 import org.springframework.data.neo4j.support.conversion.EntityResultConverter;
 import org.springframework.data.neo4j.support.index.IndexProvider;
 import org.springframework.data.neo4j.support.index.IndexProviderImpl;
+import org.springframework.data.neo4j.support.mapping.AbstractConstructorEntityInstantiator;
 import org.springframework.data.neo4j.support.mapping.EntityRemover;
+import org.springframework.data.neo4j.support.mapping.EntitySnapshots;
 import org.springframework.data.neo4j.support.mapping.EntityStateHandler;
 import org.springframework.data.neo4j.support.mapping.EntityTools;
 import org.springframework.data.neo4j.support.mapping.Neo4jEntityPersister;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.support.mapping.Neo4jPersistentEntityImpl;
 import org.springframework.data.neo4j.support.node.EntityStateFactory;
 import org.springframework.data.neo4j.support.node.NodeEntityInstantiator;
 import org.springframework.data.neo4j.support.node.NodeEntityStateFactory;
@@ -44,6 +47,9 @@ import org.springframework.data.neo4j.support.query.CypherQueryExecutor;
 import org.springframework.data.neo4j.support.relationship.RelationshipEntityInstantiator;
 import org.springframework.data.neo4j.support.relationship.RelationshipEntityStateFactory;
 import org.springframework.data.neo4j.support.schema.SchemaIndexProvider;
+import org.springframework.data.neo4j.support.typerepresentation.LabelBasedNodeTypeRepresentationStrategy;
+import org.springframework.data.neo4j.support.typerepresentation.SingleLabelBasedNodeTypeRepresentationStrategy;
+import org.springframework.data.neo4j.support.typerepresentation.TypeCountCache;
 import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategies;
 import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategyFactory;
 import org.springframework.data.neo4j.support.typesafety.TypeSafetyPolicy;
@@ -85,6 +91,9 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
 
     private MappingInfrastructure mappingInfrastructure;
     private TypeRepresentationStrategyFactory.Strategy typeRepresentationStrategy;
+    private long countCacheTimeToLive;
+    private boolean dirtyTracking;
+    private boolean generatedAccessors;
 
     public MappingInfrastructureFactoryBean(GraphDatabase graphDatabase, PlatformTransactionManager transactionManager) {
         this.graphDatabase = graphDatabase;
@@ -131,12 +140,28 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         if (relationshipEntityInstantiator == null) {
             relationshipEntityInstantiator = new RelationshipEntityInstantiator(entityStateHandler);
         }
+        if (generatedAccessors) {
+            mappingContext.setGeneratedAccessors(true);
+            if (nodeEntityInstantiator instanceof AbstractConstructorEntityInstantiator) {
+                ((AbstractConstructorEntityInstantiator<Node>) nodeEntityInstantiator).setGeneratedAccessors(true);
+            }
+            if (relationshipEntityInstantiator instanceof AbstractConstructorEntityInstantiator) {
+                ((AbstractConstructorEntityInstantiator<Relationship>) relationshipEntityInstantiator).setGeneratedAccessors(true);
+            }
+        }
+        warmUpInstantiators();
         if (this.typeRepresentationStrategyFactory == null) {
             this.typeRepresentationStrategyFactory = typeRepresentationStrategy!=null ? new TypeRepresentationStrategyFactory(graphDatabase,typeRepresentationStrategy) : new TypeRepresentationStrategyFactory(graphDatabase);
         }
         if (this.nodeTypeRepresentationStrategy == null) {
             this.nodeTypeRepresentationStrategy = typeRepresentationStrategyFactory.getNodeTypeRepresentationStrategy();
         }
+        if (nodeTypeRepresentationStrategy instanceof LabelBasedNodeTypeRepresentationStrategy) {
+            ((LabelBasedNodeTypeRepresentationStrategy) nodeTypeRepresentationStrategy).setLabelStatementRegistry(mappingContext.getLabelStatementRegistry());
+        }
+        if (nodeTypeRepresentationStrategy instanceof SingleLabelBasedNodeTypeRepresentationStrategy) {
+            ((SingleLabelBasedNodeTypeRepresentationStrategy) nodeTypeRepresentationStrategy).setLabelStatementRegistry(mappingContext.getLabelStatementRegistry());
+        }
         if (this.relationshipTypeRepresentationStrategy == null) {
             this.relationshipTypeRepresentationStrategy = typeRepresentationStrategyFactory.getRelationshipTypeRepresentationStrategy();
         }
@@ -147,6 +172,9 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
             this.relationshipEntityStateFactory = new RelationshipEntityStateFactory(mappingContext, new RelationshipDelegatingFieldAccessorFactory.Factory());
         }
         this.typeRepresentationStrategies = new TypeRepresentationStrategies(mappingContext, nodeTypeRepresentationStrategy, relationshipTypeRepresentationStrategy);
+        if (countCacheTimeToLive > 0) {
+            this.typeRepresentationStrategies.setCountCache(new TypeCountCache(countCacheTimeToLive));
+        }
 
         final EntityStateHandler entityStateHandler = new EntityStateHandler(mappingContext, graphDatabase, conversionService);
         EntityTools<Node> nodeEntityTools = new EntityTools<Node>(nodeTypeRepresentationStrategy, nodeEntityStateFactory, nodeEntityInstantiator, mappingContext);
@@ -167,7 +195,7 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         if (this.typeSafetyPolicy == null) {
             this.typeSafetyPolicy = new TypeSafetyPolicy();
         }
-        this.mappingInfrastructure = new MappingInfrastructure(graphDatabase, graphDatabaseService, indexProvider, resultConverter, transactionManager, typeRepresentationStrategies, entityRemover, entityPersister, entityStateHandler, cypherQueryExecutor, mappingContext, relationshipTypeRepresentationStrategy, nodeTypeRepresentationStrategy, validator, conversionService, schemaIndexProvider, typeSafetyPolicy);
+        this.mappingInfrastructure = new MappingInfrastructure(graphDatabase, graphDatabaseService, indexProvider, resultConverter, transactionManager, typeRepresentationStrategies, entityRemover, entityPersister, entityStateHandler, cypherQueryExecutor, mappingContext, relationshipTypeRepresentationStrategy, nodeTypeRepresentationStrategy, validator, conversionService, schemaIndexProvider, typeSafetyPolicy, dirtyTracking ? new EntitySnapshots() : null);
         } catch (Exception e) {
             throw new RuntimeException("error initializing "+getClass().getName(),e);
         }
@@ -177,6 +205,20 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         this.transactionManager = transactionManager;
     }
 
+    /**
+     * creates the instantiators of the entities known to the mapping context up front, instead of on the first load
+     */
+    private void warmUpInstantiators() {
+        for (Neo4jPersistentEntityImpl<?> entity : mappingContext.getPersistentEntities()) {
+            if (entity.isNodeEntity() && nodeEntityInstantiator instanceof AbstractConstructorEntityInstantiator) {
+                ((AbstractConstructorEntityInstantiator<Node>) nodeEntityInstantiator).warmUp(entity.getType());
+            }
+            if (entity.isRelationshipEntity() && relationshipEntityInstantiator instanceof AbstractConstructorEntityInstantiator) {
+                ((AbstractConstructorEntityInstantiator<Relationship>) relationshipEntityInstantiator).warmUp(entity.getType());
+            }
+        }
+    }
+
     public void setRelationshipEntityInstantiator(EntityInstantiator<Relationship> relationshipEntityInstantiator) {
         this.relationshipEntityInstantiator = relationshipEntityInstantiator;
     }
@@ -307,6 +349,28 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         isNewStrategyFactory = newStrategyFactory;
     }
 
+    /**
+     * @param countCacheTimeToLive in millis, a positive value caches the counts per type for that long, see {@link TypeCountCache}
+     */
+    public void setCountCacheTimeToLive(long countCacheTimeToLive) {
+        this.countCacheTimeToLive = countCacheTimeToLive;
+    }
+
+    /**
+     * @param dirtyTracking if true, saving a loaded entity only writes the values that changed, see {@link EntitySnapshots}
+     */
+    public void setDirtyTracking(boolean dirtyTracking) {
+        this.dirtyTracking = dirtyTracking;
+    }
+
+    /**
+     * @param generatedAccessors if true, entities are instantiated and their fields accessed with method handles
+     * instead of by reflection
+     */
+    public void setGeneratedAccessors(boolean generatedAccessors) {
+        this.generatedAccessors = generatedAccessors;
+    }
+
     public void setTypeSafetyPolicy(TypeSafetyPolicy typeSafetyPolicy) {
         this.typeSafetyPolicy = typeSafetyPolicy;
     }
@@ -64,9 +64,7 @@ import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.validation.Validator;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Map;
+import java.util.*;
 
 import static java.lang.String.format;
 import static org.neo4j.helpers.collection.MapUtil.map;
@@ -201,6 +199,36 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
         throw new IllegalArgumentException("provided entity type is neither annotated with @NodeEntiy nor @RelationshipEntity");
     }
 
+    /**
+     * Loads the entities with the given ids, in the order of the ids. The nodes of node entities are fetched together,
+     * which over REST takes one or a few queries instead of one per id. Their related nodes are prefetched with one query
+     * per depth level, see {@link RelationshipPrefetcher}.
+     */
+    @Override
+    public <T> List<T> findAll(Iterable<Long> ids, final Class<T> entityClass) {
+        notNull(ids, "ids", entityClass, "entity type");
+        final Neo4jPersistentEntityImpl<?> persistentEntity = getPersistentEntity(entityClass);
+        final List<T> result = new ArrayList<>();
+        if (!persistentEntity.isNodeEntity()) {
+            for (Long id : ids) {
+                result.add(findOne(id, entityClass));
+            }
+            return result;
+        }
+        final List<Long> nodeIds = new ArrayList<>();
+        for (Long id : ids) {
+            if (id < 0) throw new InvalidDataAccessApiUsageException("id is negative");
+            nodeIds.add(id);
+        }
+        final List<Node> nodes;
+        try {
+            nodes = infrastructure.getGraphDatabase().getNodesByIds(nodeIds);
+        } catch (RuntimeException e) {
+            throw translateExceptionIfPossible(e);
+        }
+        return new RelationshipPrefetcher(this).load(nodes, entityClass, persistentEntity.getMappingPolicy());
+    }
+
     @Override
     public <T> Result<T> findAll(final Class<T> entityClass) {
         notNull(entityClass, "entity type");
@@ -267,10 +295,50 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
     @Override
     public void delete(final Object entity) {
 		if (applicationContext != null) applicationContext.publishEvent(new BeforeDeleteEvent<Object>(this, entity));
+        final StoredEntityType removedType = isCreatedOrRemovedCounted(entity) && infrastructure.getEntityStateHandler().hasPersistentState(entity) ? getEntityType(entity.getClass()) : null;
 		infrastructure.getEntityRemover().remove(entity);
+        infrastructure.getTypeRepresentationStrategies().entityRemoved(removedType);
 		if (applicationContext != null)	applicationContext.publishEvent(new AfterDeleteEvent<Object>(this, entity));
     }
 
+    @Override
+    public void deleteAll(Collection<?> entities) {
+        notNull(entities, "entities");
+        if (applicationContext != null) {
+            for (Object entity : entities) applicationContext.publishEvent(new BeforeDeleteEvent<Object>(this, entity));
+        }
+        final Set<Long> nodeIds = new LinkedHashSet<>();
+        final Set<Long> relationshipIds = new LinkedHashSet<>();
+        final List<StoredEntityType> removedTypes = new ArrayList<>();
+        for (Object entity : entities) {
+            if (entity instanceof Node) {
+                nodeIds.add(((Node) entity).getId());
+                continue;
+            }
+            if (entity instanceof Relationship) {
+                relationshipIds.add(((Relationship) entity).getId());
+                continue;
+            }
+            final Class<?> type = entity.getClass();
+            final Number id = getId(entity);
+            if (id == null) continue;
+            final boolean added;
+            if (isNodeEntity(type)) added = nodeIds.add(id.longValue());
+            else if (isRelationshipEntity(type)) added = relationshipIds.add(id.longValue());
+            else throw new IllegalArgumentException("@NodeEntity or @RelationshipEntity annotation required on domain class" + type);
+            // an entity listed twice is only removed once
+            if (added && isCreatedOrRemovedCounted(entity)) removedTypes.add(getEntityType(type));
+        }
+        infrastructure.getEntityRemover().removeRelationships(relationshipIds);
+        infrastructure.getEntityRemover().removeNodes(nodeIds);
+        for (StoredEntityType removedType : removedTypes) {
+            infrastructure.getTypeRepresentationStrategies().entityRemoved(removedType);
+        }
+        if (applicationContext != null) {
+            for (Object entity : entities) applicationContext.publishEvent(new AfterDeleteEvent<Object>(this, entity));
+        }
+    }
+
     /**
      * Delegates to {@link GraphDatabaseService}
      */
@@ -359,14 +427,57 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
         save(entity, null, getMappingPolicy(entity).combineWith(MappingPolicy.NO_RELOAD_POLICY));
     }
 
+    @Override
+    public <T> Collection<T> saveAll(Collection<T> entities) {
+        notNull(entities, "entities");
+        final NodeEntityBatchWriter batchWriter = new NodeEntityBatchWriter(this);
+        final List<T> batched = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            if (batchWriter.canWrite(entity)) batched.add(entity);
+        }
+        if (applicationContext != null) {
+            for (T entity : batched) applicationContext.publishEvent(new BeforeSaveEvent<T>(this, entity));
+        }
+        final List<T> created = batchWriter.write(batched);
+        if (isCountCached()) {
+            for (T entity : created) infrastructure.getTypeRepresentationStrategies().entityCreated(getEntityType(entity.getClass()));
+        }
+        if (applicationContext != null) {
+            for (T entity : batched) applicationContext.publishEvent(new AfterSaveEvent<T>(this, entity));
+        }
+        final Set<T> written = Collections.newSetFromMap(new IdentityHashMap<T, Boolean>());
+        written.addAll(batched);
+        final List<T> result = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            result.add(written.contains(entity) ? entity : save(entity));
+        }
+        return result;
+    }
+
     @SuppressWarnings("unchecked")
     public <T> T save(T entity, final RelationshipType annotationProvidedRelationshipType, MappingPolicy mappingPolicy) {
         if (applicationContext != null) applicationContext.publishEvent(new BeforeSaveEvent<T>(this, entity));
+        final boolean created = isCreatedOrRemovedCounted(entity) && !infrastructure.getEntityStateHandler().hasPersistentState(entity);
         T t = (T) infrastructure.getEntityPersister().persist(entity, mappingPolicy, this, annotationProvidedRelationshipType);
+        if (created) infrastructure.getTypeRepresentationStrategies().entityCreated(getEntityType(entity.getClass()));
         if (applicationContext != null) applicationContext.publishEvent(new AfterSaveEvent<T>(this, entity));
         return t;
     }
 
+    private boolean isCountCached() {
+        return infrastructure.getTypeRepresentationStrategies().getCountCache() != null;
+    }
+
+    /**
+     * creations and removals are only tracked for the count cache, and only for mapped entities, plain nodes and
+     * relationships are left to its reconciliation
+     */
+    private boolean isCreatedOrRemovedCounted(Object entity) {
+        if (entity == null || !isCountCached() || entity instanceof PropertyContainer) return false;
+        final Class<?> type = entity.getClass();
+        return isNodeEntity(type) || isRelationshipEntity(type);
+    }
+
     public boolean isManaged(Object entity) {
         return infrastructure.getEntityStateHandler().isManaged(entity);
     }
@@ -16,6 +16,7 @@
 
 package org.springframework.data.neo4j.support.conversion;
 
+import org.neo4j.graphdb.Transaction;
 import org.neo4j.helpers.collection.IteratorUtil;
 import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeanWrapperImpl;
@@ -23,6 +24,7 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.data.neo4j.annotation.MapResult;
 import org.springframework.data.neo4j.annotation.QueryResult;
 import org.springframework.data.neo4j.annotation.ResultColumn;
+import org.springframework.data.neo4j.conversion.ConversionScope;
 import org.springframework.data.neo4j.conversion.DefaultConverter;
 import org.springframework.data.neo4j.conversion.QueryResultBuilder;
 import org.springframework.data.neo4j.core.EntityPath;
@@ -30,18 +32,18 @@ import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.Neo4jTemplateAware;
 import org.springframework.data.neo4j.support.path.ConvertingEntityPath;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Proxy;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 /**
  * @author mh
  * @since 28.06.11
  */
-public class EntityResultConverter<T, R> extends DefaultConverter<T, R> implements Neo4jTemplateAware<EntityResultConverter<T,R>> {
+public class EntityResultConverter<T, R> extends DefaultConverter<T, R> implements Neo4jTemplateAware<EntityResultConverter<T,R>>, ConversionScope {
     private final ConversionService conversionService;
     private Neo4jTemplate template;
 
@@ -63,6 +65,29 @@ public class EntityResultConverter<T, R> extends DefaultConverter<T, R> implemen
     }
 
 
+    /**
+     * runs conversions on another thread within a read transaction, they only see committed data
+     */
+    @Override
+    public <V> V execute(Callable<V> conversions) throws Exception {
+        if (template == null) return conversions.call();
+        try (Transaction tx = template.getGraphDatabase().beginTx()) {
+            final V result = conversions.call();
+            tx.success();
+            return result;
+        }
+    }
+
+    /**
+     * not within a running transaction, its changes are not visible to other threads and with a remote database every
+     * chunk would commit a transaction of its own. A read-only Spring transaction (e.g. of the repository finders) has
+     * no changes to see, there the chunks are converted in read transactions of their own.
+     */
+    @Override
+    public boolean canConvertConcurrently() {
+        return template == null || !template.transactionIsRunning() || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     protected Object doConvert(Object value, Class<?> sourceType, Class targetType, MappingPolicy mappingPolicy) {
@@ -150,9 +175,7 @@ public class EntityResultConverter<T, R> extends DefaultConverter<T, R> implemen
             throw new RuntimeException("MapResult can only be extracted from Map<String,Object>.");
         }
 
-        InvocationHandler handler = new QueryResultProxy((Map<String, Object>) value,mappingPolicy,this);
-
-        return (R) Proxy.newProxyInstance(returnType.getClassLoader(), new Class[]{returnType}, handler);
+        return QueryResultProjection.forType(returnType).createProxy((Map<String, Object>) value, mappingPolicy, this);
     }
 
     @Override
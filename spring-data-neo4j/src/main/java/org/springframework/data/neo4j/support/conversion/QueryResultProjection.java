@@ -0,0 +1,101 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.conversion;
+
+import org.springframework.data.neo4j.conversion.ResultConverter;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The column table of a <code>@MapResult</code> interface, computed once per interface: the column name and return type
+ * of each getter and the constructor of the proxy class. The proxies created with it convert each column at most once.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class QueryResultProjection {
+    // soft references, the projections hold on to the interfaces and proxy classes, i.e. their class loaders
+    private static final ConcurrentMap<Class<?>, QueryResultProjection> projections = new ConcurrentReferenceHashMap<>();
+
+    private final Map<Method, Integer> indexes = new HashMap<>();
+    private final String[] columns;
+    private final TypeInformation<?>[] types;
+    private final Constructor<?> proxyConstructor;
+
+    private QueryResultProjection(Class<?> type) {
+        final Method[] methods = type.getMethods();
+        this.columns = new String[methods.length];
+        this.types = new TypeInformation<?>[methods.length];
+        for (int i = 0; i < methods.length; i++) {
+            final Method method = methods[i];
+            if (method.getParameterTypes().length > 0 || method.getName().equals("get")) continue;
+            columns[i] = ResultColumnValueExtractor.columnNameFor(method);
+            types[i] = ClassTypeInformation.fromReturnTypeOf(method);
+            indexes.put(method, i);
+        }
+        try {
+            this.proxyConstructor = Proxy.getProxyClass(type.getClassLoader(), type).getConstructor(InvocationHandler.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Error creating proxy class for " + type, e);
+        }
+    }
+
+    public static QueryResultProjection forType(Class<?> type) {
+        QueryResultProjection projection = projections.get(type);
+        if (projection != null) return projection;
+        projection = new QueryResultProjection(type);
+        final QueryResultProjection existing = projections.putIfAbsent(type, projection);
+        return existing != null ? existing : projection;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T createProxy(Map<String, Object> map, MappingPolicy mappingPolicy, ResultConverter converter) {
+        try {
+            return (T) proxyConstructor.newInstance(new QueryResultProxy(map, mappingPolicy, converter, this));
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Error creating proxy for " + proxyConstructor.getDeclaringClass(), e.getTargetException());
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("Error creating proxy for " + proxyConstructor.getDeclaringClass(), e);
+        }
+    }
+
+    int size() {
+        return columns.length;
+    }
+
+    /**
+     * @return the index of the getter or -1 if it's not a getter of the interface
+     */
+    int indexOf(Method method) {
+        final Integer index = indexes.get(method);
+        return index == null ? -1 : index;
+    }
+
+    Object extract(int index, ResultColumnValueExtractor extractor) throws Exception {
+        return extractor.extractFromAccessibleObject(types[index], columns[index]);
+    }
+}
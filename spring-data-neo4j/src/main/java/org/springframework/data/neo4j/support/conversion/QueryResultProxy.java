@@ -28,16 +28,28 @@ import java.util.Map;
 * @since 10.11.11
 */
 public class QueryResultProxy implements InvocationHandler {
+    private static final Object NULL = new Object();
     private final Map<String, Object> map;
     private final MappingPolicy mappingPolicy;
     private final ResultConverter converter;
     private final ResultColumnValueExtractor resultColumnValueExtractor;
+    private final QueryResultProjection projection;
+    private final Object[] values;
 
     public QueryResultProxy(Map<String, Object> map, MappingPolicy mappingPolicy, ResultConverter converter) {
+        this(map, mappingPolicy, converter, null);
+    }
+
+    /**
+     * @param projection if not null, the getters of the projection are converted once and the values are kept
+     */
+    public QueryResultProxy(Map<String, Object> map, MappingPolicy mappingPolicy, ResultConverter converter, QueryResultProjection projection) {
         this.map = map;
         this.mappingPolicy = mappingPolicy;
         this.converter = converter;
         this.resultColumnValueExtractor = new ResultColumnValueExtractor(map,mappingPolicy,converter);
+        this.projection = projection;
+        this.values = projection == null ? null : new Object[projection.size()];
     }
 
     @SuppressWarnings("unchecked")
@@ -51,8 +63,16 @@ public class QueryResultProxy implements InvocationHandler {
            return map.hashCode();
         }
 
-        return resultColumnValueExtractor.extractFromMethod(method);
-
+        final int index = projection == null ? -1 : projection.indexOf(method);
+        if (index < 0) {
+            return resultColumnValueExtractor.extractFromMethod(method);
+        }
+        Object value = values[index];
+        if (value == null) {
+            value = projection.extract(index, resultColumnValueExtractor);
+            values[index] = value == null ? NULL : value;
+        }
+        return value == NULL ? null : value;
     }
 
 
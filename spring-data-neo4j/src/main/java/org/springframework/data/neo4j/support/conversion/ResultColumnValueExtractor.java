@@ -56,7 +56,7 @@ public class ResultColumnValueExtractor {
         return extractFromAccessibleObject(returnType, columnNameFor(method));
     }
 
-    private String columnNameFor(Method method) {
+    static String columnNameFor(Method method) {
         ResultColumn column = method.getAnnotation(ResultColumn.class);
         if (column != null) return column.value();
         String name = method.getName();
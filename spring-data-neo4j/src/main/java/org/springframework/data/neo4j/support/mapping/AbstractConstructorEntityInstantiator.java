@@ -25,11 +25,13 @@ import org.springframework.data.persistence.StateProvider;
 import org.springframework.util.ClassUtils;
 import sun.reflect.ReflectionFactory;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Try for a constructor taking state: failing that, try a no-arg constructor and then setUnderlyingNode().
@@ -40,24 +42,30 @@ public abstract class AbstractConstructorEntityInstantiator<STATE> implements En
 
 	private final static Logger log = LoggerFactory.getLogger(EntityInstantiator.class);
 
-    private final Map<Class<?>, Boolean> invalidInstantiationCheck = new HashMap<Class<?>, Boolean>();
-	private final Map<Class<?>, StateBackedCreator<?, STATE>> cache = new HashMap<Class<?>, StateBackedCreator<?, STATE>>();
+    private final ConcurrentMap<Class<?>, Boolean> invalidInstantiationCheck = new ConcurrentHashMap<Class<?>, Boolean>();
+	private final ConcurrentMap<Class<?>, StateBackedCreator<?, STATE>> cache = new ConcurrentHashMap<Class<?>, StateBackedCreator<?, STATE>>();
+    private volatile boolean generatedAccessors;
+
+    /**
+     * @param generatedAccessors if true, constructors are invoked with method handles instead of by reflection,
+     * applies to the types that are instantiated first after the change
+     */
+    public void setGeneratedAccessors(boolean generatedAccessors) {
+        this.generatedAccessors = generatedAccessors;
+    }
 
 	@SuppressWarnings("unchecked")
     public <T> T createEntityFromState(STATE n, Class<T> c, final MappingPolicy mappingPolicy) {
 		try {
 			StateBackedCreator<T, STATE> creator = (StateBackedCreator<T, STATE>) cache.get(c);
-			if (creator != null)
-				return creator.create(n, c);
-			synchronized (cache) {
-				creator = (StateBackedCreator<T, STATE>) cache.get(c);
-				if (creator != null)
-					return creator.create(n, c);
+			if (creator == null) {
+				// creating an instantiator has no side effects, if two threads race the first one wins
 				Class<STATE> stateClass = (Class<STATE>) n.getClass();
-				creator = createInstantiator(c, stateClass);
-				cache.put(c, creator);
-				return creator.create(n, c);
+				final StateBackedCreator<T, STATE> created = createInstantiator(c, stateClass);
+				creator = (StateBackedCreator<T, STATE>) cache.putIfAbsent(c, created);
+				if (creator == null) creator = created;
 			}
+			return creator.create(n, c);
 		} catch (IllegalArgumentException e) {
             throw e;
 		} catch (InvocationTargetException e) {
@@ -77,11 +85,25 @@ public abstract class AbstractConstructorEntityInstantiator<STATE> implements En
         Boolean result = invalidInstantiationCheck.get(c);
         if (result == null) {
             result = Modifier.isAbstract(c.getModifiers()) || Modifier.isInterface(c.getModifiers());
-            invalidInstantiationCheck.put(c, result);
+            invalidInstantiationCheck.putIfAbsent(c, result);
         }
         return result;
     }
 
+    /**
+     * creates and caches the instantiator for the given type up front, so that the first entity of that type loaded
+     * doesn't have to look up its constructors
+     */
+    public void warmUp(Class<?> type) {
+        if (cache.containsKey(type)) return;
+        try {
+            cache.putIfAbsent(type, createInstantiator(type, getStateInterface()));
+        } catch (RuntimeException e) {
+            // reported when the first entity of the type is loaded
+            if (log.isDebugEnabled()) log.debug("Could not create instantiator for " + type + " up front", e);
+        }
+    }
+
     public void setInstantiators(
 			Map<Class<?>, StateBackedCreator<?, STATE>> instantiators) {
 		this.cache.putAll(instantiators);
@@ -120,11 +142,12 @@ public abstract class AbstractConstructorEntityInstantiator<STATE> implements En
 
         if (log.isDebugEnabled()) log.debug("Using " + type + " no-arg constructor");
 
+		final MethodHandle handle = generatedAccessors ? EntityHandles.constructor(constructor) : null;
 		return new StateBackedCreator<T, STATE>() {
 			public T create(STATE state, Class<T> c) throws Exception {
 				try {
 					StateProvider.setUnderlyingState(state);
-					T newInstance = constructor.newInstance();
+					T newInstance = handle != null ? c.cast(invoke(handle)) : constructor.newInstance();
 					setState(newInstance, state);
 					return newInstance;
 				} finally {
@@ -162,13 +185,33 @@ public abstract class AbstractConstructorEntityInstantiator<STATE> implements En
 			return null;
 		if (log.isDebugEnabled())
   			log.debug("Using " + type + " constructor taking " + getStateInterface());
+		final MethodHandle handle = generatedAccessors ? EntityHandles.constructor(constructor) : null;
 		return new StateBackedCreator<T, STATE>() {
 			public T create(STATE n, Class<T> c) throws Exception {
-				return constructor.newInstance(n);
+				return handle != null ? c.cast(invoke(handle, n)) : constructor.newInstance(n);
 			}
 		};
 	}
 
+	/**
+	 * invokes a constructor handle, wrapping exceptions thrown by the constructor like {@link Constructor#newInstance}
+	 */
+	private static Object invoke(MethodHandle handle) throws InvocationTargetException {
+		try {
+			return (Object) handle.invokeExact();
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	private static Object invoke(MethodHandle handle, Object state) throws InvocationTargetException {
+		try {
+			return (Object) handle.invokeExact(state);
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
 	protected <T> Constructor<T> getDeclaredConstructor(Class<T> c) {
 		try {
 			final Constructor<T> declaredConstructor = c.getDeclaredConstructor();
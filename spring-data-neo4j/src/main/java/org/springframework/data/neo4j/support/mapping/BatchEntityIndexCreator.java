@@ -0,0 +1,99 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.index.IndexProvider;
+import org.springframework.data.neo4j.support.schema.SchemaIndexProvider;
+import org.springframework.data.neo4j.support.schema.SchemaIndexProvider.SchemaIndex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the schema indexes and constraints of the entities that are added while the mapping context initializes,
+ * and then creates only the ones missing from the database all at once and waits for them to come online together.
+ * Entities added after the initialization get their schema indexes right away, like with the
+ * {@link DefaultEntityIndexCreator}.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class BatchEntityIndexCreator extends DefaultEntityIndexCreator {
+    private static final Logger log = LoggerFactory.getLogger(BatchEntityIndexCreator.class);
+
+    private final Set<SchemaIndex> collected = new LinkedHashSet<>();
+    private volatile boolean collecting = true;
+    private long indexOnlineTimeout = TimeUnit.MINUTES.toMillis(5);
+
+    public BatchEntityIndexCreator(IndexProvider indexProvider, SchemaIndexProvider schemaIndexProvider, boolean labelBased) {
+        super(indexProvider, schemaIndexProvider, labelBased);
+    }
+
+    @Override
+    protected void createSchemaIndex(Neo4jPersistentProperty property) {
+        synchronized (collected) {
+            if (collecting) {
+                collected.add(getSchemaIndexProvider().schemaIndexFor(property));
+                return;
+            }
+        }
+        super.createSchemaIndex(property);
+    }
+
+    /**
+     * Creates the collected schema indexes that don't exist yet and waits until they are online, from then on
+     * schema indexes are created immediately.
+     *
+     * @return the created indexes
+     */
+    public Collection<SchemaIndex> createCollectedIndexes() {
+        final List<SchemaIndex> desired;
+        synchronized (collected) {
+            collecting = false;
+            desired = new ArrayList<>(collected);
+            collected.clear();
+        }
+        final SchemaIndexProvider schemaIndexProvider = getSchemaIndexProvider();
+        final long start = System.currentTimeMillis();
+        final Set<SchemaIndex> existing = schemaIndexProvider.existingIndexes();
+        final List<SchemaIndex> missing = new ArrayList<>(desired);
+        if (existing != null) missing.removeAll(existing);
+        final long read = System.currentTimeMillis();
+        schemaIndexProvider.createIndexes(missing);
+        final long created = System.currentTimeMillis();
+        schemaIndexProvider.awaitIndexesOnline(missing, indexOnlineTimeout, TimeUnit.MILLISECONDS);
+        final long online = System.currentTimeMillis();
+        if (log.isInfoEnabled()) {
+            log.info("Schema indexes: " + desired.size() + " required, " + missing.size() + " missing, reading the schema took " + (read - start) + " ms, creating " + (created - read) + " ms, waiting until online " + (online - created) + " ms");
+        }
+        return missing;
+    }
+
+    /**
+     * @param indexOnlineTimeout in millis, how long {@link #createCollectedIndexes()} waits for the created indexes to
+     * come online, 5 minutes by default
+     */
+    public void setIndexOnlineTimeout(long indexOnlineTimeout) {
+        this.indexOnlineTimeout = indexOnlineTimeout;
+    }
+}
@@ -48,7 +48,7 @@ public class DefaultEntityIndexCreator implements EntityIndexCreator {
             @Override
             public void doWithPersistentProperty(Neo4jPersistentProperty property) {
                 if (property.isIndexed() && property.getIndexInfo().isLabelBased()) {
-                    schemaIndexProvider.createIndex(property);
+                    createSchemaIndex(property);
                 }
             }
         });
@@ -64,4 +64,12 @@ public class DefaultEntityIndexCreator implements EntityIndexCreator {
             }
         });
     }
+
+    protected void createSchemaIndex(Neo4jPersistentProperty property) {
+        schemaIndexProvider.createIndex(property);
+    }
+
+    protected SchemaIndexProvider getSchemaIndexProvider() {
+        return schemaIndexProvider;
+    }
 }
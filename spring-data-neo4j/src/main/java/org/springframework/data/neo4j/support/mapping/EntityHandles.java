@@ -0,0 +1,138 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Method handles for the fields of one entity type, indexed by {@link Neo4jPersistentProperty#getOrdinal()} and
+ * adapted to <code>(Object)Object</code> getters and <code>(Object,Object)void</code> setters.
+ * <p/>
+ * Properties that are accessed via getters and setters, final fields and fields the handles can't be created for have
+ * no handle, they are accessed reflectively.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+class EntityHandles {
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(Object.class);
+    private static final MethodType STATE_CONSTRUCTOR = MethodType.methodType(Object.class, Object.class);
+
+    private final Neo4jPersistentProperty[] properties;
+    private final MethodHandle[] getters;
+    private final MethodHandle[] setters;
+
+    private EntityHandles(List<Neo4jPersistentProperty> properties) {
+        int size = 0;
+        for (Neo4jPersistentProperty property : properties) {
+            size = Math.max(size, property.getOrdinal() + 1);
+        }
+        this.properties = new Neo4jPersistentProperty[size];
+        this.getters = new MethodHandle[size];
+        this.setters = new MethodHandle[size];
+        for (Neo4jPersistentProperty property : properties) {
+            final int ordinal = property.getOrdinal();
+            final Field field = property.getField();
+            this.properties[ordinal] = property;
+            this.getters[ordinal] = getter(field);
+            if (!Modifier.isFinal(field.getModifiers())) this.setters[ordinal] = setter(field);
+        }
+    }
+
+    static EntityHandles create(Neo4jPersistentEntityImpl<?> entity) {
+        final List<Neo4jPersistentProperty> properties = new ArrayList<>();
+        entity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+                if (hasFieldAccess(property)) properties.add(property);
+            }
+        });
+        entity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                final Neo4jPersistentProperty property = association.getInverse();
+                if (hasFieldAccess(property)) properties.add(property);
+            }
+        });
+        return new EntityHandles(properties);
+    }
+
+    private static boolean hasFieldAccess(Neo4jPersistentProperty property) {
+        return property.getField() != null && property.getOrdinal() >= 0 && !property.usePropertyAccess();
+    }
+
+    /**
+     * @return the getter of the property or null if it has to be read reflectively
+     */
+    MethodHandle getter(Neo4jPersistentProperty property) {
+        final int ordinal = property.getOrdinal();
+        return ordinal >= 0 && ordinal < properties.length && properties[ordinal] == property ? getters[ordinal] : null;
+    }
+
+    /**
+     * @return the setter of the property or null if it has to be written reflectively
+     */
+    MethodHandle setter(Neo4jPersistentProperty property) {
+        final int ordinal = property.getOrdinal();
+        return ordinal >= 0 && ordinal < properties.length && properties[ordinal] == property ? setters[ordinal] : null;
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field).asType(GETTER);
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle setter(Field field) {
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectSetter(field).asType(SETTER);
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return a <code>()Object</code> or <code>(Object)Object</code> handle for the constructor or null if it has
+     * to be invoked reflectively
+     */
+    static MethodHandle constructor(Constructor<?> constructor) {
+        try {
+            constructor.setAccessible(true);
+            final MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor);
+            return handle.asType(constructor.getParameterTypes().length == 0 ? CONSTRUCTOR : STATE_CONSTRUCTOR);
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+}
@@ -17,26 +17,47 @@ package org.springframework.data.neo4j.support.mapping;
 
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Relationship;
+import org.neo4j.helpers.collection.IteratorUtil;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
 import org.springframework.data.neo4j.mapping.RelationshipResult;
+import org.springframework.data.neo4j.support.query.CypherQueryEngine;
+import org.springframework.data.neo4j.support.typerepresentation.AbstractIndexBasedTypeRepresentationStrategy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.neo4j.helpers.collection.MapUtil.map;
+import static org.springframework.data.neo4j.support.typerepresentation.AbstractIndexBasedTypeRepresentationStrategy.TYPE_PROPERTY_NAME;
 
 /**
 * @author mh
 * @since 12.10.11
 */
 public class EntityRemover {
+    static final int BATCH_SIZE = 1000;
+    private static final String RELATIONSHIP_ENTITIES_QUERY = "START n=node({ids}) MATCH (n)-[r]-() WHERE has(r." + TYPE_PROPERTY_NAME + ") RETURN DISTINCT r";
+    private static final String DELETE_NODE_RELATIONSHIPS_QUERY = "START n=node({ids}) MATCH (n)-[r]-() WITH DISTINCT r DELETE r";
+    private static final String TYPED_RELATIONSHIPS_QUERY = "START r=relationship({ids}) WHERE has(r." + TYPE_PROPERTY_NAME + ") RETURN r";
+    private static final String DELETE_RELATIONSHIPS_QUERY = "START r=relationship({ids}) DELETE r";
 
     private EntityStateHandler entityStateHandler;
     private TypeRepresentationStrategy<Node> nodeTypeRepresentationStrategy;
     private TypeRepresentationStrategy<Relationship> relationshipTypeRepresentationStrategy;
     private final GraphDatabase graphDatabase;
+    private final boolean relationshipEntitiesTyped;
 
     public EntityRemover(EntityStateHandler entityStateHandler, TypeRepresentationStrategy<Node> nodeTypeRepresentationStrategy, TypeRepresentationStrategy<Relationship> relationshipTypeRepresentationStrategy, GraphDatabase graphDatabase) {
         this.entityStateHandler = entityStateHandler;
         this.nodeTypeRepresentationStrategy = nodeTypeRepresentationStrategy;
         this.relationshipTypeRepresentationStrategy = relationshipTypeRepresentationStrategy;
         this.graphDatabase = graphDatabase;
+        // only the index based strategy stores the type property on every relationship entity, with any other strategy
+        // relationship entities can't be told apart from plain relationships by a query
+        this.relationshipEntitiesTyped = relationshipTypeRepresentationStrategy instanceof AbstractIndexBasedTypeRepresentationStrategy;
     }
 
     public void removeNodeEntity(Object entity) {
@@ -64,6 +85,80 @@ public class EntityRemover {
         graphDatabase.remove(relationship);
     }
 
+    /**
+     * Removes the nodes with the given ids and all their relationships in batches of {@link #BATCH_SIZE} ids. The plain
+     * relationships of a batch are deleted with a single Cypher statement instead of one call per relationship, only
+     * the nodes and the relationship entities are still removed one by one, to clean up the type representation and
+     * legacy indexes. If the relationship type representation strategy doesn't mark relationship entities with a type
+     * property all relationships are removed one by one.
+     */
+    public void removeNodes(Collection<Long> ids) {
+        for (List<Long> batch : batches(ids)) {
+            final List<Node> nodes = graphDatabase.getNodesByIds(batch);
+            if (!relationshipEntitiesTyped) {
+                for (Node node : nodes) {
+                    removeNode(node);
+                }
+                continue;
+            }
+            for (Node node : nodes) {
+                nodeTypeRepresentationStrategy.preEntityRemoval(node);
+            }
+            for (Relationship relationship : relationships(RELATIONSHIP_ENTITIES_QUERY, batch)) {
+                removeRelationship(relationship);
+            }
+            queryEngine().query(DELETE_NODE_RELATIONSHIPS_QUERY, map("ids", batch));
+            for (Node node : nodes) {
+                graphDatabase.remove(node);
+            }
+        }
+    }
+
+    /**
+     * Removes the relationships with the given ids in batches of {@link #BATCH_SIZE} ids, plain relationships with a
+     * single Cypher statement per batch and relationship entities one by one as with {@link #remove(Object)}. If the
+     * relationship type representation strategy doesn't mark relationship entities with a type property all
+     * relationships are removed one by one.
+     */
+    public void removeRelationships(Collection<Long> ids) {
+        if (!relationshipEntitiesTyped) {
+            for (Long id : ids) {
+                removeRelationship(graphDatabase.getRelationshipById(id));
+            }
+            return;
+        }
+        for (List<Long> batch : batches(ids)) {
+            final Set<Long> remaining = new LinkedHashSet<>(batch);
+            for (Relationship relationship : relationships(TYPED_RELATIONSHIPS_QUERY, batch)) {
+                removeRelationship(relationship);
+                remaining.remove(relationship.getId());
+            }
+            if (remaining.isEmpty()) continue;
+            queryEngine().query(DELETE_RELATIONSHIPS_QUERY, map("ids", new ArrayList<>(remaining)));
+        }
+    }
+
+    private Collection<Relationship> relationships(String query, List<Long> ids) {
+        return IteratorUtil.asCollection(queryEngine().query(query, map("ids", ids)).to(Relationship.class));
+    }
+
+    private CypherQueryEngine queryEngine() {
+        return graphDatabase.queryEngine();
+    }
+
+    private static List<List<Long>> batches(Collection<Long> ids) {
+        final List<List<Long>> batches = new ArrayList<>();
+        List<Long> batch = null;
+        for (Long id : ids) {
+            if (batch == null || batch.size() == BATCH_SIZE) {
+                batch = new ArrayList<>(Math.min(BATCH_SIZE, ids.size()));
+                batches.add(batch);
+            }
+            batch.add(id);
+        }
+        return batches;
+    }
+
     public void removeRelationshipBetween(Object start, Object target, String type) {
         final RelationshipResult result = entityStateHandler.removeRelationshipTo(start, target, type);
         if (result!=null && result.type == RelationshipResult.Type.DELETED) {
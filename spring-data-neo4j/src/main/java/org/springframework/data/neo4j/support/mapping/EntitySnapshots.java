@@ -0,0 +1,247 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Snapshots of the persistent values of loaded entities, used to write only the changed properties and
+ * <code>@RelatedTo</code> relationships when an entity is saved again.
+ * <p/>
+ * Property values are compared by equality, which is only done for values that can be copied safely: strings,
+ * primitive wrappers, enums, dates and arrays or collections of those. Related entities are compared by identity and
+ * only referenced weakly.
+ * Everything else (e.g. converted values, dynamic properties or <code>@RelatedToVia</code> fields, which cascade)
+ * is always written.
+ * <p/>
+ * A snapshot belongs to one entity instance, it is dropped when the instance is garbage collected. Changes that are made
+ * to the graph directly are not visible to the snapshots, so an entity should be reloaded before it is saved again.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class EntitySnapshots {
+
+    private static final Object NULL = new Object();
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class));
+
+    private final ConcurrentMap<Key, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * records the current values of the entity, replacing an earlier snapshot
+     */
+    public void capture(PersistentPropertyAccessor wrapper, PropertyContainer state, Neo4jPersistentEntity<?> persistentEntity) {
+        expunge();
+        final Object entity = wrapper.getBean();
+        final Key key = new Key(entity.getClass(), idOf(state));
+        snapshots.put(key, new Snapshot(key, entity, collected, copyValues(wrapper, persistentEntity)));
+    }
+
+    /**
+     * @return the snapshot of the entity instance with the given state or null if there is none
+     */
+    public Snapshot get(Object entity, PropertyContainer state) {
+        expunge();
+        final Snapshot snapshot = snapshots.get(new Key(entity.getClass(), idOf(state)));
+        return snapshot != null && snapshot.get() == entity ? snapshot : null;
+    }
+
+    public void remove(Object entity, PropertyContainer state) {
+        final Key key = new Key(entity.getClass(), idOf(state));
+        final Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.get() == entity) snapshots.remove(key, snapshot);
+    }
+
+    public int size() {
+        expunge();
+        return snapshots.size();
+    }
+
+    private void expunge() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            final Snapshot snapshot = (Snapshot) reference;
+            snapshots.remove(snapshot.key, snapshot);
+        }
+    }
+
+    private static long idOf(PropertyContainer state) {
+        if (state instanceof Node) return ((Node) state).getId();
+        if (state instanceof Relationship) return ((Relationship) state).getId();
+        throw new IllegalArgumentException("Unsupported state " + state);
+    }
+
+    private static Map<Neo4jPersistentProperty, Object> copyValues(final PersistentPropertyAccessor wrapper, Neo4jPersistentEntity<?> persistentEntity) {
+        final Map<Neo4jPersistentProperty, Object> values = new HashMap<>();
+        persistentEntity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+                final Object copy = copyValue(wrapper.getProperty(property));
+                if (copy != null) values.put(property, copy);
+            }
+        });
+        persistentEntity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                final Neo4jPersistentProperty property = association.getInverse();
+                if (property.isRelationship() && property.getRelationshipInfo().isRelatedTo()) {
+                    values.put(property, new Related(wrapper.getProperty(property)));
+                }
+            }
+        });
+        return values;
+    }
+
+    /**
+     * @return a copy of the value that can be compared with later values or null if the value can't be copied safely
+     */
+    private static Object copyValue(Object value) {
+        if (value == null) return NULL;
+        if (isImmutable(value)) return value;
+        if (value instanceof Date) return ((Date) value).clone();
+        if (value.getClass().isArray()) {
+            final Class<?> componentType = value.getClass().getComponentType();
+            if (!componentType.isPrimitive() && !IMMUTABLE_TYPES.contains(componentType)) return null;
+            final int length = Array.getLength(value);
+            final Object copy = Array.newInstance(componentType, length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+        if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                if (element != null && !isImmutable(element)) return null;
+            }
+            return new ArrayList<Object>((Collection<?>) value);
+        }
+        return null;
+    }
+
+    private static boolean isImmutable(Object value) {
+        return IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum;
+    }
+
+    public static class Snapshot extends WeakReference<Object> {
+        private final Key key;
+        private final Map<Neo4jPersistentProperty, Object> values;
+
+        Snapshot(Key key, Object entity, ReferenceQueue<Object> queue, Map<Neo4jPersistentProperty, Object> values) {
+            super(entity, queue);
+            this.key = key;
+            this.values = values;
+        }
+
+        /**
+         * @return true if the value equals the recorded one, false if it changed or wasn't recorded
+         */
+        public boolean isUnchanged(Neo4jPersistentProperty property, Object value) {
+            final Object recorded = values.get(property);
+            if (recorded == null) return false;
+            if (recorded instanceof Related) return ((Related) recorded).isSame(value);
+            if (value == null) return recorded == NULL;
+            if (value instanceof Collection) {
+                return recorded instanceof List && new ArrayList<Object>((Collection<?>) value).equals(recorded);
+            }
+            return Objects.deepEquals(recorded, value);
+        }
+    }
+
+    /**
+     * the related entities of a <code>@RelatedTo</code> field, compared by identity. They are only referenced weakly,
+     * otherwise the snapshots of entities that are related to each other would keep each other reachable.
+     */
+    private static class Related {
+        private final boolean collection;
+        private final List<WeakReference<Object>> elements;
+
+        Related(Object value) {
+            this.collection = value instanceof Collection;
+            final Collection<?> values = collection ? identitySet((Collection<?>) value) : Collections.singleton(value);
+            this.elements = new ArrayList<>(values.size());
+            for (Object element : values) {
+                elements.add(element == null ? null : new WeakReference<Object>(element));
+            }
+        }
+
+        boolean isSame(Object other) {
+            if (!collection) return isSame(elements.get(0), other);
+            if (!(other instanceof Collection)) return false;
+            final Set<Object> others = identitySet((Collection<?>) other);
+            if (others.size() != elements.size()) return false;
+            for (WeakReference<Object> element : elements) {
+                final Object related = element == null ? null : element.get();
+                if (related == null && element != null) return false;
+                if (!others.contains(related)) return false;
+            }
+            return true;
+        }
+
+        private static boolean isSame(WeakReference<Object> element, Object other) {
+            if (element == null) return other == null;
+            final Object related = element.get();
+            return related != null && related == other;
+        }
+
+        private static Set<Object> identitySet(Collection<?> collection) {
+            final Set<Object> result = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>(collection.size()));
+            result.addAll(collection);
+            return result;
+        }
+    }
+
+    private static class Key {
+        private final Class<?> type;
+        private final long id;
+
+        Key(Class<?> type, long id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key key = (Key) o;
+            return id == key.id && type.equals(key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + (int) (id ^ (id >>> 32));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * {@link PersistentPropertyAccessor} that reads and writes fields with the {@link EntityHandles} of the entity type.
+ * Properties without handles and null values for primitive fields are delegated to the reflective accessor.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+class MethodHandlePropertyAccessor implements PersistentPropertyAccessor {
+    private final Object bean;
+    private final EntityHandles handles;
+    private final Neo4jPersistentEntityImpl<?> entity;
+    private PersistentPropertyAccessor reflectiveAccessor;
+
+    MethodHandlePropertyAccessor(Object bean, EntityHandles handles, Neo4jPersistentEntityImpl<?> entity) {
+        this.bean = bean;
+        this.handles = handles;
+        this.entity = entity;
+    }
+
+    @Override
+    public void setProperty(PersistentProperty<?> property, Object value) {
+        final MethodHandle setter = property instanceof Neo4jPersistentProperty ? handles.setter((Neo4jPersistentProperty) property) : null;
+        if (setter == null || (value == null && property.getType().isPrimitive())) {
+            reflectiveAccessor().setProperty(property, value);
+            return;
+        }
+        try {
+            setter.invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw new MappingException("Error setting property " + property.getName() + " of " + bean.getClass(), t);
+        }
+    }
+
+    @Override
+    public Object getProperty(PersistentProperty<?> property) {
+        final MethodHandle getter = property instanceof Neo4jPersistentProperty ? handles.getter((Neo4jPersistentProperty) property) : null;
+        if (getter == null) {
+            return reflectiveAccessor().getProperty(property);
+        }
+        try {
+            return (Object) getter.invokeExact(bean);
+        } catch (Throwable t) {
+            throw new MappingException("Error getting property " + property.getName() + " of " + bean.getClass(), t);
+        }
+    }
+
+    @Override
+    public Object getBean() {
+        return bean;
+    }
+
+    private PersistentPropertyAccessor reflectiveAccessor() {
+        if (reflectiveAccessor == null) {
+            reflectiveAccessor = entity.getReflectivePropertyAccessor(bean);
+        }
+        return reflectiveAccessor;
+    }
+}
@@ -71,6 +71,7 @@ class Neo4jPersistentPropertyImpl extends AnnotationBasedPersistentProperty<Neo4
     private Boolean isAssociation;
     private final String neo4jPropertyName;
     private final int hash;
+    private int ordinal = -1;
 
     public Neo4jPersistentPropertyImpl(Field field, PropertyDescriptor propertyDescriptor,
                                        PersistentEntity<?, Neo4jPersistentProperty> owner, SimpleTypeHolder simpleTypeHolder, Neo4jMappingContext ctx) {
@@ -369,6 +370,15 @@ class Neo4jPersistentPropertyImpl extends AnnotationBasedPersistentProperty<Neo4
         return hash;
     }
 
+    @Override
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     public boolean hasQuery() {
         return this.query!=null;
     }
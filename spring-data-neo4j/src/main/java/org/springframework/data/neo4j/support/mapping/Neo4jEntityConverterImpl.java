@@ -73,8 +73,9 @@ public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements
         // 1) source -> type alias
         // 2) type alias -> type
         // 3) check for subtype matching / enforcement
-        final TypeInformation<R> requestedTypeInformation = requestedType == null ? null : ClassTypeInformation.from(requestedType);
-        final TypeInformation<? extends R> targetType = typeMapper.readType(source, requestedTypeInformation);
+        // the stored type is read only once, reading the alias may touch the state (labels) again on every call
+        final TypeInformation<?> storedType = typeMapper.readType(source);
+        final TypeInformation<? extends R> targetType = targetType(requestedType, storedType);
 
         // retrieve meta-information about the type
         @SuppressWarnings("unchecked") final Neo4jPersistentEntityImpl<R> persistentEntity = (Neo4jPersistentEntityImpl<R>) mappingContext.getPersistentEntity(targetType);
@@ -85,13 +86,12 @@ public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements
         // 4) check type safety
         if (!mappingPolicy.noTypeCheck()) {
             TypeSafetyPolicy typeSafetyPolicy = template.getInfrastructure().getTypeSafetyPolicy();
-            if (typeSafetyPolicy.isTypeSafetyEnabled() && !storedAndRequestedTypesMatch(requestedType, source)) {
+            if (typeSafetyPolicy.isTypeSafetyEnabled() && !storedAndRequestedTypesMatch(requestedType, storedType)) {
                 if (typeSafetyPolicy.getTypeSafetyOption() == TypeSafetyOption.RETURNS_NULL) {
                     return null;
                 }
                 if (typeSafetyPolicy.getTypeSafetyOption() == TypeSafetyOption.THROWS_EXCEPTION) {
-                    Class<?> sourceType = typeMapper.readType(source).getType();
-                    throw new PersistentEntityConversionException(requestedType,sourceType);
+                    throw new PersistentEntityConversionException(requestedType,storedType == null ? null : storedType.getType());
                 }
             }
         }
@@ -114,14 +114,25 @@ public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements
             sourceStateTransmitter.copyPropertiesFrom(wrapper, source, persistentEntity,mappingPolicy, template);
             // 6) handle cascading fetches
             cascadeFetch(persistentEntity, wrapper, mappingPolicy, template);
+            sourceStateTransmitter.captureSnapshot(wrapper, source, persistentEntity, template);
         }
         return entity;
     }
 
-    private <R extends T> boolean storedAndRequestedTypesMatch(Class<R> requestedType, S source) {
+    private <R extends T> boolean storedAndRequestedTypesMatch(Class<R> requestedType, TypeInformation<?> storedType) {
         if (requestedType == null) return true;
-        TypeInformation<?> storedType = typeMapper.readType(source);
-        return requestedType.isAssignableFrom(storedType.getType());
+        return storedType != null && requestedType.isAssignableFrom(storedType.getType());
+    }
+
+    /**
+     * @return the stored type if it is a subtype of the requested type, the requested type otherwise, like
+     * {@link TypeMapper#readType(Object, TypeInformation)} but with the already read stored type
+     */
+    @SuppressWarnings("unchecked")
+    private <R extends T> TypeInformation<? extends R> targetType(Class<R> requestedType, TypeInformation<?> storedType) {
+        if (requestedType == null) return (TypeInformation<? extends R>) storedType;
+        if (storedType == null || !requestedType.isAssignableFrom(storedType.getType())) return ClassTypeInformation.from(requestedType);
+        return (TypeInformation<? extends R>) storedType;
     }
 
     private <R extends T> void cascadeFetch(Neo4jPersistentEntityImpl<R> persistentEntity, final PersistentPropertyAccessor wrapper, final MappingPolicy policy, final Neo4jTemplate template) {
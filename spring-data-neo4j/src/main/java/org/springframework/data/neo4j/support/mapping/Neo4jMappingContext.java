@@ -31,6 +31,7 @@ import org.springframework.data.neo4j.annotation.RelationshipEntity;
 import org.springframework.data.neo4j.mapping.InvalidEntityTypeException;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.typerepresentation.LabelStatementRegistry;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 
@@ -38,6 +39,8 @@ import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Neo4J specific {@link MappingContext} implementation. Simply creates {@link Neo4jPersistentEntityImpl} and
@@ -50,15 +53,17 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
     private final static Logger log = LoggerFactory.getLogger(Neo4jMappingContext.class);
 
     private final Map<Annotation, Boolean> referenceAnnotations = new IdentityHashMap<>();
+    private final ConcurrentMap<String, Neo4jPersistentEntityImpl<?>> entitiesByAlias = new ConcurrentHashMap<>();
     private EntityIndexCreator entityIndexCreator;
+    private final LabelStatementRegistry labelStatementRegistry = new LabelStatementRegistry();
+    private volatile boolean generatedAccessors;
 
     protected <T> Neo4jPersistentEntityImpl<?> createPersistentEntity(TypeInformation<T> typeInformation) {
         final Class<T> type = typeInformation.getType();
-        if (type.isAnnotationPresent(NodeEntity.class)) {
-            return new Neo4jPersistentEntityImpl<T>(typeInformation,entityAlias);
-        }
-        if (type.isAnnotationPresent(RelationshipEntity.class)) {
-            return new Neo4jPersistentEntityImpl<T>(typeInformation,entityAlias);
+        if (type.isAnnotationPresent(NodeEntity.class) || type.isAnnotationPresent(RelationshipEntity.class)) {
+            final Neo4jPersistentEntityImpl<T> entity = new Neo4jPersistentEntityImpl<T>(typeInformation, entityAlias);
+            entity.setGeneratedAccessors(generatedAccessors);
+            return entity;
         }
         throw new InvalidEntityTypeException("Type " + type + " is neither a @NodeEntity nor a @RelationshipEntity");
     }
@@ -73,6 +78,8 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
 
     private void updateStoredEntityType(Neo4jPersistentEntityImpl<?> entity, Collection<Neo4jPersistentEntity<?>> superTypeEntities) {
         entity.updateStoredType(superTypeEntities);
+        registerAliases(entity);
+        labelStatementRegistry.register(entity.getEntityType());
         if (entityIndexCreator!=null) {
             entityIndexCreator.ensureEntityIndexes(entity);
 //            if (superTypeEntities!=null) {
@@ -109,6 +116,21 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
     public void initialize() {
         super.initialize();
         setStrict(true);
+        warmUpEntityTypeCache();
+        if (entityIndexCreator instanceof BatchEntityIndexCreator) {
+            ((BatchEntityIndexCreator) entityIndexCreator).createCollectedIndexes();
+        }
+    }
+
+    /**
+     * Classifies the types of the initial entity set up front, so that {@link #isNodeEntity(Class)} and
+     * {@link #isRelationshipEntity(Class)} don't have to resolve them on the first requests.
+     */
+    private void warmUpEntityTypeCache() {
+        for (Neo4jPersistentEntityImpl<?> entity : getPersistentEntities()) {
+            final Class<?> type = entity.getType();
+            if (!annotationCheckCache.containsKey(type)) cacheType(type);
+        }
     }
 
     private boolean isRelationshipEntityType(Class<?> type) {
@@ -119,8 +141,21 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
         return type.isAnnotationPresent(NodeEntity.class);
     }
 
-    // todo performance, change to direct lookups if too slow
+    /**
+     * Registers the stored alias and the class name of the entity for {@link #getPersistentEntity(Object)}, the first
+     * entity registered for an alias wins.
+     */
+    private void registerAliases(Neo4jPersistentEntityImpl<?> entity) {
+        final Object alias = entity.getEntityType().getAlias();
+        if (alias instanceof String) entitiesByAlias.putIfAbsent((String) alias, entity);
+        entitiesByAlias.putIfAbsent(entity.getType().getName(), entity);
+    }
+
     public Neo4jPersistentEntity<?> getPersistentEntity(Object alias) {
+        if (alias instanceof String) {
+            final Neo4jPersistentEntityImpl<?> entity = entitiesByAlias.get(alias);
+            if (entity != null) return entity;
+        }
         for (Neo4jPersistentEntityImpl<?> entity : getPersistentEntities()) {
             if (entity.matchesAlias(alias)) return entity;
         }
@@ -148,6 +183,14 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
         return null;
     }
 
+    /**
+     * @return the label statements of the node entity types, rendered when the types are added, i.e. for the initial
+     * entity set during {@link #initialize()}
+     */
+    public LabelStatementRegistry getLabelStatementRegistry() {
+        return labelStatementRegistry;
+    }
+
     public StoredEntityType getStoredEntityType(Class type) {
         if (type==null) return null;
         Neo4jPersistentEntityImpl<?> persistentEntity = getPersistentEntity(type);
@@ -160,7 +203,11 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
         return new Neo4jPersistentPropertyImpl(field, descriptor, owner, simpleTypeHolder,this);
     }
 
-    private final Map<Class<?>,Class<?>> annotationCheckCache = new IdentityHashMap<Class<?>, Class<?>>();
+    /**
+     * type to {@link NodeEntity}, {@link RelationshipEntity} or the type itself for types that are no entities, read
+     * without locking by concurrent requests
+     */
+    private final ConcurrentMap<Class<?>,Class<?>> annotationCheckCache = new ConcurrentHashMap<Class<?>, Class<?>>();
 
     public boolean isNodeEntity(Class<?> type) {
         if (Node.class.isAssignableFrom(type)) return true;
@@ -169,15 +216,19 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
     }
 
     private void cacheType(Class<?> type) {
+        annotationCheckCache.putIfAbsent(type, entityMarkerFor(type));
+    }
+
+    private Class<?> entityMarkerFor(Class<?> type) {
         try {
             final Neo4jPersistentEntityImpl<?> entity = getPersistentEntity(type);
-            if (entity == null) annotationCheckCache.put(type, type);
-            else if (!shouldCreatePersistentEntityFor(ClassTypeInformation.from(type))) annotationCheckCache.put(type, type);
-            else if (entity.isNodeEntity()) annotationCheckCache.put(type, NodeEntity.class);
-            else if (entity.isRelationshipEntity()) annotationCheckCache.put(type, RelationshipEntity.class);
-            else annotationCheckCache.put(type, type);
+            if (entity == null) return type;
+            if (!shouldCreatePersistentEntityFor(ClassTypeInformation.from(type))) return type;
+            if (entity.isNodeEntity()) return NodeEntity.class;
+            if (entity.isRelationshipEntity()) return RelationshipEntity.class;
+            return type;
         } catch (InvalidEntityTypeException me) {
-            annotationCheckCache.put(type, type);
+            return type;
         }
     }
 
@@ -222,6 +273,21 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
         this.entityAlias = entityAlias;
     }
 
+    /**
+     * @param generatedAccessors if true, the fields of all entities are accessed with method handles instead of by
+     * reflection, applies to the entities that are already known and the ones added later
+     */
+    public void setGeneratedAccessors(boolean generatedAccessors) {
+        this.generatedAccessors = generatedAccessors;
+        for (Neo4jPersistentEntityImpl<?> entity : getPersistentEntities()) {
+            entity.setGeneratedAccessors(generatedAccessors);
+        }
+    }
+
+    public boolean isGeneratedAccessors() {
+        return generatedAccessors;
+    }
+
     public void setEntityIndexCreator(EntityIndexCreator entityIndexCreator) {
         this.entityIndexCreator = entityIndexCreator;
     }
@@ -50,6 +50,9 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
     private final boolean shouldUseShortNames;
     private final EntityAlias entityAlias;
     private Set<String> labels;
+    private int propertyCount;
+    private volatile boolean generatedAccessors;
+    private volatile EntityHandles entityHandles;
 
     /**
      * Creates a new {@link Neo4jPersistentEntityImpl} instance.
@@ -175,6 +178,9 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
     @Override
     public void addPersistentProperty(Neo4jPersistentProperty property) {
         super.addPersistentProperty(property);
+        if (property instanceof Neo4jPersistentPropertyImpl && property.getOrdinal() < 0) {
+            ((Neo4jPersistentPropertyImpl) property).setOrdinal(propertyCount++);
+        }
         if (property.isRelationshipType()) {
             this.relationshipType = property;
         }
@@ -283,6 +289,37 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
         return labels;
     }
 
+    /**
+     * @param generatedAccessors if true, fields are accessed with method handles that are created once for the type
+     * instead of by reflection, see {@link EntityHandles}
+     */
+    public void setGeneratedAccessors(boolean generatedAccessors) {
+        this.generatedAccessors = generatedAccessors;
+    }
+
+    public boolean isGeneratedAccessors() {
+        return generatedAccessors;
+    }
+
+    @Override
+    public PersistentPropertyAccessor getPropertyAccessor(Object bean) {
+        if (!generatedAccessors) return super.getPropertyAccessor(bean);
+        return new MethodHandlePropertyAccessor(bean, getEntityHandles(), this);
+    }
+
+    PersistentPropertyAccessor getReflectivePropertyAccessor(Object bean) {
+        return super.getPropertyAccessor(bean);
+    }
+
+    private EntityHandles getEntityHandles() {
+        EntityHandles handles = entityHandles;
+        if (handles == null) {
+            handles = EntityHandles.create(this);
+            entityHandles = handles;
+        }
+        return handles;
+    }
+
     public PersistentPropertyAccessor getPropertyAccessor(Object source, ConversionService conversionService) {
         PersistentPropertyAccessor accessor = getPropertyAccessor(source);
         return conversionService == null ? accessor : new ConvertingPropertyAccessor(accessor,conversionService);
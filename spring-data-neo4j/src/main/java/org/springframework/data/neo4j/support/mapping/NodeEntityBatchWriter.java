@@ -0,0 +1,303 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.neo4j.annotation.GraphTraversal;
+import org.springframework.data.neo4j.annotation.Labels;
+import org.springframework.data.neo4j.fieldaccess.PropertyConverter;
+import org.springframework.data.neo4j.mapping.IndexInfo;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.conversion.GenericObjectToObjectConverter;
+import org.springframework.data.neo4j.support.typerepresentation.LabelBasedNodeTypeRepresentationStrategy;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import java.util.*;
+
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+/**
+ * Creates new node entities in bulk. Entities are grouped by their persistent entity and each group is written with a
+ * single parameterized <code>UNWIND {rows} AS row CREATE ...</code> (or <code>MERGE</code> for label based unique
+ * entities) statement, the created nodes are assigned back to the entities afterwards.
+ * <p/>
+ * A <code>MERGE</code> can match an existing node, so each row returns whether its node was created, entities that
+ * were merged into an existing node (or into a node created by an earlier row of the same batch) are not reported as
+ * created by {@link #write(Collection)}.
+ * <p/>
+ * Only entities that can be written without the field accessor chain are accepted, see {@link #canWrite(Object)},
+ * everything else has to go through the regular save.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class NodeEntityBatchWriter {
+
+    // set only when MERGE creates the node and removed again in the same statement
+    private static final String CREATED_MARKER = quote("__created__");
+
+    private final Neo4jTemplate template;
+    private final Map<Neo4jPersistentEntityImpl<?>, EntityStatement> statements = new HashMap<>();
+
+    public NodeEntityBatchWriter(Neo4jTemplate template) {
+        this.template = template;
+    }
+
+    /**
+     * @return true if the entity is a new, unmanaged node entity whose properties are all plain, converted or label-indexed
+     * properties and which has no related entities to cascade to
+     */
+    public boolean canWrite(Object entity) {
+        if (entity == null || template.isManaged(entity)) return false;
+        final EntityStatement statement = statementFor(entity.getClass());
+        if (statement == null) return false;
+        if (template.getEntityStateHandler().hasPersistentState(entity)) return false;
+        return statement.canWrite(entity);
+    }
+
+    /**
+     * creates the nodes for the given entities, which must have been accepted by {@link #canWrite(Object)}
+     * @return the entities whose nodes were actually created, i.e. without those merged into an already existing node
+     */
+    public <T> List<T> write(Collection<T> entities) {
+        if (entities.isEmpty()) return Collections.emptyList();
+        final Map<EntityStatement, List<T>> groups = new LinkedHashMap<>();
+        for (T entity : entities) {
+            final EntityStatement statement = statementFor(entity.getClass());
+            List<T> group = groups.get(statement);
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.put(statement, group);
+            }
+            group.add(entity);
+        }
+        final List<T> created = new ArrayList<>(entities.size());
+        final Transaction tx = template.getGraphDatabase().beginTx();
+        try {
+            for (Map.Entry<EntityStatement, List<T>> group : groups.entrySet()) {
+                group.getKey().write(group.getValue(), created);
+            }
+            tx.success();
+            return created;
+        } catch (Throwable t) {
+            tx.failure();
+            if (t instanceof Error) throw (Error) t;
+            if (t instanceof RuntimeException) throw (RuntimeException) t;
+            throw new org.springframework.data.neo4j.core.UncategorizedGraphStoreException("Error writing " + entities.size() + " entities", t);
+        } finally {
+            tx.close();
+        }
+    }
+
+    private EntityStatement statementFor(Class<?> type) {
+        final Neo4jPersistentEntityImpl<?> persistentEntity = template.getInfrastructure().getMappingContext().getPersistentEntity(type);
+        if (persistentEntity == null) return null;
+        if (statements.containsKey(persistentEntity)) return statements.get(persistentEntity);
+        final EntityStatement statement = createStatement(persistentEntity);
+        statements.put(persistentEntity, statement);
+        return statement;
+    }
+
+    private EntityStatement createStatement(final Neo4jPersistentEntityImpl<?> persistentEntity) {
+        if (!persistentEntity.isNodeEntity() || persistentEntity.isManaged()) return null;
+        final Neo4jPersistentProperty uniqueProperty = persistentEntity.getUniqueProperty();
+        if (uniqueProperty != null && !uniqueProperty.getIndexInfo().isLabelBased()) return null;
+
+        final List<PropertyWriter> writers = new ArrayList<>();
+        final boolean[] supported = {true};
+        persistentEntity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+                if (!supported[0]) return;
+                if (property.isIdProperty() || property.isTransient() || property.hasQuery() || property.isAnnotationPresent(GraphTraversal.class)) return;
+                final PropertyWriter writer = createWriter(property);
+                if (writer == null) supported[0] = false;
+                else writers.add(writer);
+            }
+        });
+        if (!supported[0]) return null;
+
+        final List<Neo4jPersistentProperty> associations = new ArrayList<>();
+        persistentEntity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                associations.add(association.getInverse());
+            }
+        });
+        return new EntityStatement(persistentEntity, writers, associations);
+    }
+
+    private PropertyWriter createWriter(Neo4jPersistentProperty property) {
+        if (property.isAnnotationPresent(Labels.class)) return null;
+        if (property.isIndexed() && !property.getIndexInfo().isLabelBased()) return null;
+        final ConversionService conversionService = template.getConversionService();
+        if (property.isNeo4jPropertyType()) {
+            return new PropertyWriter(property, null);
+        }
+        if (property.isSerializablePropertyField(conversionService)) {
+            return new PropertyWriter(property, new PropertyConverter(conversionService, property));
+        }
+        if (property.getType() == Object.class) {
+            GenericConversionService genericConversionService = new GenericConversionService();
+            genericConversionService.addConverter(new GenericObjectToObjectConverter());
+            return new PropertyWriter(property, new PropertyConverter(genericConversionService, property));
+        }
+        return null;
+    }
+
+    private static String quote(String name) {
+        return "`" + name + "`";
+    }
+
+    private class PropertyWriter {
+        private final Neo4jPersistentProperty property;
+        private final PropertyConverter converter;
+        private final boolean validate;
+
+        PropertyWriter(Neo4jPersistentProperty property, PropertyConverter converter) {
+            this.property = property;
+            this.converter = converter;
+            this.validate = property.findAnnotation(Constraint.class) != null;
+        }
+
+        String getName() {
+            return property.getNeo4jPropertyName();
+        }
+
+        @SuppressWarnings("unchecked")
+        Object getValue(Object entity) {
+            final Object value = property.getValueFromEntity(entity, MappingPolicy.MAP_FIELD_DIRECT_POLICY);
+            final Validator validator = template.getValidator();
+            if (validate && validator != null) {
+                Set<ConstraintViolation<Object>> constraintViolations = validator.validateValue((Class<Object>) property.getOwner().getType(), property.getName(), value);
+                if (!constraintViolations.isEmpty()) throw new ValidationException("Error validating field " + property.getName() + " of " + property.getOwner() + ": " + constraintViolations);
+            }
+            return converter == null ? value : converter.serializeIfNotBuiltIn(value);
+        }
+    }
+
+    private class EntityStatement {
+        private final Neo4jPersistentEntityImpl<?> persistentEntity;
+        private final List<PropertyWriter> writers;
+        private final List<Neo4jPersistentProperty> associations;
+        private final PropertyWriter uniqueWriter;
+        private final String statement;
+
+        EntityStatement(Neo4jPersistentEntityImpl<?> persistentEntity, List<PropertyWriter> writers, List<Neo4jPersistentProperty> associations) {
+            this.persistentEntity = persistentEntity;
+            this.writers = writers;
+            this.associations = associations;
+            this.uniqueWriter = findUniqueWriter();
+            this.statement = createStatement();
+        }
+
+        private PropertyWriter findUniqueWriter() {
+            final Neo4jPersistentProperty uniqueProperty = persistentEntity.getUniqueProperty();
+            if (uniqueProperty == null || uniqueProperty.getIndexInfo().isFailOnDuplicate()) return null;
+            for (PropertyWriter writer : writers) {
+                if (writer.property.equals(uniqueProperty)) return writer;
+            }
+            return null;
+        }
+
+        private Set<String> getLabels() {
+            final Set<String> labels = new LinkedHashSet<>(persistentEntity.getAllLabels());
+            if (template.isLabelBased()) {
+                labels.add(LabelBasedNodeTypeRepresentationStrategy.LABELSTRATEGY_PREFIX + persistentEntity.getEntityType().getAlias());
+            }
+            return labels;
+        }
+
+        private String createStatement() {
+            final StringBuilder labels = new StringBuilder();
+            for (String label : getLabels()) {
+                labels.append(":").append(quote(label));
+            }
+            final StringBuilder sb = new StringBuilder("UNWIND {rows} AS row ");
+            if (uniqueWriter != null) {
+                final IndexInfo indexInfo = uniqueWriter.property.getIndexInfo();
+                sb.append("MERGE (n:").append(quote(indexInfo.getIndexName())).append(" {").append(quote(indexInfo.getIndexKey())).append(": row.key})");
+                sb.append(" ON CREATE SET n.").append(CREATED_MARKER).append(" = true SET n").append(labels);
+            } else {
+                sb.append("CREATE (n").append(labels).append(")");
+            }
+            boolean first = uniqueWriter == null;
+            for (PropertyWriter writer : writers) {
+                sb.append(first ? " SET " : ", ");
+                first = false;
+                final String name = quote(writer.getName());
+                sb.append("n.").append(name).append(" = row.props.").append(name);
+            }
+            if (uniqueWriter != null) {
+                sb.append(" WITH row, n, coalesce(n.").append(CREATED_MARKER).append(", false) AS created REMOVE n.").append(CREATED_MARKER);
+            } else {
+                sb.append(" WITH row, n, true AS created");
+            }
+            return sb.append(" RETURN row.index AS index, n AS node, created").toString();
+        }
+
+        boolean canWrite(Object entity) {
+            for (Neo4jPersistentProperty association : associations) {
+                if (!isEmpty(association.getValueFromEntity(entity, MappingPolicy.MAP_FIELD_DIRECT_POLICY))) return false;
+            }
+            final Neo4jPersistentProperty uniqueProperty = persistentEntity.getUniqueProperty();
+            return uniqueProperty == null || uniqueProperty.getValueFromEntity(entity, MappingPolicy.MAP_FIELD_DIRECT_POLICY) != null;
+        }
+
+        private boolean isEmpty(Object value) {
+            if (value == null) return true;
+            if (value instanceof Collection) return ((Collection) value).isEmpty();
+            return value instanceof Iterable && !((Iterable) value).iterator().hasNext();
+        }
+
+        <T> void write(List<T> entities, List<T> created) {
+            final List<Map<String, Object>> rows = new ArrayList<>(entities.size());
+            for (int i = 0; i < entities.size(); i++) {
+                final Object entity = entities.get(i);
+                final Map<String, Object> props = new HashMap<>();
+                for (PropertyWriter writer : writers) {
+                    props.put(writer.getName(), writer.getValue(entity));
+                }
+                final Map<String, Object> row = map("index", i, "props", props);
+                if (uniqueWriter != null) row.put("key", props.get(uniqueWriter.getName()));
+                rows.add(row);
+            }
+            final boolean writeType = !template.isLabelBased();
+            final Set<Long> createdNodes = new HashSet<>();
+            for (Map<String, Object> result : template.query(statement, map("rows", (Object) rows))) {
+                final T entity = entities.get(((Number) result.get("index")).intValue());
+                final Node node = (Node) result.get("node");
+                // rows merged into the same new node all see its marker, only the first one created it
+                if (Boolean.TRUE.equals(result.get("created")) && createdNodes.add(node.getId())) created.add(entity);
+                if (writeType) {
+                    template.getInfrastructure().getTypeRepresentationStrategies().writeTypeTo(node, persistentEntity.getEntityType());
+                }
+                template.setPersistentState(entity, node);
+            }
+        }
+    }
+}
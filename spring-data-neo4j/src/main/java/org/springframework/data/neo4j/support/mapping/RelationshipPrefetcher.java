@@ -0,0 +1,192 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.neo4j.fieldaccess.PrefetchedRelationships;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.mapping.RelationshipInfo;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.util.*;
+
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+/**
+ * Loads node entities together with the end nodes of their <code>@RelatedTo</code> fields, so that mapping a list of
+ * entities doesn't read the relationships of every single node (N+1).
+ * <p/>
+ * The neighbours are read breadth first with one query per depth level, for all nodes of the level at once. Only the
+ * targets of <code>@Fetch</code> fields are loaded completely and therefore expanded into the next level, cycles are
+ * only followed once. All entities are mapped within one {@link Neo4jEntityPersister.StackedEntityCache} scope, so that
+ * shared neighbours map to the same instance.
+ * <p/>
+ * Relationship fields declared on subtypes of the target types fall back to loading per node.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class RelationshipPrefetcher {
+
+    private static final String NEIGHBOURS_QUERY =
+            "MATCH (n)-[r]-(m) WHERE id(n) IN {ids} AND type(r) IN {types} " +
+            "RETURN id(n) AS source, type(r) AS type, id(startNode(r)) = id(n) AS outgoing, id(endNode(r)) = id(n) AS incoming, m AS node";
+
+    private final Neo4jTemplate template;
+
+    public RelationshipPrefetcher(Neo4jTemplate template) {
+        this.template = template;
+    }
+
+    /**
+     * maps the nodes to entities of the given type, in order, with their related nodes prefetched
+     */
+    public <T> List<T> load(List<Node> nodes, Class<T> type, MappingPolicy mappingPolicy) {
+        final Neo4jPersistentEntity<?> persistentEntity = template.getInfrastructure().getMappingContext().getPersistentEntity(type);
+        PrefetchedRelationships.push();
+        Neo4jEntityPersister.StackedEntityCache.push();
+        try {
+            prefetch(nodes, persistentEntity);
+            final List<T> result = new ArrayList<>(nodes.size());
+            for (Node node : nodes) {
+                result.add(template.createEntityFromState(node, type, mappingPolicy));
+            }
+            return result;
+        } finally {
+            Neo4jEntityPersister.StackedEntityCache.pop();
+            PrefetchedRelationships.pop();
+        }
+    }
+
+    /**
+     * registers the neighbours of the nodes and of their fetched targets with the current {@link PrefetchedRelationships},
+     * which must have been pushed by the caller
+     */
+    public void prefetch(Collection<Node> nodes, Neo4jPersistentEntity<?> persistentEntity) {
+        final Set<Long> visited = new HashSet<>();
+        Map<Neo4jPersistentEntity<?>, Map<Long, Node>> level = new LinkedHashMap<>();
+        for (Node node : nodes) {
+            if (visited.add(node.getId())) add(level, persistentEntity, node);
+        }
+        while (!level.isEmpty()) {
+            level = prefetchLevel(level, visited);
+        }
+    }
+
+    private Map<Neo4jPersistentEntity<?>, Map<Long, Node>> prefetchLevel(Map<Neo4jPersistentEntity<?>, Map<Long, Node>> level, Set<Long> visited) {
+        final Map<Neo4jPersistentEntity<?>, Map<Long, Node>> next = new LinkedHashMap<>();
+        final Map<Neo4jPersistentEntity<?>, List<Neo4jPersistentProperty>> relationships = new HashMap<>();
+        final Set<String> types = new HashSet<>();
+        final List<Long> ids = new ArrayList<>();
+        for (Map.Entry<Neo4jPersistentEntity<?>, Map<Long, Node>> entry : level.entrySet()) {
+            final List<Neo4jPersistentProperty> properties = relatedTo(entry.getKey());
+            if (properties.isEmpty()) continue;
+            relationships.put(entry.getKey(), properties);
+            for (Neo4jPersistentProperty property : properties) {
+                types.add(property.getRelationshipInfo().getType());
+            }
+            ids.addAll(entry.getValue().keySet());
+        }
+        if (ids.isEmpty()) return next;
+
+        final Map<Long, List<Neighbour>> neighbours = loadNeighbours(ids, types);
+        for (Map.Entry<Neo4jPersistentEntity<?>, List<Neo4jPersistentProperty>> entry : relationships.entrySet()) {
+            for (Node node : level.get(entry.getKey()).values()) {
+                final List<Neighbour> candidates = neighbours.get(node.getId());
+                for (Neo4jPersistentProperty property : entry.getValue()) {
+                    final RelationshipInfo info = property.getRelationshipInfo();
+                    final Set<Node> others = new LinkedHashSet<>();
+                    if (candidates != null) {
+                        for (Neighbour neighbour : candidates) {
+                            if (neighbour.matches(info.getType(), info.getDirection())) others.add(neighbour.node);
+                        }
+                    }
+                    PrefetchedRelationships.add(node.getId(), info.getType(), info.getDirection(), others);
+                    if (!property.getMappingPolicy().shouldLoad()) continue;
+                    for (Node other : others) {
+                        if (visited.add(other.getId())) add(next, info.getTargetEntity(), other);
+                    }
+                }
+            }
+        }
+        return next;
+    }
+
+    private List<Neo4jPersistentProperty> relatedTo(Neo4jPersistentEntity<?> persistentEntity) {
+        final List<Neo4jPersistentProperty> result = new ArrayList<>();
+        persistentEntity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                final Neo4jPersistentProperty property = association.getInverse();
+                if (property.isRelationship() && property.getRelationshipInfo().isRelatedTo()) {
+                    result.add(property);
+                }
+            }
+        });
+        return result;
+    }
+
+    private Map<Long, List<Neighbour>> loadNeighbours(List<Long> ids, Set<String> types) {
+        final Map<Long, List<Neighbour>> result = new HashMap<>();
+        for (Map<String, Object> row : template.query(NEIGHBOURS_QUERY, map("ids", ids, "types", new ArrayList<>(types)))) {
+            final Long source = ((Number) row.get("source")).longValue();
+            List<Neighbour> neighbours = result.get(source);
+            if (neighbours == null) {
+                neighbours = new ArrayList<>();
+                result.put(source, neighbours);
+            }
+            neighbours.add(new Neighbour((String) row.get("type"), Boolean.TRUE.equals(row.get("outgoing")), Boolean.TRUE.equals(row.get("incoming")), (Node) row.get("node")));
+        }
+        return result;
+    }
+
+    private static void add(Map<Neo4jPersistentEntity<?>, Map<Long, Node>> level, Neo4jPersistentEntity<?> persistentEntity, Node node) {
+        Map<Long, Node> nodes = level.get(persistentEntity);
+        if (nodes == null) {
+            nodes = new LinkedHashMap<>();
+            level.put(persistentEntity, nodes);
+        }
+        nodes.put(node.getId(), node);
+    }
+
+    private static class Neighbour {
+        final String type;
+        final boolean outgoing;
+        final boolean incoming;
+        final Node node;
+
+        Neighbour(String type, boolean outgoing, boolean incoming, Node node) {
+            this.type = type;
+            this.outgoing = outgoing;
+            this.incoming = incoming;
+            this.node = node;
+        }
+
+        boolean matches(String type, Direction direction) {
+            if (!this.type.equals(type)) return false;
+            switch (direction) {
+                case OUTGOING: return outgoing;
+                case INCOMING: return incoming;
+                default: return true;
+            }
+        }
+    }
+}
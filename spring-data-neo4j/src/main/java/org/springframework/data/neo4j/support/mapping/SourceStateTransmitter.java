@@ -29,6 +29,8 @@ import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.DoReturn;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.node.EntityStateFactory;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * @author mh
@@ -61,12 +63,39 @@ public class SourceStateTransmitter<S extends PropertyContainer> {
             return entity;
     }
 
-    private <R> void setEntityStateValue(Neo4jPersistentProperty property, EntityState<S> entityState, PersistentPropertyAccessor wrapper, final MappingPolicy mappingPolicy) {
+    private <R> void setEntityStateValue(Neo4jPersistentProperty property, EntityState<S> entityState, PersistentPropertyAccessor wrapper, final MappingPolicy mappingPolicy, EntitySnapshots.Snapshot snapshot) {
         if (!entityState.isWritable(property)) return;
         final Object value = getProperty(wrapper, property);
+        if (snapshot != null && snapshot.isUnchanged(property, value)) return;
         entityState.setValue(property, value, mappingPolicy);
     }
 
+    /**
+     * records the current values of the entity for dirty checking, if enabled
+     */
+    public void captureSnapshot(PersistentPropertyAccessor wrapper, S source, Neo4jPersistentEntity persistentEntity, Neo4jTemplate template) {
+        final EntitySnapshots snapshots = template.getInfrastructure().getEntitySnapshots();
+        if (snapshots == null) return;
+        snapshots.capture(wrapper, source, persistentEntity);
+    }
+
+    private void captureWrittenSnapshot(final EntitySnapshots snapshots, PersistentPropertyAccessor wrapper, final S target, Neo4jPersistentEntity persistentEntity) {
+        final Object entity = wrapper.getBean();
+        // the written values only become the stored state if the transaction commits, without a synchronization
+        // a rollback can't drop the snapshot, so the entity isn't tracked until it is loaded again
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshots.remove(entity, target);
+            return;
+        }
+        snapshots.capture(wrapper, target, persistentEntity);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) snapshots.remove(entity, target);
+            }
+        });
+    }
+
     private <R> Object getProperty(PersistentPropertyAccessor wrapper, Neo4jPersistentProperty property) {
         try {
             return wrapper.getProperty(property);
@@ -92,6 +121,9 @@ public class SourceStateTransmitter<S extends PropertyContainer> {
     public <R> void copyPropertiesTo(final PersistentPropertyAccessor wrapper, S target, Neo4jPersistentEntity persistentEntity, MappingPolicy mappingPolicy, final Neo4jTemplate template) {
         final Transaction tx = template.getGraphDatabase().beginTx();
         try {
+            final EntitySnapshots snapshots = template.getInfrastructure().getEntitySnapshots();
+            // only the values that changed since the entity was loaded or saved are written
+            final EntitySnapshots.Snapshot snapshot = snapshots == null ? null : snapshots.get(wrapper.getBean(), target);
             final EntityState<S> entityState = entityStateFactory.getEntityState(wrapper.getBean(), false, template);
             if (target instanceof UpdateableState) {
                 ((UpdateableState)target).track();
@@ -102,7 +134,7 @@ public class SourceStateTransmitter<S extends PropertyContainer> {
             persistentEntity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
                 @Override
                 public void doWithPersistentProperty(Neo4jPersistentProperty property) {
-                    setEntityStateValue(property, entityState, wrapper, property.getMappingPolicy());
+                    setEntityStateValue(property, entityState, wrapper, property.getMappingPolicy(), snapshot);
                 }
             });
             if (target instanceof UpdateableState) {
@@ -113,9 +145,12 @@ public class SourceStateTransmitter<S extends PropertyContainer> {
                 @Override
                 public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
                     final Neo4jPersistentProperty property = association.getInverse();
-                    setEntityStateValue(property, entityState, wrapper, property.getMappingPolicy());
+                    setEntityStateValue(property, entityState, wrapper, property.getMappingPolicy(), snapshot);
                 }
             });
+            if (snapshots != null) {
+                captureWrittenSnapshot(snapshots, wrapper, entityState.getPersistentState(), persistentEntity);
+            }
             tx.success();
         } catch(Throwable t) {
 			tx.failure();
@@ -1,7 +1,13 @@
 package org.springframework.data.neo4j.support.schema;
 
+import org.neo4j.graphdb.DynamicLabel;
+import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.schema.ConstraintDefinition;
+import org.neo4j.graphdb.schema.ConstraintType;
+import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema;
 import org.neo4j.helpers.collection.MapUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,7 +22,9 @@ import org.springframework.data.neo4j.support.DelegatingGraphDatabase;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static org.neo4j.helpers.collection.MapUtil.map;
@@ -49,6 +57,90 @@ public class SchemaIndexProvider {
         cypher.query(query, null);
     }
 
+    /**
+     * @return the schema index (or uniqueness constraint) for the indexed property
+     */
+    public SchemaIndex schemaIndexFor(Neo4jPersistentProperty property) {
+        return new SchemaIndex(getLabel(property), getName(property), property.getIndexInfo().isUnique());
+    }
+
+    /**
+     * Reads all schema indexes and uniqueness constraints of the database at once.
+     *
+     * @return the existing indexes and constraints, or null if the schema of the database can't be read directly
+     * (e.g. a remote database)
+     */
+    public Set<SchemaIndex> existingIndexes() {
+        final GraphDatabaseService db = schemaDatabase();
+        if (db == null) return null;
+        final Set<SchemaIndex> existing = new HashSet<>();
+        try (Transaction tx = db.beginTx()) {
+            final Schema schema = db.schema();
+            for (IndexDefinition index : schema.getIndexes()) {
+                if (index.isConstraintIndex()) continue;
+                for (String prop : index.getPropertyKeys()) {
+                    existing.add(new SchemaIndex(index.getLabel().name(), prop, false));
+                }
+            }
+            for (ConstraintDefinition constraint : schema.getConstraints()) {
+                if (!constraint.isConstraintType(ConstraintType.UNIQUENESS)) continue;
+                for (String prop : constraint.getPropertyKeys()) {
+                    existing.add(new SchemaIndex(constraint.getLabel().name(), prop, true));
+                }
+            }
+            tx.success();
+        }
+        return existing;
+    }
+
+    /**
+     * Creates the given indexes and constraints, with a direct database all of them in one schema transaction,
+     * otherwise with one statement each.
+     */
+    public void createIndexes(Collection<SchemaIndex> indexes) {
+        if (indexes.isEmpty()) return;
+        final GraphDatabaseService db = schemaDatabase();
+        if (db == null) {
+            for (SchemaIndex index : indexes) {
+                createIndex(index.getLabel(), index.getProperty(), index.isUnique());
+            }
+            return;
+        }
+        try (Transaction tx = db.beginTx()) {
+            final Schema schema = db.schema();
+            for (SchemaIndex index : indexes) {
+                if (logger.isDebugEnabled()) logger.debug(createIndexQuery(index.getLabel(), index.getProperty(), index.isUnique()));
+                if (index.isUnique()) {
+                    schema.constraintFor(DynamicLabel.label(index.getLabel())).assertPropertyIsUnique(index.getProperty()).create();
+                } else {
+                    schema.indexFor(DynamicLabel.label(index.getLabel())).on(index.getProperty()).create();
+                }
+            }
+            tx.success();
+        }
+    }
+
+    /**
+     * Waits until all given indexes are online, the indexes are populated concurrently by the database so this takes
+     * about as long as the largest one. The schema of a remote database can't be read directly, so there it doesn't
+     * wait, as when creating the indexes one by one.
+     */
+    public void awaitIndexesOnline(Collection<SchemaIndex> indexes, long timeout, TimeUnit unit) {
+        if (indexes.isEmpty()) return;
+        final GraphDatabaseService db = schemaDatabase();
+        if (db == null) return;
+        try (Transaction tx = db.beginTx()) {
+            db.schema().awaitIndexesOnline(timeout, unit);
+            tx.success();
+        } catch (IllegalStateException e) {
+            throw new MappingException("Could not make sure within " + unit.toMillis(timeout) + " ms that the indexes " + indexes + " are ONLINE", e);
+        }
+    }
+
+    private GraphDatabaseService schemaDatabase() {
+        return gd instanceof DelegatingGraphDatabase ? ((DelegatingGraphDatabase) gd).getGraphDatabaseService() : null;
+    }
+
     private final static int RETRIES = 5;
     public void awaitIndexOnline(String label, String prop) {
         sleep(20);
@@ -139,4 +231,49 @@ public class SchemaIndexProvider {
         }
         return "CREATE INDEX ON :`"+ label +"`(`"+ prop +"`)";
     }
+
+    /**
+     * A schema index or, if unique, a uniqueness constraint on a label and property.
+     */
+    public static class SchemaIndex {
+        private final String label;
+        private final String property;
+        private final boolean unique;
+
+        public SchemaIndex(String label, String property, boolean unique) {
+            this.label = label;
+            this.property = property;
+            this.unique = unique;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public boolean isUnique() {
+            return unique;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final SchemaIndex that = (SchemaIndex) o;
+            return unique == that.unique && label.equals(that.label) && property.equals(that.property);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * label.hashCode() + property.hashCode()) + (unique ? 1 : 0);
+        }
+
+        @Override
+        public String toString() {
+            return ":" + label + "(" + property + ")" + (unique ? " UNIQUE" : "");
+        }
+    }
 }
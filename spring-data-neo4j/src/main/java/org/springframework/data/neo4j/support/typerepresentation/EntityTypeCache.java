@@ -18,28 +18,29 @@ package org.springframework.data.neo4j.support.typerepresentation;
 import org.neo4j.graphdb.NotFoundException;
 
 
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
+ * Resolves entity classes by name. The classes are only referenced weakly, so the cache doesn't keep them and their
+ * class loaders from being unloaded (e.g. on redeployment), a collected class is resolved again on the next lookup.
+ *
  * @author mh
  * @since 22.09.11
  */
 class EntityTypeCache {
-    private final Map<String, Class<?>> cache = new WeakHashMap<String, Class<?>>();
+    private final ConcurrentMap<String, WeakReference<Class<?>>> cache = new ConcurrentHashMap<String, WeakReference<Class<?>>>();
 
     @SuppressWarnings({"unchecked"})
     <Object> Class<Object> getClassForName(String className) {
         try {
-            Class<Object> result = (Class<Object>) cache.get(className);
+            final WeakReference<Class<?>> reference = cache.get(className);
+            Class<Object> result = reference != null ? (Class<Object>) reference.get() : null;
             if (result != null) return result;
-            synchronized (cache) {
-                result = (Class<Object>) cache.get(className);
-                if (result != null) return result;
-                result = (Class<Object>) Class.forName(className);
-                cache.put(className, result);
-                return result;
-            }
+            result = (Class<Object>) Class.forName(className);
+            cache.put(className, new WeakReference<Class<?>>(result));
+            return result;
         } catch (NotFoundException e) {
             return null;
         } catch (ClassNotFoundException e) {
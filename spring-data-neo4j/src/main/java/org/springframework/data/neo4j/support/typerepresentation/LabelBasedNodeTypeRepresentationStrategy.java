@@ -27,7 +27,6 @@ import org.springframework.data.neo4j.support.mapping.StoredEntityType;
 import org.springframework.data.neo4j.support.mapping.WrappedIterableClosableIterable;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
 
-import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -55,6 +54,13 @@ public class LabelBasedNodeTypeRepresentationStrategy implements NodeTypeReprese
         markSDNLabelStrategyInUse();
     }
 
+    /**
+     * shares the statements the mapping context rendered for its entity types
+     */
+    public void setLabelStatementRegistry(LabelStatementRegistry labelStatementRegistry) {
+        cypherHelper.setStatementRegistry(labelStatementRegistry);
+    }
+
     @Override
     public void writeTypeTo(Node state, StoredEntityType type) {
         if (type == null || !type.isNodeEntity()) return;
@@ -73,7 +79,7 @@ public class LabelBasedNodeTypeRepresentationStrategy implements NodeTypeReprese
      * as the primary SDN marker Label.
      */
     private void addLabelsForEntityHierarchy(Node state, StoredEntityType type) {
-        Set<String> labels = getAllHierarchyLabelsForType(type);
+        Set<String> labels = cypherHelper.getStatements(type).getHierarchyLabels();
         if (state instanceof UpdateableState) {
             ((UpdateableState) state).addAllLabelsBatch(labels);
         } else {
@@ -81,24 +87,7 @@ public class LabelBasedNodeTypeRepresentationStrategy implements NodeTypeReprese
                 state.addLabel(DynamicLabel.label(label));
             }
         }
-        // cypherHelper.setLabelsOnNode(state.getId(), getAllHierarchyLabelsForType(type));
-    }
-
-    private Set<String> getAllHierarchyLabelsForType(StoredEntityType type) {
-        String alias = type.getAlias().toString();
-        Set<String> labels = collectSuperTypeLabels(type, new LinkedHashSet<String>());
-        labels.add(alias);
-        labels.add(LABELSTRATEGY_PREFIX + alias);
-        return labels;
-    }
-
-    private Set<String> collectSuperTypeLabels(StoredEntityType type, Set<String> labels) {
-        if (type==null) return labels;
-        for (StoredEntityType superType : type.getSuperTypes()) {
-            labels.add(superType.getAlias().toString());
-            collectSuperTypeLabels(superType, labels);
-        }
-        return labels;
+        // cypherHelper.setLabelsOnNode(state.getId(), labels);
     }
 
     /**
@@ -113,13 +102,13 @@ public class LabelBasedNodeTypeRepresentationStrategy implements NodeTypeReprese
 
     @Override
     public <U> ClosableIterable<Node> findAll(StoredEntityType type) {
-        Iterable<Node> rin = cypherHelper.getNodesWithLabel(type.getAlias().toString());
+        Iterable<Node> rin = cypherHelper.getNodesWithLabel(type);
         return new WrappedIterableClosableIterable<>(rin);
     }
 
     @Override
     public long count(StoredEntityType type) {
-        return cypherHelper.countNodesWithLabel(type.getAlias().toString());
+        return cypherHelper.countNodesWithLabel(type);
     }
 
     @Override
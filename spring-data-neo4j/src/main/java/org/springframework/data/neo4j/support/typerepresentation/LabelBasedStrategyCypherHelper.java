@@ -3,6 +3,7 @@ package org.springframework.data.neo4j.support.typerepresentation;
 import org.neo4j.graphdb.Node;
 import org.springframework.data.neo4j.conversion.Result;
 import org.springframework.data.neo4j.repository.query.CypherQuery;
+import org.springframework.data.neo4j.support.mapping.StoredEntityType;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 
@@ -31,11 +32,33 @@ public class LabelBasedStrategyCypherHelper {
     static final String CYPHER_RETURN_LABELS_FOR_NODE = "match (n) where id(n)={nodeId} return labels(n) as labels";
 
     private CypherQueryEngine queryEngine;
+    private LabelStatementRegistry statementRegistry = new LabelStatementRegistry();
 
     public LabelBasedStrategyCypherHelper(CypherQueryEngine queryEngine) {
         this.queryEngine = queryEngine;
     }
 
+    public void setStatementRegistry(LabelStatementRegistry statementRegistry) {
+        this.statementRegistry = statementRegistry;
+    }
+
+    public LabelStatementRegistry.LabelStatements getStatements(StoredEntityType type) {
+        return statementRegistry.get(type);
+    }
+
+    public void setLabelOnNode(Long nodeId, StoredEntityType type) {
+        queryEngine.query( getStatements(type).getSetLabel(), getParamsWithNodeId(nodeId) );
+    }
+
+    public Iterable<Node> getNodesWithLabel(StoredEntityType type) {
+        return queryEngine.query(getStatements(type).getFindAll(), Collections.<String,Object>emptyMap()).to(Node.class);
+    }
+
+    public long countNodesWithLabel(StoredEntityType type) {
+        Result<Map<String, Object>> result = queryEngine.query(getStatements(type).getCount(), Collections.<String,Object>emptyMap());
+        return result.to(Number.class).single().longValue();
+    }
+
     public void setLabelOnNode(Long nodeId, String label) {
         String addLabelStatement = String.format(CYPHER_ADD_LABEL_TO_NODE , label);
         queryEngine.query( addLabelStatement, getParamsWithNodeId(nodeId) );
@@ -63,11 +86,11 @@ public class LabelBasedStrategyCypherHelper {
 
 
     public String buildLabelString(String... labels) {
-        String result = "";
+        StringBuilder result = new StringBuilder();
         for (String label: labels) {
-            result += ":`" + label + "`";
+            result.append(":`").append(label).append('`');
         }
-        return result;
+        return result.toString();
     }
 
     private Map<String, Object> getParamsWithNodeId(long id) {
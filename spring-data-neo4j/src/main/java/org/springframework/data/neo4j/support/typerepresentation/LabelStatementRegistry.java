@@ -0,0 +1,104 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.typerepresentation;
+
+import org.springframework.data.neo4j.support.mapping.StoredEntityType;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.springframework.data.neo4j.support.typerepresentation.LabelBasedNodeTypeRepresentationStrategy.LABELSTRATEGY_PREFIX;
+import static org.springframework.data.neo4j.support.typerepresentation.LabelBasedStrategyCypherHelper.*;
+
+/**
+ * Label based statements per {@link StoredEntityType}, rendered once when the type is registered by the mapping context,
+ * so that counting, finding and labeling nodes of a type always sends the same statement text and nothing is formatted
+ * per call. Labels can't be Cypher parameters, so the statements have to be specific to the type.
+ * <p/>
+ * Types that were not registered are rendered on first use.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class LabelStatementRegistry {
+
+    // stored types are recreated when their entity is added again, their class stays the same
+    private final ConcurrentMap<Class<?>, LabelStatements> statements = new ConcurrentHashMap<>();
+
+    public void register(StoredEntityType type) {
+        if (type == null || !type.isNodeEntity()) return;
+        statements.put(type.getType(), new LabelStatements(type));
+    }
+
+    public LabelStatements get(StoredEntityType type) {
+        final LabelStatements existing = statements.get(type.getType());
+        if (existing != null) return existing;
+        final LabelStatements created = new LabelStatements(type);
+        final LabelStatements concurrent = statements.putIfAbsent(type.getType(), created);
+        return concurrent != null ? concurrent : created;
+    }
+
+    public static class LabelStatements {
+        private final String findAll;
+        private final String count;
+        private final String setLabel;
+        private final Set<String> hierarchyLabels;
+
+        LabelStatements(StoredEntityType type) {
+            final String alias = type.getAlias().toString();
+            this.findAll = String.format(CYPHER_RETURN_NODES_WITH_LABEL, alias);
+            this.count = String.format(CYPHER_RETURN_COUNT_OF_NODES_WITH_LABEL, alias);
+            this.setLabel = String.format(CYPHER_ADD_LABEL_TO_NODE, alias);
+            final Set<String> labels = collectSuperTypeLabels(type, new LinkedHashSet<String>());
+            labels.add(alias);
+            labels.add(LABELSTRATEGY_PREFIX + alias);
+            this.hierarchyLabels = Collections.unmodifiableSet(labels);
+        }
+
+        private static Set<String> collectSuperTypeLabels(StoredEntityType type, Set<String> labels) {
+            for (StoredEntityType superType : type.getSuperTypes()) {
+                labels.add(superType.getAlias().toString());
+                collectSuperTypeLabels(superType, labels);
+            }
+            return labels;
+        }
+
+        public String getFindAll() {
+            return findAll;
+        }
+
+        public String getCount() {
+            return count;
+        }
+
+        /**
+         * @return statement setting the label of the type on the node with the id parameter <code>nodeId</code>
+         */
+        public String getSetLabel() {
+            return setLabel;
+        }
+
+        /**
+         * @return the aliases of the type and its super types plus the prefixed primary label of the type
+         */
+        public Set<String> getHierarchyLabels() {
+            return hierarchyLabels;
+        }
+    }
+}
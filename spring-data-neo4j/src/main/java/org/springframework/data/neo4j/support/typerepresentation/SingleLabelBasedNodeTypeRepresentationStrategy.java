@@ -27,10 +27,6 @@ import org.springframework.data.neo4j.support.mapping.StoredEntityType;
 import org.springframework.data.neo4j.support.mapping.WrappedIterableClosableIterable;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
 
-import java.util.Collections;
-import java.util.LinkedHashSet;
-import java.util.Set;
-
 /**
  * Provides a Node Type Representation Strategy which makes use of a single Label per type.
  */
@@ -51,6 +47,13 @@ public class SingleLabelBasedNodeTypeRepresentationStrategy implements NodeTypeR
         markSDNLabelStrategyInUse();
     }
 
+    /**
+     * shares the statements the mapping context rendered for its entity types
+     */
+    public void setLabelStatementRegistry(LabelStatementRegistry labelStatementRegistry) {
+        cypherHelper.setStatementRegistry(labelStatementRegistry);
+    }
+
     @Override
     public void writeTypeTo(Node state, StoredEntityType type) {
         if (type == null || !type.isNodeEntity()) return;
@@ -69,11 +72,7 @@ public class SingleLabelBasedNodeTypeRepresentationStrategy implements NodeTypeR
      * as the primary SDN marker Label.
      */
     private void addLabelsForEntityHierarchy(Node state, StoredEntityType type) {
-        cypherHelper.setLabelsOnNode(state.getId(), getAllHierarchyLabelsForType(type));
-    }
-
-    private Set<String> getAllHierarchyLabelsForType(StoredEntityType type) {
-        return Collections.singleton(type.getAlias().toString());
+        cypherHelper.setLabelOnNode(state.getId(), type);
     }
 
     /**
@@ -88,13 +87,13 @@ public class SingleLabelBasedNodeTypeRepresentationStrategy implements NodeTypeR
 
     @Override
     public <U> ClosableIterable<Node> findAll(StoredEntityType type) {
-        Iterable<Node> rin = cypherHelper.getNodesWithLabel(type.getAlias().toString());
+        Iterable<Node> rin = cypherHelper.getNodesWithLabel(type);
         return new WrappedIterableClosableIterable(rin);
     }
 
     @Override
     public long count(StoredEntityType type) {
-        return cypherHelper.countNodesWithLabel(type.getAlias().toString());
+        return cypherHelper.countNodesWithLabel(type);
     }
 
     @Override
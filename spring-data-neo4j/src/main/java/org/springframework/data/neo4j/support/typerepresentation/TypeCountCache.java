@@ -0,0 +1,152 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.typerepresentation;
+
+import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
+import org.springframework.data.neo4j.support.mapping.StoredEntityType;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the instance counts per entity type. A count is read from the type representation strategy on first use and
+ * after the time to live has passed, in between it is adjusted by the creations and removals reported through
+ * {@link #created(StoredEntityType)} and {@link #removed(StoredEntityType)}. Within a transaction the changes are
+ * applied when it commits, counts read in the transaction include its own pending changes.
+ * <p/>
+ * Changes that don't go through the template (e.g. Cypher statements) only show up after the next reconciliation, so
+ * counts are approximate for at most the time to live.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class TypeCountCache {
+
+    private final long timeToLive;
+    private final ConcurrentMap<Class<?>, Count> counts = new ConcurrentHashMap<>();
+
+    /**
+     * @param timeToLive in millis, after which a count is reconciled with the exact count
+     */
+    public TypeCountCache(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public long count(StoredEntityType type, TypeRepresentationStrategy<?> strategy) {
+        final long pending = pendingChanges(type);
+        final Count count = counts.get(type.getType());
+        if (count != null && !count.isExpired(timeToLive)) {
+            return count.value.get() + pending;
+        }
+        final long exact = strategy.count(type);
+        // an exact count read in a transaction with pending changes already contains them
+        if (pending == 0) counts.put(type.getType(), new Count(exact));
+        return exact;
+    }
+
+    public void created(StoredEntityType type) {
+        changed(type, 1);
+    }
+
+    public void removed(StoredEntityType type) {
+        changed(type, -1);
+    }
+
+    /**
+     * drops all counts, they are read again on next use
+     */
+    public void clear() {
+        counts.clear();
+    }
+
+    private void changed(StoredEntityType type, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(type, delta);
+            return;
+        }
+        Map<StoredEntityType, Long> pending = pendingChanges();
+        if (pending == null) {
+            pending = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public void afterCompletion(int status) {
+                    final Map<StoredEntityType, Long> changes = (Map<StoredEntityType, Long>) TransactionSynchronizationManager.unbindResourceIfPossible(TypeCountCache.this);
+                    if (status != STATUS_COMMITTED || changes == null) return;
+                    for (Map.Entry<StoredEntityType, Long> entry : changes.entrySet()) {
+                        apply(entry.getKey(), entry.getValue());
+                    }
+                }
+            });
+        }
+        final Long current = pending.get(type);
+        pending.put(type, current == null ? delta : current + delta);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<StoredEntityType, Long> pendingChanges() {
+        return (Map<StoredEntityType, Long>) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private long pendingChanges(StoredEntityType type) {
+        final Map<StoredEntityType, Long> pending = pendingChanges();
+        if (pending == null) return 0;
+        long result = 0;
+        for (Map.Entry<StoredEntityType, Long> entry : pending.entrySet()) {
+            if (type.getType().isAssignableFrom(entry.getKey().getType())) result += entry.getValue();
+        }
+        return result;
+    }
+
+    /**
+     * the counts of the super types include their sub types
+     */
+    private void apply(StoredEntityType type, long delta) {
+        for (Class<?> affected : collectTypes(type, new LinkedHashSet<Class<?>>())) {
+            final Count count = counts.get(affected);
+            if (count != null) count.value.addAndGet(delta);
+        }
+    }
+
+    private Set<Class<?>> collectTypes(StoredEntityType type, Set<Class<?>> types) {
+        if (!types.add(type.getType())) return types;
+        for (StoredEntityType superType : type.getSuperTypes()) {
+            collectTypes(superType, types);
+        }
+        return types;
+    }
+
+    private static class Count {
+        final AtomicLong value;
+        final long loaded = System.currentTimeMillis();
+
+        Count(long value) {
+            this.value = new AtomicLong(value);
+        }
+
+        boolean isExpired(long timeToLive) {
+            return System.currentTimeMillis() - loaded > timeToLive;
+        }
+    }
+}
@@ -31,6 +31,7 @@ public class TypeRepresentationStrategies implements TypeRepresentationStrategy<
     private final Neo4jMappingContext mappingContext;
     private final TypeRepresentationStrategy<Node> nodeTypeRepresentationStrategy;
     private final TypeRepresentationStrategy<Relationship> relationshipTypeRepresentationStrategy;
+    private TypeCountCache countCache;
 
     public TypeRepresentationStrategies(Neo4jMappingContext mappingContext,
                                         TypeRepresentationStrategy<Node> nodeTypeRepresentationStrategy,
@@ -83,9 +84,42 @@ public class TypeRepresentationStrategies implements TypeRepresentationStrategy<
 
     @Override
     public long count(StoredEntityType type) {
+        if (countCache != null) return countCache.count(type, getTypeRepresentationStrategy(type));
         return getTypeRepresentationStrategy(type).count(type);
     }
 
+    /**
+     * @return the count read from the graph, regardless of the count cache
+     */
+    public long countExact(StoredEntityType type) {
+        return getTypeRepresentationStrategy(type).count(type);
+    }
+
+    /**
+     * reports a new instance of the type to the count cache, if any
+     */
+    public void entityCreated(StoredEntityType type) {
+        if (countCache != null && type != null) countCache.created(type);
+    }
+
+    /**
+     * reports a removed instance of the type to the count cache, if any
+     */
+    public void entityRemoved(StoredEntityType type) {
+        if (countCache != null && type != null) countCache.removed(type);
+    }
+
+    /**
+     * @param countCache to answer {@link #count(StoredEntityType)} from, null (the default) for exact counts
+     */
+    public void setCountCache(TypeCountCache countCache) {
+        this.countCache = countCache;
+    }
+
+    public TypeCountCache getCountCache() {
+        return countCache;
+    }
+
     @Override
     public Object readAliasFrom(PropertyContainer state) {
         return getTypeRepresentationStrategy(state).readAliasFrom(state);
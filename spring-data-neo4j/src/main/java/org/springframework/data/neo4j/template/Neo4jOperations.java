@@ -31,6 +31,7 @@ import org.springframework.data.neo4j.repository.GraphRepository;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -236,6 +237,11 @@ public interface Neo4jOperations {
      * @return mapped entity or null
      */
     <T> T findOne(long id, Class<T> type);
+    /**
+     * Retrieves the nodes or relationships with the given ids and returns them mapped to the given type, in the order of the ids.
+     * The nodes of node entities are loaded together instead of one by one.
+     */
+    <T> List<T> findAll(Iterable<Long> ids, Class<T> entityClass);
     /**
      * Provides all instances of a given entity type using the typerepresentation strategy configured for this template.
      * This method is also provided by the appropriate repository.
@@ -268,6 +274,13 @@ public interface Neo4jOperations {
      */
     <T> void saveOnly(T entity);
 
+    /**
+     * Stores the given entities in the graph. New node entities without attached relationships are created in bulk, with
+     * a single statement per entity type, all other entities are saved one by one as with {@link #save(Object)}.
+     * @return the saved entities in the order of the given collection
+     */
+    <T> Collection<T> saveAll(Collection<T> entities);
+
     Number getId(Object entity);
 
     /**
@@ -276,6 +289,13 @@ public interface Neo4jOperations {
      */
     void delete(Object entity);
 
+    /**
+     * Removes the given node or relationship entities or nodes or relationships from the graph as with
+     * {@link #delete(Object)}, but the plain relationships of the removed nodes are deleted with one Cypher statement
+     * per batch of nodes instead of one by one.
+     */
+    void deleteAll(Collection<?> entities);
+
     /**
      * Returns the node or relationship that backs the given entity.
      */
@@ -0,0 +1,118 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.config;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.neo4j.querydsl.EntityIndexProcessor;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author mh
+ * @since 12.03.15
+ */
+public class EntityIndexTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File classes;
+
+    @Before
+    public void setUp() throws Exception {
+        final File sources = folder.newFolder("src");
+        classes = folder.newFolder("classes");
+        final File sensor = new File(sources, "Sensor.java");
+        Files.write(sensor.toPath(), ("package com.example.index;\n" +
+                "@org.springframework.data.neo4j.annotation.NodeEntity\n" +
+                "public class Sensor {\n" +
+                "    public static class Outdoor extends Sensor { }\n" +
+                "    public static class Calibration { }\n" +
+                "    public static abstract class Mobile extends Sensor { }\n" +
+                "    public class Reading extends Sensor { }\n" +
+                "}\n").getBytes(StandardCharsets.UTF_8));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final int result = compiler.run(null, null, null, "-proc:only", "-processor", EntityIndexProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"), "-d", classes.getPath(), sensor.getPath());
+        assertEquals("compilation result", 0, result);
+    }
+
+    @Test
+    public void testProcessorWritesEntityIndex() throws Exception {
+        final List<String> entities = Files.readAllLines(new File(classes, BasePackageScanner.ENTITY_INDEX).toPath(), StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList("com.example.index.Sensor", "com.example.index.Sensor$Outdoor"), entities);
+    }
+
+    @Test
+    public void testScannerReadsEntityIndex() throws Exception {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader classLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(new URLClassLoader(new URL[]{classes.toURI().toURL()}, classLoader));
+        try {
+            assertEquals(new HashSet<>(Arrays.asList("com.example.index.Sensor", "com.example.index.Sensor$Outdoor")), BasePackageScanner.scanBasePackage("com.example"));
+            assertEquals(Collections.<String>emptySet(), BasePackageScanner.scanBasePackage("com.example.other"));
+            // the test classes ship no index, they are scanned
+            final Set<String> unindexed = BasePackageScanner.scanBasePackage("org.springframework.data.neo4j.model");
+            assertTrue(unindexed.toString(), unindexed.contains("org.springframework.data.neo4j.model.Person"));
+            System.setProperty(BasePackageScanner.IGNORE_ENTITY_INDEX, "true");
+            final Set<String> scanned = BasePackageScanner.scanBasePackage("org.springframework.data.neo4j.model");
+            assertTrue(scanned.toString(), scanned.contains("org.springframework.data.neo4j.model.Person"));
+        } finally {
+            System.clearProperty(BasePackageScanner.IGNORE_ENTITY_INDEX);
+            thread.setContextClassLoader(classLoader);
+        }
+    }
+
+    @Test
+    public void testScannerScansPackagesOfRootsWithoutIndex() throws Exception {
+        final File sources = folder.newFolder("plain-src");
+        final File plainClasses = folder.newFolder("plain-classes");
+        final File probe = new File(sources, "Probe.java");
+        Files.write(probe.toPath(), ("package com.example.index;\n" +
+                "@org.springframework.data.neo4j.annotation.NodeEntity\n" +
+                "public class Probe { }\n").getBytes(StandardCharsets.UTF_8));
+        final int result = ToolProvider.getSystemJavaCompiler().run(null, null, null, "-proc:none",
+                "-classpath", System.getProperty("java.class.path"), "-d", plainClasses.getPath(), probe.getPath());
+        assertEquals("compilation result", 0, result);
+
+        final Thread thread = Thread.currentThread();
+        final ClassLoader classLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(new URLClassLoader(new URL[]{classes.toURI().toURL(), plainClasses.toURI().toURL()}, classLoader));
+        try {
+            assertEquals(new HashSet<>(Arrays.asList("com.example.index.Sensor", "com.example.index.Sensor$Outdoor", "com.example.index.Probe")),
+                    BasePackageScanner.scanBasePackage("com.example"));
+        } finally {
+            thread.setContextClassLoader(classLoader);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.springframework.data.neo4j.conversion;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.support.MappingInfrastructureFactoryBean;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures how mapping nodes to entities scales with {@link Result#parallel(int)}, from one thread up to the number
+ * of cores. Not a unit test, run the main method.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class ParallelResultMappingBenchmark {
+
+    private static final int ENTITIES = 200000;
+    private static final int ROUNDS = 3;
+
+    @NodeEntity
+    public static class Reading {
+        @GraphId Long id;
+        String sensor;
+        String unit;
+        double value;
+        long timestamp;
+        int quality;
+        boolean calibrated;
+    }
+
+    public static void main(String[] args) throws Exception {
+        GraphDatabaseService db = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        try {
+            Neo4jTemplate template = new Neo4jTemplate(MappingInfrastructureFactoryBean.createDirect(db, null));
+            List<Node> nodes = createNodes(db, template);
+            int cores = Runtime.getRuntime().availableProcessors();
+            System.out.printf("%-12s %-8s %20s %10s%n", "parallelism", "round", "entities/s", "speedup");
+            long sequential = 0;
+            for (int parallelism = 1; parallelism <= cores; parallelism *= 2) {
+                for (int round = 1; round <= ROUNDS; round++) {
+                    // parallel conversion runs its own read transactions, within a running one it is sequential
+                    try (Transaction tx = parallelism == 1 ? db.beginTx() : null) {
+                        long start = System.nanoTime();
+                        int count = 0;
+                        for (Reading reading : new QueryResultBuilder<Node>(nodes, template.getDefaultConverter()).parallel(parallelism).to(Reading.class)) {
+                            if (reading != null) count++;
+                        }
+                        long nanos = System.nanoTime() - start;
+                        if (parallelism == 1) sequential = nanos;
+                        System.out.printf("%-12d %-8d %20d %10.2f%n", parallelism, round, count * 1000000000L / nanos, (double) sequential / nanos);
+                        if (tx != null) tx.success();
+                    }
+                }
+            }
+        } finally {
+            db.shutdown();
+        }
+    }
+
+    private static List<Node> createNodes(GraphDatabaseService db, Neo4jTemplate template) {
+        List<Node> nodes = new ArrayList<>(ENTITIES);
+        try (Transaction tx = db.beginTx()) {
+            for (int i = 0; i < ENTITIES; i++) {
+                Reading reading = new Reading();
+                reading.sensor = "sensor-" + (i % 100);
+                reading.unit = "C";
+                reading.value = i / 10d;
+                reading.timestamp = i;
+                reading.quality = i % 5;
+                reading.calibrated = i % 2 == 0;
+                template.save(reading);
+                nodes.add(db.getNodeById(reading.id));
+            }
+            tx.success();
+        }
+        return nodes;
+    }
+}
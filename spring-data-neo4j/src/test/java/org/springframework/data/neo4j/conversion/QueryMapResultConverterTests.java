@@ -33,6 +33,8 @@ import java.util.Set;
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.neo4j.helpers.collection.IteratorUtil.asCollection;
@@ -112,6 +114,17 @@ public class QueryMapResultConverterTests extends Neo4jPersistentTestBase {
         assertThat( asCollection( result.getFriends() ), equalTo( asCollection( michael.getFriendships() ) ) );
     }
 
+    @Test
+    public void shouldConvertEachColumnOnlyOnce() throws Exception {
+        QueryMapResultConverter<PersonAndFriendsData> converter = new QueryMapResultConverter<PersonAndFriendsData>(
+                template );
+        PersonAndFriendsData result = converter.convert( advancedMap, PersonAndFriendsData.class );
+
+        assertSame( result.getPerson(), result.getPerson() );
+        assertSame( result.getFriends(), result.getFriends() );
+        assertNull( converter.convert( map( "person", null ), PersonAndFriendsData.class ).getPerson() );
+    }
+
     @Test( expected = NoSuchColumnFoundException.class )
     public void shouldThrowNiceException() throws Exception {
         QueryMapResultConverter<PersonAndFriendsData> converter = new QueryMapResultConverter<PersonAndFriendsData>(
@@ -17,12 +17,14 @@ package org.springframework.data.neo4j.conversion;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.neo4j.helpers.collection.ClosableIterable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.neo4j.annotation.MapResult;
 import org.springframework.data.neo4j.support.conversion.EntityResultConverter;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.hasItems;
@@ -88,6 +90,82 @@ public class QueryResultBuilderTests {
         assertThat(page,hasItems(value1,value2));
     }
 
+    @Test
+    public void testParallelConversionKeepsOrder() throws Exception {
+        List<Integer> values = new ArrayList<Integer>();
+        for (int i = 0; i < ParallelConvertingIterable.CHUNK_SIZE * 10 + 7; i++) {
+            values.add(i);
+        }
+        final Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+        Result<String> converted = from(values).parallel(4).to(String.class, new ResultConverter.ResultConverterAdapter<Integer, String>() {
+            @Override
+            public String convert(Integer value, Class<String> type) {
+                threads.add(Thread.currentThread().getName());
+                return String.valueOf(value);
+            }
+        });
+        List<String> result = converted.as(List.class);
+        assertEquals(values.size(), result.size());
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(String.valueOf(i), result.get(i));
+        }
+        assertThat(threads.contains(Thread.currentThread().getName()), is(false));
+    }
+
+    static class SequentialConverter extends ResultConverter.ResultConverterAdapter<Integer, String> implements ConversionScope {
+        final Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+
+        @Override
+        public String convert(Integer value, Class<String> type) {
+            threads.add(Thread.currentThread().getName());
+            return String.valueOf(value);
+        }
+
+        @Override
+        public <V> V execute(Callable<V> conversions) throws Exception {
+            return conversions.call();
+        }
+
+        @Override
+        public boolean canConvertConcurrently() {
+            return false;
+        }
+    }
+
+    @Test
+    public void testParallelConversionFallsBackToCallingThread() throws Exception {
+        List<Integer> values = new ArrayList<Integer>();
+        for (int i = 0; i < ParallelConvertingIterable.CHUNK_SIZE * 3; i++) {
+            values.add(i);
+        }
+        SequentialConverter converter = new SequentialConverter();
+        List<String> result = from(values).parallel(4).to(String.class, converter).as(List.class);
+        assertEquals(values.size(), result.size());
+        assertEquals(String.valueOf(values.size() - 1), result.get(values.size() - 1));
+        assertEquals(Collections.singleton(Thread.currentThread().getName()), converter.threads);
+    }
+
+    @Test
+    public void testClosingAConvertedResultClosesTheSource() throws Exception {
+        final List<Boolean> closed = new ArrayList<Boolean>();
+        ClosableIterable<Integer> source = new ClosableIterable<Integer>() {
+            @Override
+            public void close() {
+                closed.add(true);
+            }
+
+            @Override
+            public Iterator<Integer> iterator() {
+                return asList(1, 2, 3).iterator();
+            }
+        };
+        Result<String> converted = new QueryResultBuilder<Integer>(source).to(String.class);
+        assertEquals("1", converted.iterator().next());
+        converted.close();
+        converted.close();
+        assertEquals(asList(true), closed);
+    }
+
     @Test
     public void testHandle() throws Exception {
 
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import org.junit.Test;
+import org.neo4j.cypher.javacompat.ExecutionEngine;
+import org.neo4j.graphdb.*;
+import org.neo4j.graphdb.traversal.Evaluators;
+import org.neo4j.helpers.collection.IteratorUtil;
+import org.neo4j.kernel.Uniqueness;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.neo4j.graphdb.DynamicRelationshipType.withName;
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+/**
+ * @author mh
+ * @since 12.03.15
+ */
+public class CypherTraversalDescriptionTests {
+
+    private static final RelationshipType KNOWS = withName("knows");
+    private static final RelationshipType LIKES = withName("likes");
+
+    @Test
+    public void testTranslatesTypesDirectionAndDepth() {
+        final CypherTraversalDescription description = CypherTraversalDescription.description()
+                .relationships(KNOWS, Direction.OUTGOING).relationships(LIKES, Direction.OUTGOING)
+                .evaluator(Evaluators.excludeStartPosition()).maxDepth(3);
+        assertEquals("START start=node({start}) MATCH (start)-[:`knows`|`likes`*1..3]->(n) WHERE n <> start RETURN DISTINCT n", description.toCypher(false));
+        assertNull("node global paths", description.toCypher(true));
+    }
+
+    @Test
+    public void testTranslatesRelationshipPathUniqueness() {
+        final CypherTraversalDescription description = CypherTraversalDescription.description()
+                .relationships(KNOWS, Direction.INCOMING).uniqueness(Uniqueness.RELATIONSHIP_PATH).maxDepth(2);
+        assertEquals("START start=node({start}) MATCH p=(start)<-[:`knows`*0..2]-(n) RETURN p", description.toCypher(true));
+        assertEquals("START start=node({start}) MATCH (start)<-[:`knows`*0..2]-(n) RETURN n", description.toCypher(false));
+    }
+
+    @Test
+    public void testUnsupportedDescriptionsAreNotTranslated() {
+        final CypherTraversalDescription description = CypherTraversalDescription.description().relationships(KNOWS).maxDepth(3);
+        assertNull("unbounded depth", CypherTraversalDescription.description().relationships(KNOWS).toCypher(false));
+        assertNull("node global min depth", description.minDepth(2).toCypher(false));
+        assertNull("node global depth first", description.depthFirst().toCypher(false));
+        assertNull("mixed directions", description.relationships(LIKES, Direction.OUTGOING).toCypher(false));
+        assertNull("node path", description.uniqueness(Uniqueness.NODE_PATH).toCypher(false));
+        assertNull("custom evaluator", description.evaluator(Evaluators.atDepth(2)).toCypher(false));
+        assertNull("reverse", description.reverse().toCypher(false));
+    }
+
+    @Test
+    public void testTranslatesDepthFirstRelationshipPathUniqueness() {
+        final CypherTraversalDescription description = CypherTraversalDescription.description()
+                .relationships(KNOWS, Direction.OUTGOING).uniqueness(Uniqueness.RELATIONSHIP_PATH).depthFirst().maxDepth(2);
+        assertEquals("START start=node({start}) MATCH (start)-[:`knows`*0..2]->(n) RETURN n", description.toCypher(false));
+        assertNull("node global", description.uniqueness(Uniqueness.NODE_GLOBAL).toCypher(false));
+        assertEquals("node global again after breadth first", "START start=node({start}) MATCH (start)-[:`knows`*0..2]->(n) RETURN DISTINCT n",
+                description.uniqueness(Uniqueness.NODE_GLOBAL).breadthFirst().toCypher(false));
+    }
+
+    @Test
+    public void testEqualDescriptionsShareTheTranslation() {
+        assertEquals(CypherTraversalDescription.description().relationships(KNOWS).maxDepth(2),
+                     CypherTraversalDescription.description().relationships(KNOWS).maxDepth(2));
+    }
+
+    @Test
+    public void testCypherReturnsTheSameNodesAsTheTraversal() {
+        final GraphDatabaseService db = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        try (Transaction tx = db.beginTx()) {
+            final Node[] nodes = new Node[6];
+            for (int i = 0; i < nodes.length; i++) nodes[i] = db.createNode();
+            nodes[0].createRelationshipTo(nodes[1], KNOWS);
+            nodes[1].createRelationshipTo(nodes[2], KNOWS);
+            nodes[2].createRelationshipTo(nodes[3], KNOWS);
+            nodes[2].createRelationshipTo(nodes[0], KNOWS);
+            nodes[0].createRelationshipTo(nodes[4], LIKES);
+            nodes[5].createRelationshipTo(nodes[0], KNOWS);
+
+            final CypherTraversalDescription description = CypherTraversalDescription.description()
+                    .relationships(KNOWS, Direction.OUTGOING).evaluator(Evaluators.excludeStartPosition()).maxDepth(2);
+
+            final Set<Node> traversed = new HashSet<>(IteratorUtil.asCollection(description.traverse(nodes[0]).nodes()));
+            final Set<Node> queried = new HashSet<>(IteratorUtil.<Node>asCollection(new ExecutionEngine(db).execute(description.toCypher(false), map("start", nodes[0].getId())).<Node>columnAs("n")));
+            assertEquals(2, traversed.size());
+            assertEquals(traversed, queried);
+            tx.success();
+        } finally {
+            db.shutdown();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author mh
+ * @since 12.03.15
+ */
+public class FieldAccessorTableTests {
+
+    private List<Neo4jPersistentProperty> properties(Neo4jPersistentEntity<?> entity) {
+        final List<Neo4jPersistentProperty> properties = new ArrayList<>();
+        entity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
+            public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+                properties.add(property);
+            }
+        });
+        entity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+            public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                properties.add(association.getInverse());
+            }
+        });
+        return properties;
+    }
+
+    @Test
+    public void testPropertiesHaveDistinctOrdinals() throws Exception {
+        final Neo4jPersistentEntity<?> entity = new Neo4jMappingContext().getPersistentEntity(Person.class);
+        final Set<Integer> ordinals = new HashSet<>();
+        for (Neo4jPersistentProperty property : properties(entity)) {
+            assertTrue(property.getOrdinal() >= 0);
+            assertTrue(ordinals.add(property.getOrdinal()));
+        }
+    }
+
+    @Test
+    public void testAccessorsAndListenersAreLookedUpByOrdinal() throws Exception {
+        final Neo4jPersistentEntity<?> entity = new Neo4jMappingContext().getPersistentEntity(Person.class);
+        final List<Neo4jPersistentProperty> properties = properties(entity);
+        final List<FieldAccessor> accessors = new ArrayList<>();
+        final List<List<FieldAccessListener>> listeners = new ArrayList<>();
+        for (Neo4jPersistentProperty property : properties) {
+            accessors.add(Mockito.mock(FieldAccessor.class));
+            listeners.add(Collections.singletonList(Mockito.mock(FieldAccessListener.class)));
+        }
+        final FieldAccessorTable table = new FieldAccessorTable(properties, accessors, listeners);
+        for (int i = 0; i < properties.size(); i++) {
+            assertSame(accessors.get(i), table.accessorFor(properties.get(i)));
+            assertEquals(listeners.get(i), table.listenersFor(properties.get(i)));
+        }
+        final Neo4jPersistentProperty sameField = new Neo4jMappingContext().getPersistentEntity(Person.class).getPersistentProperty("name");
+        assertSame(table.accessorFor(entity.getPersistentProperty("name")), table.accessorFor(sameField));
+    }
+}
@@ -67,6 +67,7 @@ public class Neo4jPersistentTestBase {
     protected NodeEntityInstantiator nodeEntityInstantiator;
     protected RelationshipEntityInstantiator relationshipEntityInstantiator;
     protected TypeMapper<Node> nodeTypeMapper;
+    protected EntityStateFactory<Node> nodeEntityStateFactory;
     protected SourceStateTransmitter<Node> nodeStateTransmitter;
     protected SourceStateTransmitter<Relationship> relationshipStateTransmitter;
     protected ConversionService conversionService;
@@ -120,7 +121,7 @@ public class Neo4jPersistentTestBase {
         factoryBean.setConversionService(new Neo4jConversionServiceFactoryBean().getObject());
         factoryBean.setEntityStateHandler(entityStateHandler);
 
-        EntityStateFactory<Node> nodeEntityStateFactory = new NodeEntityStateFactory(mappingContext, new FieldAccessorFactoryFactory() {
+        nodeEntityStateFactory = new NodeEntityStateFactory(mappingContext, new FieldAccessorFactoryFactory() {
                     public DelegatingFieldAccessorFactory create(Neo4jTemplate template) {
                         return new NodeDelegatingFieldAccessorFactory(template);
                     }
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.mapping.context;
+
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.model.Friendship;
+import org.springframework.data.neo4j.model.Group;
+import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.support.node.NodeEntityInstantiator;
+import org.springframework.data.persistence.StateBackedCreator;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Many threads classify and instantiate the same types at the same time, starting with empty caches.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class Neo4jMappingContextConcurrencyTests {
+
+    private static final int THREADS = 64;
+    private static final int ROUNDS = 1000;
+
+    @Test
+    public void testConcurrentEntityTypeChecks() throws Exception {
+        final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+        mappingContext.setInitialEntitySet(new HashSet<Class<?>>(Arrays.<Class<?>>asList(Person.class, Group.class, Friendship.class)));
+        mappingContext.initialize();
+        final NodeEntityInstantiator instantiator = new NodeEntityInstantiator(null);
+        final Node node = mock(Node.class);
+        when(node.getId()).thenReturn(42L);
+
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(new Runnable() {
+                public void run() {
+                    try {
+                        start.await();
+                        for (int round = 0; round < ROUNDS; round++) {
+                            for (Class<?> type : Arrays.<Class<?>>asList(Person.class, Group.class, Friendship.class, String.class)) {
+                                assertEquals(type.getName(), type == Person.class || type == Group.class, mappingContext.isNodeEntity(type));
+                                assertEquals(type.getName(), type == Friendship.class, mappingContext.isRelationshipEntity(type));
+                            }
+                            assertEquals(Long.valueOf(42), instantiator.createEntityFromState(node, Person.class, null).getId());
+                        }
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue("threads did not finish", executor.awaitTermination(2, TimeUnit.MINUTES));
+        assertTrue("failures: " + failures, failures.isEmpty());
+    }
+
+    @Test
+    public void testWarmedUpInstantiatorIsReused() throws Exception {
+        final AtomicInteger created = new AtomicInteger();
+        final NodeEntityInstantiator instantiator = new NodeEntityInstantiator(null) {
+            @Override
+            protected <T> StateBackedCreator<T, Node> createInstantiator(Class<T> type, Class<Node> stateType) {
+                created.incrementAndGet();
+                return super.createInstantiator(type, stateType);
+            }
+        };
+        instantiator.warmUp(Person.class);
+        instantiator.warmUp(Person.class);
+        assertEquals(1, created.get());
+
+        final Node node = mock(Node.class);
+        when(node.getId()).thenReturn(42L);
+        assertEquals(Long.valueOf(42), instantiator.createEntityFromState(node, Person.class, null).getId());
+        assertEquals(1, created.get());
+    }
+}
@@ -26,6 +26,7 @@ import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.support.mapping.Neo4jPersistentEntityImpl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * @author mh
@@ -58,6 +59,12 @@ public class Neo4jMappingContextTests {
         assertEquals(false,nameProperty.isRelationship());
     }
 
+    @Test
+    public void testLookupByAliasAndClassName() {
+        assertSame(personType, mappingContext.getPersistentEntity(personType.getEntityType().getAlias()));
+        assertSame(personType, mappingContext.getPersistentEntity(Person.class.getName()));
+    }
+
     @Test(expected = MappingException.class)
     public void testPrimitiveGraphIdFails() {
         mappingContext.getPersistentEntity(PrimitiveIdEntity.class);
@@ -22,12 +22,22 @@ import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.index.Index;
 import org.neo4j.helpers.collection.IteratorUtil;
+import org.springframework.data.neo4j.core.NodeTypeRepresentationStrategy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentTestBase;
+import org.springframework.data.neo4j.mapping.PersistentEntityConversionException;
 import org.springframework.data.neo4j.model.Friendship;
 import org.springframework.data.neo4j.model.Group;
 import org.springframework.data.neo4j.model.Person;
 import org.springframework.data.neo4j.model.Personality;
+import org.springframework.data.neo4j.support.Infrastructure;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.mapping.EntityStateHandler;
+import org.springframework.data.neo4j.support.mapping.EntityTools;
+import org.springframework.data.neo4j.support.mapping.Neo4jEntityConverterImpl;
+import org.springframework.data.neo4j.support.mapping.Neo4jEntityFetchHandler;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.support.typesafety.TypeSafetyOption;
+import org.springframework.data.neo4j.support.typesafety.TypeSafetyPolicy;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
@@ -36,6 +46,7 @@ import java.util.Date;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 import static org.neo4j.helpers.collection.IteratorUtil.first;
 
 /**
@@ -379,4 +390,42 @@ public class Neo4jEntityConverterTests extends Neo4jPersistentTestBase {
         assertEquals(friendship.getPerson2(), andres);
     }
 
+    @Test
+    public void testStoredTypeIsReadOncePerRead() {
+        storeInGraph(michael);
+        final Node node = michaelNode();
+        final NodeTypeRepresentationStrategy typeRepresentationStrategy = mock(NodeTypeRepresentationStrategy.class);
+        when(typeRepresentationStrategy.readAliasFrom(node)).thenReturn(Person.class);
+
+        final Person read = converterFor(typeRepresentationStrategy).read(Person.class, node, template.getMappingPolicy(Person.class), typeSafeTemplate());
+
+        assertEquals("Michael", read.getName());
+        verify(typeRepresentationStrategy, times(1)).readAliasFrom(node);
+    }
+
+    @Test(expected = PersistentEntityConversionException.class)
+    public void testMissingStoredTypeDoesNotMatchRequestedType() {
+        storeInGraph(michael);
+        final Node node = michaelNode();
+        final NodeTypeRepresentationStrategy typeRepresentationStrategy = mock(NodeTypeRepresentationStrategy.class);
+        when(typeRepresentationStrategy.readAliasFrom(node)).thenReturn(null);
+
+        converterFor(typeRepresentationStrategy).read(Person.class, node, template.getMappingPolicy(Person.class), typeSafeTemplate());
+    }
+
+    private Neo4jEntityConverterImpl<Object, Node> converterFor(NodeTypeRepresentationStrategy typeRepresentationStrategy) {
+        final EntityStateHandler entityStateHandler = template.getInfrastructure().getEntityStateHandler();
+        final Neo4jEntityFetchHandler fetchHandler = new Neo4jEntityFetchHandler(entityStateHandler, conversionService, nodeStateTransmitter, relationshipStateTransmitter);
+        final EntityTools<Node> entityTools = new EntityTools<Node>(typeRepresentationStrategy, nodeEntityStateFactory, nodeEntityInstantiator, mappingContext);
+        return new Neo4jEntityConverterImpl<Object, Node>(mappingContext, conversionService, entityStateHandler, fetchHandler, entityTools);
+    }
+
+    private Neo4jTemplate typeSafeTemplate() {
+        final Infrastructure infrastructure = spy(template.getInfrastructure());
+        doReturn(new TypeSafetyPolicy(TypeSafetyOption.THROWS_EXCEPTION)).when(infrastructure).getTypeSafetyPolicy();
+        final Neo4jTemplate typeSafeTemplate = spy(template);
+        doReturn(infrastructure).when(typeSafeTemplate).getInfrastructure();
+        return typeSafeTemplate;
+    }
+
 }
@@ -0,0 +1,94 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.data.neo4j.model;
+
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.DynamicRelationshipType;
+import org.neo4j.graphdb.traversal.Evaluators;
+import org.neo4j.graphdb.traversal.TraversalDescription;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.GraphTraversal;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.core.CypherTraversalDescription;
+import org.springframework.data.neo4j.core.FieldTraversalDescriptionBuilder;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+
+/**
+ * Loads the acquaintances up to two hops away with a translatable traversal description, once breadth first (loaded
+ * with Cypher) and once depth first (traversed).
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+@NodeEntity
+public class Acquaintance {
+    public static final String KNOWS = "knows";
+
+    @GraphId
+    private Long id;
+
+    private String name;
+
+    @GraphTraversal(traversal = KnownTraversalBuilder.class)
+    private Iterable<Acquaintance> known;
+
+    @GraphTraversal(traversal = DepthFirstKnownTraversalBuilder.class)
+    private Iterable<Acquaintance> knownDepthFirst;
+
+    public Acquaintance() {
+    }
+
+    public Acquaintance(String name) {
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Iterable<Acquaintance> getKnown() {
+        return known;
+    }
+
+    public Iterable<Acquaintance> getKnownDepthFirst() {
+        return knownDepthFirst;
+    }
+
+    public static CypherTraversalDescription knownDescription() {
+        return CypherTraversalDescription.description().relationships(DynamicRelationshipType.withName(KNOWS), Direction.OUTGOING)
+                .evaluator(Evaluators.excludeStartPosition()).maxDepth(2);
+    }
+
+    private static class KnownTraversalBuilder implements FieldTraversalDescriptionBuilder {
+        @Override
+        public TraversalDescription build(Object start, Neo4jPersistentProperty property, String... params) {
+            return knownDescription();
+        }
+    }
+
+    private static class DepthFirstKnownTraversalBuilder implements FieldTraversalDescriptionBuilder {
+        @Override
+        public TraversalDescription build(Object start, Neo4jPersistentProperty property, String... params) {
+            return knownDescription().depthFirst();
+        }
+    }
+}
@@ -48,6 +48,9 @@ public interface PersonRepository extends GraphRepository<Person>, NamedIndexRep
     @Query("match (team:g)-[:persons]->(member) where id(team) = {p_team} return member")
     Iterable<Person> findAllTeamMembers(@Param("p_team") Group team);
 
+    @Query("match (team:g)-[:persons]->(member) where id(team) = {p_team} return member")
+    Result<Person> findAllTeamMembersAsResult(@Param("p_team") Group team);
+
     @Query("match (team:g)-[:persons]->(member) where id(team) = {p_team} return team.name as name,collect(member) as members")
     TeamResult findAllTeamMembersAsGroup(@Param("p_team") Group team);
 
@@ -107,6 +110,10 @@ public interface PersonRepository extends GraphRepository<Person>, NamedIndexRep
 
     Iterable<Person> findByAge(int age);
 
+    Iterable<Person> findByAgeGreaterThan(int age, Pageable page);
+
+    Slice<Person> findSliceByAgeGreaterThan(int age, Pageable page);
+
     Iterable<Person> findByAlias(@Param("alias") String alias);
 
     @Query("start person=node:`name-index`('name:*') return person.name as name, person order by name asc ")
@@ -31,6 +31,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.conversion.Result;
 import org.springframework.data.neo4j.model.*;
 import org.springframework.data.neo4j.repositories.*;
 import org.springframework.data.neo4j.repositories.FriendshipRepository;
@@ -56,6 +57,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -132,6 +134,25 @@ public class GraphRepositoryTests {
         assertThat(personRepository.count(), is(1L));
     }
 
+    @Test
+    public void deleteAllInChunkedTransactions() {
+        assertThat(personRepository.count(), is(3L));
+        personRepository.deleteAll();
+        assertThat(personRepository.count(), is(0L));
+    }
+
+    @Test
+    public void deleteCollectionRemovesRelationshipEntities() {
+        assertThat(friendshipRepository.count(), is(1L));
+        new TransactionTemplate(transactionManager).execute(new TransactionCallbackWithoutResult() {
+            @Override
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                personRepository.delete(asList(testTeam.michael,testTeam.david));
+            }
+        });
+        assertThat(friendshipRepository.count(), is(0L));
+    }
+
     @Test
     public void deleteById() {
         final Long id = testTeam.michael.getId();
@@ -250,6 +271,76 @@ public class GraphRepositoryTests {
         assertEquals (asList(testTeam.david), asCollection(page3Result));
     }
 
+    @Test  @Transactional
+    public void findAllPageableComputesTotal() {
+        Sort sort = new Sort(Sort.Direction.ASC, "name");
+        Page<Person> page1 = personRepository.findAll(new PageRequest(0, 2, sort));
+        Page<Person> page2 = personRepository.findAll(new PageRequest(1, 2, sort));
+
+        assertEquals(asList(testTeam.david, testTeam.emil), page1.getContent());
+        assertEquals(3, page1.getTotalElements());
+        assertEquals(asList(testTeam.michael), page2.getContent());
+        assertEquals(3, page2.getTotalElements());
+        assertFalse(page2.hasNext());
+    }
+
+    @Test  @Transactional
+    public void findAllPageableWithoutSortDoesNotRepeatRows() {
+        Page<Person> page1 = personRepository.findAll(new PageRequest(0, 2));
+        Page<Person> page2 = personRepository.findAll(new PageRequest(1, 2));
+        Set<Person> people = new HashSet<Person>(page1.getContent());
+        people.addAll(page2.getContent());
+        assertEquals(new HashSet<Person>(asList(testTeam.david, testTeam.emil, testTeam.michael)), people);
+    }
+
+    @Test  @Transactional
+    public void derivedPagedQueryReturnsPageSizeRows() {
+        PageRequest pageRequest = new PageRequest(0, 2, Sort.Direction.ASC, "age");
+        assertEquals(asList(testTeam.david, testTeam.emil), asCollection(personRepository.findByAgeGreaterThan(0, pageRequest)));
+    }
+
+    @Test  @Transactional
+    public void derivedSliceQueryTellsIfThereIsANextSlice() {
+        Slice<Person> first = personRepository.findSliceByAgeGreaterThan(0, new PageRequest(0, 2, Sort.Direction.ASC, "age"));
+        assertEquals(asList(testTeam.david, testTeam.emil), first.getContent());
+        assertTrue(first.hasNext());
+        Slice<Person> second = personRepository.findSliceByAgeGreaterThan(0, new PageRequest(1, 2, Sort.Direction.ASC, "age"));
+        assertEquals(asList(testTeam.michael), second.getContent());
+        assertFalse(second.hasNext());
+    }
+
+    @Test  @Transactional
+    public void findAllAfterContinuesAfterTheLastValue() {
+        PageRequest pageRequest = new PageRequest(0, 2, Sort.Direction.ASC, "name");
+        Slice<Person> first = personRepository.findAllAfter(null, null, pageRequest);
+        assertEquals(asList(testTeam.david, testTeam.emil), first.getContent());
+        assertTrue(first.hasNext());
+
+        Slice<Person> second = personRepository.findAllAfter(testTeam.emil.getName(), testTeam.emil.getId(), pageRequest);
+        assertEquals(asList(testTeam.michael), second.getContent());
+        assertFalse(second.hasNext());
+    }
+
+    @Test  @Transactional
+    public void findAllAfterWithDescendingSort() {
+        PageRequest pageRequest = new PageRequest(0, 2, Sort.Direction.DESC, "name");
+        Slice<Person> slice = personRepository.findAllAfter(testTeam.michael.getName(), testTeam.michael.getId(), pageRequest);
+        assertEquals(asList(testTeam.emil, testTeam.david), slice.getContent());
+        assertFalse(slice.hasNext());
+    }
+
+    @Test  @Transactional
+    public void findAllAfterContinuesWithEntitiesOfTheSameValue() {
+        Person anna = personRepository.save(new Person("Anna", testTeam.emil.getAge()));
+        PageRequest pageRequest = new PageRequest(0, 2, Sort.Direction.ASC, "age");
+        Slice<Person> first = personRepository.findAllAfter(null, null, pageRequest);
+        assertEquals(asList(testTeam.david, testTeam.emil), first.getContent());
+
+        Slice<Person> second = personRepository.findAllAfter(testTeam.emil.getAge(), testTeam.emil.getId(), pageRequest);
+        assertEquals(asList(anna, testTeam.michael), second.getContent());
+        assertFalse(second.hasNext());
+    }
+
     @Test @Transactional
     public void testFindIterableOfPersonWithQueryAnnotation() {
         Iterable<Person> teamMembers = personRepository.findAllTeamMembers(testTeam.sdg);
@@ -257,6 +348,23 @@ public class GraphRepositoryTests {
     }
 
 
+    @Test @Transactional
+    public void testFindLazyResultWithQueryAnnotation() {
+        Result<Person> teamMembers = personRepository.findAllTeamMembersAsResult(testTeam.sdg);
+        try {
+            assertThat( asCollection( teamMembers ), hasItems( testTeam.michael, testTeam.david, testTeam.emil ) );
+        } finally {
+            teamMembers.close();
+        }
+    }
+
+    @Test @Transactional
+    public void testLazyResultCanBeClosedBeforeItIsConsumed() {
+        try (Result<Person> teamMembers = personRepository.findAllTeamMembersAsResult(testTeam.sdg)) {
+            assertThat( teamMembers.iterator().next(), isOneOf( testTeam.michael, testTeam.david, testTeam.emil ) );
+        }
+    }
+
     @Test @Transactional
     public void testFindQueryResultWithCollection() {
         org.springframework.data.neo4j.repositories.PersonRepository.TeamResult teamMembers = personRepository.findAllTeamMembersAsGroup(testTeam.sdg);
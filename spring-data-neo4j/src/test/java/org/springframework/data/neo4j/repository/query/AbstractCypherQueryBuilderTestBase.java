@@ -174,6 +174,27 @@ public abstract class AbstractCypherQueryBuilderTestBase {
         assertThat(queryString, is("MATCH (`person`:`Person`) WHERE `person`.`name` = {0} RETURN `person` ORDER BY person.name ASC SKIP 30 LIMIT 10"));
     }
 
+    @Test
+    public void buildsQueryWithPagingParameters() {
+        query.addRestriction(new Part("name",Person.class));
+        String queryString = query.buildQuery().toPagedQueryString(new Sort("person.name"));
+        assertThat(queryString, is("MATCH (`person`:`Person`) WHERE `person`.`name` = {0} RETURN `person` ORDER BY person.name ASC SKIP {_skip} LIMIT {_limit}"));
+    }
+
+    @Test
+    public void buildsUnsortedPagedQueryOrderedById() {
+        query.addRestriction(new Part("name",Person.class));
+        String queryString = query.buildQuery().toPagedQueryString(null);
+        assertThat(queryString, is("MATCH (`person`:`Person`) WHERE `person`.`name` = {0} RETURN `person` ORDER BY id(`person`) ASC SKIP {_skip} LIMIT {_limit}"));
+    }
+
+    @Test
+    public void buildsKeysetQuery() {
+        query.addRestriction(new Part("name",Person.class));
+        String queryString = query.buildQuery().toKeysetQueryString(new Sort(Sort.Direction.DESC, "name"), true);
+        assertThat(queryString, is("MATCH (`person`:`Person`) WHERE `person`.`name` = {0} AND (person.name < {_after} OR (person.name = {_after} AND id(`person`) < {_afterId})) RETURN `person` ORDER BY person.name DESC,id(`person`) DESC LIMIT {_limit}"));
+    }
+
     @Test
     public void shouldFindByNodeEntity() throws Exception {
         query.addRestriction(new Part("pet", Person.class));
@@ -160,4 +160,25 @@ public class CypherQueryBuilderForIndexBasedTRSUnitTests extends AbstractCypherQ
         String queryString = query.buildQuery().toQueryString(pageable);
         assertThat(queryString, is("START `person`=node:`Person`(`name2`={0}) RETURN `person` ORDER BY person.name2 ASC SKIP 30 LIMIT 10"));
     }
+
+    @Override
+    public void buildsQueryWithPagingParameters() {
+        query.addRestriction(new Part("name2",Person.class));
+        String queryString = query.buildQuery().toPagedQueryString(new Sort("person.name2"));
+        assertThat(queryString, is("START `person`=node:`Person`(`name2`={0}) RETURN `person` ORDER BY person.name2 ASC SKIP {_skip} LIMIT {_limit}"));
+    }
+
+    @Override
+    public void buildsUnsortedPagedQueryOrderedById() {
+        query.addRestriction(new Part("name2",Person.class));
+        String queryString = query.buildQuery().toPagedQueryString(null);
+        assertThat(queryString, is("START `person`=node:`Person`(`name2`={0}) RETURN `person` ORDER BY id(`person`) ASC SKIP {_skip} LIMIT {_limit}"));
+    }
+
+    @Override
+    public void buildsKeysetQuery() {
+        query.addRestriction(new Part("name2",Person.class));
+        String queryString = query.buildQuery().toKeysetQueryString(new Sort(Sort.Direction.DESC, "name2"), true);
+        assertThat(queryString, is("START `person`=node:`Person`(`name2`={0}) WHERE (person.name2 < {_after} OR (person.name2 = {_after} AND id(`person`) < {_afterId})) RETURN `person` ORDER BY person.name2 DESC,id(`person`) DESC LIMIT {_limit}"));
+    }
 }
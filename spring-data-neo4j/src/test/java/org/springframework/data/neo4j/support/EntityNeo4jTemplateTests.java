@@ -32,9 +32,14 @@ import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
 import org.springframework.data.neo4j.conversion.Result;
+import org.springframework.data.neo4j.fieldaccess.FieldAccessor;
+import org.springframework.data.neo4j.fieldaccess.TraversalFieldAccessorFactory;
 import org.springframework.data.neo4j.mapping.ManagedEntity;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.model.*;
 import org.springframework.data.neo4j.repository.GraphRepository;
+import org.springframework.data.neo4j.support.mapping.Neo4jPersistentEntityImpl;
+import org.springframework.data.neo4j.support.mapping.RelationshipPrefetcher;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
 import org.springframework.data.neo4j.template.Neo4jOperations;
 import org.springframework.test.context.ContextConfiguration;
@@ -141,6 +146,135 @@ public class EntityNeo4jTemplateTests extends EntityTestBase {
         assertNotNull("people attributes where loaded",first(people).getName());
     }
 
+    @Test @Transactional
+    public void testFindAllByIds() throws Exception {
+        final List<Person> people = template.findAll(Arrays.asList(testTeam.emil.getId(), testTeam.michael.getId(), testTeam.emil.getId()), Person.class);
+        assertEquals(3, people.size());
+        assertEquals(testTeam.emil.getName(), people.get(0).getName());
+        assertEquals(testTeam.michael.getName(), people.get(1).getName());
+        assertEquals(testTeam.emil.getId(), people.get(2).getId());
+    }
+
+    @Test @Transactional
+    public void testFindAllRelationshipsByIds() throws Exception {
+        final List<Friendship> friendships = template.findAll(Arrays.asList(testTeam.friendShip.getId()), Friendship.class);
+        assertEquals(testTeam.friendShip.getId(), first(friendships).getId());
+    }
+
+    @Test @Transactional
+    @SuppressWarnings("unchecked")
+    public void testFindAllByIdsPrefetchesRelationshipsWithOneQueryPerLevel() throws Exception {
+        final List<Long> ids = createGroupsWithFetchedPersons(10);
+        final Neo4jTemplate spy = Mockito.spy(template);
+        final List<Group> groups = spy.findAll(ids, Group.class);
+        // groups and their fetched persons, independent of the number of groups
+        Mockito.verify(spy, Mockito.times(2)).query(Mockito.anyString(), Mockito.anyMap());
+        assertEquals(10, groups.size());
+        final Set<Person> instances = Collections.newSetFromMap(new IdentityHashMap<Person, Boolean>());
+        for (Group group : groups) {
+            final Set<String> names = new HashSet<>();
+            for (Person person : group.getFetchedPersons()) {
+                names.add(person.getName());
+                instances.add(person);
+            }
+            assertEquals(new HashSet<>(Arrays.asList(testTeam.michael.getName(), testTeam.emil.getName())), names);
+        }
+        // shared neighbours are mapped once
+        assertEquals(2, instances.size());
+    }
+
+    @Test @Transactional
+    public void testPrefetchedRelationshipsAreNotLoadedPerNode() throws Exception {
+        final List<Node> nodes = new ArrayList<>();
+        for (Long id : createGroupsWithFetchedPersons(3)) {
+            nodes.add(Mockito.spy(template.getNode(id)));
+        }
+        final List<Group> groups = new RelationshipPrefetcher(template).load(nodes, Group.class, template.getMappingPolicy(Group.class));
+        for (Group group : groups) {
+            assertEquals(2, IteratorUtil.count(group.getFetchedPersons()));
+        }
+        for (Node node : nodes) {
+            Mockito.verify(node, Mockito.never()).getRelationships(Mockito.any(RelationshipType.class), Mockito.any(Direction.class));
+        }
+    }
+
+    @Test @Transactional
+    @SuppressWarnings("unchecked")
+    public void testGraphTraversalFieldIsLoadedWithCypherOnlyWhenBreadthFirst() throws Exception {
+        final Acquaintance a = template.save(new Acquaintance("a"));
+        final Acquaintance b = template.save(new Acquaintance("b"));
+        final Acquaintance c = template.save(new Acquaintance("c"));
+        final Acquaintance d = template.save(new Acquaintance("d"));
+        knows(a, b);
+        knows(b, c);
+        knows(c, d);
+        knows(a, c);
+
+        final Acquaintance loaded = template.findOne(a.getId(), Acquaintance.class);
+        assertEquals(set("b", "c", "d"), names(loaded.getKnown()));
+        final Set<String> traversed = new HashSet<>();
+        for (Node node : Acquaintance.knownDescription().depthFirst().traverse(template.<Node>getPersistentState(a)).nodes()) {
+            traversed.add((String) node.getProperty("name"));
+        }
+        assertEquals(traversed, names(loaded.getKnownDepthFirst()));
+
+        final Neo4jPersistentEntityImpl<?> persistentEntity = template.getInfrastructure().getMappingContext().getPersistentEntity(Acquaintance.class);
+        final Neo4jTemplate spy = Mockito.spy(template);
+        final FieldAccessor known = new TraversalFieldAccessorFactory.TraversalFieldAccessor(persistentEntity.getPersistentProperty("known"), spy);
+        assertEquals(set("b", "c", "d"), names((Iterable<Acquaintance>) known.getValue(loaded, MappingPolicy.DEFAULT_POLICY)));
+        Mockito.verify(spy).query(Mockito.anyString(), Mockito.anyMap());
+
+        final FieldAccessor knownDepthFirst = new TraversalFieldAccessorFactory.TraversalFieldAccessor(persistentEntity.getPersistentProperty("knownDepthFirst"), spy);
+        assertEquals(traversed, names((Iterable<Acquaintance>) knownDepthFirst.getValue(loaded, MappingPolicy.DEFAULT_POLICY)));
+        Mockito.verify(spy).traverse(Mockito.any(), Mockito.<Class<?>>any(), Mockito.any(TraversalDescription.class));
+        Mockito.verify(spy).query(Mockito.anyString(), Mockito.anyMap());
+    }
+
+    private void knows(Acquaintance from, Acquaintance to) {
+        template.<Node>getPersistentState(from).createRelationshipTo(template.<Node>getPersistentState(to), DynamicRelationshipType.withName(Acquaintance.KNOWS));
+    }
+
+    private Set<String> names(Iterable<Acquaintance> acquaintances) {
+        final Set<String> names = new HashSet<>();
+        for (Acquaintance acquaintance : acquaintances) {
+            names.add(acquaintance.getName());
+        }
+        return names;
+    }
+
+    private List<Long> createGroupsWithFetchedPersons(int count) {
+        final List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Group group = new Group();
+            group.setName("group" + i);
+            template.save(group);
+            final Node node = template.getPersistentState(group);
+            node.createRelationshipTo(template.<Node>getPersistentState(testTeam.michael), DynamicRelationshipType.withName("fetchedPersons"));
+            node.createRelationshipTo(template.<Node>getPersistentState(testTeam.emil), DynamicRelationshipType.withName("fetchedPersons"));
+            ids.add(group.getId());
+        }
+        return ids;
+    }
+
+    @Test @Transactional
+    public void testSaveAll() throws Exception {
+        final Car car = new Car();
+        final Attribute<String> attribute = new Attribute<>();
+        attribute.setValue("blue");
+        final Person person = new Person("Emil", 30);
+        final List<Object> saved = new ArrayList<>(neo4jOperations.saveAll(Arrays.<Object>asList(car, attribute, person)));
+        assertEquals(3, saved.size());
+        assertSame(car, saved.get(0));
+        assertSame(attribute, saved.get(1));
+        assertNotNull(car.id);
+        assertEquals(car.id, neo4jOperations.findOne(car.id, Car.class).id);
+        final Node attributeNode = neo4jOperations.getPersistentState(attribute);
+        assertEquals("blue", attributeNode.getProperty("value"));
+        final Person savedPerson = (Person) saved.get(2);
+        assertNotNull(savedPerson.getId());
+        assertEquals("Emil", neo4jOperations.findOne(savedPerson.getId(), Person.class).getName());
+    }
+
     @Test @Transactional
     public void testCount() throws Exception {
         
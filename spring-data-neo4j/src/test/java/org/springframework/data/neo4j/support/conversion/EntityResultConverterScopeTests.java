@@ -0,0 +1,101 @@
+package org.springframework.data.neo4j.support.conversion;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.config.JtaTransactionManagerFactoryBean;
+import org.springframework.data.neo4j.conversion.QueryResultBuilder;
+import org.springframework.data.neo4j.support.MappingInfrastructureFactoryBean;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author mh
+ * @since 12.03.15
+ */
+public class EntityResultConverterScopeTests {
+
+    @NodeEntity
+    public static class Thing {
+        @GraphId Long id;
+        String name;
+    }
+
+    private GraphDatabaseService db;
+    private Neo4jTemplate template;
+    private EntityResultConverter<Node, Thing> converter;
+
+    @Before
+    public void setUp() throws Exception {
+        db = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        MappingInfrastructureFactoryBean factoryBean = new MappingInfrastructureFactoryBean(db, null);
+        factoryBean.afterPropertiesSet();
+        template = new Neo4jTemplate(factoryBean.getObject());
+        converter = new EntityResultConverter<>(null, template);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        db.shutdown();
+    }
+
+    private TransactionTemplate transactionTemplate(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new JtaTransactionManagerFactoryBean(db).getObject());
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate;
+    }
+
+    @Test
+    public void testConvertsConcurrentlyOutsideOfTransactions() throws Exception {
+        assertTrue(converter.canConvertConcurrently());
+    }
+
+    @Test
+    public void testConvertsOnCallingThreadInWritingTransaction() throws Exception {
+        assertFalse(transactionTemplate(false).execute(new TransactionCallback<Boolean>() {
+            @Override
+            public Boolean doInTransaction(TransactionStatus status) {
+                return converter.canConvertConcurrently();
+            }
+        }));
+    }
+
+    @Test
+    public void testConvertsConcurrentlyInReadOnlyTransaction() throws Exception {
+        final List<Node> nodes = new ArrayList<>();
+        try (Transaction tx = db.beginTx()) {
+            for (int i = 0; i < 1000; i++) {
+                Thing thing = new Thing();
+                thing.name = "thing" + i;
+                nodes.add(db.getNodeById(template.save(thing).id));
+            }
+            tx.success();
+        }
+        List<Thing> things = transactionTemplate(true).execute(new TransactionCallback<List<Thing>>() {
+            @Override
+            public List<Thing> doInTransaction(TransactionStatus status) {
+                assertTrue(converter.canConvertConcurrently());
+                return new QueryResultBuilder<Node>(nodes).parallel(4).to(Thing.class, converter).as(List.class);
+            }
+        });
+        assertEquals(nodes.size(), things.size());
+        for (int i = 0; i < things.size(); i++) {
+            assertEquals("thing" + i, things.get(i).name);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.Indexed;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.support.DelegatingGraphDatabase;
+import org.springframework.data.neo4j.support.index.IndexProviderImpl;
+import org.springframework.data.neo4j.support.schema.SchemaIndexProvider;
+import org.springframework.data.neo4j.support.schema.SchemaIndexProvider.SchemaIndex;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author mh
+ * @since 12.03.15
+ */
+public class BatchEntityIndexCreatorTests {
+
+    @NodeEntity
+    public static class Sensor {
+        @GraphId Long id;
+        @Indexed String name;
+        @Indexed(unique = true) String serial;
+    }
+
+    private GraphDatabaseService db;
+    private DelegatingGraphDatabase graphDatabase;
+
+    @Before
+    public void setUp() throws Exception {
+        db = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        graphDatabase = new DelegatingGraphDatabase(db);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        db.shutdown();
+    }
+
+    @Test
+    public void testCreatesOnlyMissingIndexesAtInitialization() throws Exception {
+        final SchemaIndexProvider schemaIndexProvider = new SchemaIndexProvider(graphDatabase);
+
+        final Collection<SchemaIndex> created = initializeMappingContext();
+        assertEquals(2, created.size());
+        final Set<SchemaIndex> existing = schemaIndexProvider.existingIndexes();
+        assertTrue(existing + " contains " + created, existing.containsAll(created));
+
+        assertEquals(0, initializeMappingContext().size());
+        assertEquals(existing, schemaIndexProvider.existingIndexes());
+    }
+
+    private Collection<SchemaIndex> initializeMappingContext() {
+        final RecordingBatchEntityIndexCreator indexCreator = new RecordingBatchEntityIndexCreator();
+        final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+        mappingContext.setInitialEntitySet(Collections.singleton(Sensor.class));
+        mappingContext.setEntityIndexCreator(indexCreator);
+        mappingContext.initialize();
+        return indexCreator.created;
+    }
+
+    private class RecordingBatchEntityIndexCreator extends BatchEntityIndexCreator {
+        private Collection<SchemaIndex> created;
+
+        RecordingBatchEntityIndexCreator() {
+            super(new IndexProviderImpl(graphDatabase), new SchemaIndexProvider(graphDatabase), true);
+        }
+
+        @Override
+        public Collection<SchemaIndex> createCollectedIndexes() {
+            return created = super.createCollectedIndexes();
+        }
+    }
+}
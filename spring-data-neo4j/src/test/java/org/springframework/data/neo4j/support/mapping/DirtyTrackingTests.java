@@ -0,0 +1,255 @@
+package org.springframework.data.neo4j.support.mapping;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.DynamicRelationshipType;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.helpers.collection.IteratorUtil;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.Indexed;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelatedTo;
+import org.springframework.data.neo4j.config.JtaTransactionManagerFactoryBean;
+import org.springframework.data.neo4j.support.MappingInfrastructureFactoryBean;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.index.IndexType;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author mh
+ * @since 12.03.15
+ */
+public class DirtyTrackingTests {
+
+    @NodeEntity
+    public static class Thing {
+        @GraphId Long id;
+        String name;
+        int count;
+    }
+
+    @NodeEntity
+    public static class Member {
+        @GraphId Long id;
+        @Indexed(indexType = IndexType.FULLTEXT, indexName = "members") String name;
+        @RelatedTo(type = "KNOWS", direction = Direction.BOTH) Set<Member> friends = new HashSet<>();
+
+        Member() {
+        }
+
+        Member(String name) {
+            this.name = name;
+        }
+    }
+
+    private GraphDatabaseService db;
+
+    @Before
+    public void setUp() throws Exception {
+        db = new TestGraphDatabaseFactory().newImpermanentDatabase();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        db.shutdown();
+    }
+
+    private Neo4jTemplate template(boolean dirtyTracking) {
+        MappingInfrastructureFactoryBean factoryBean = new MappingInfrastructureFactoryBean(db, null);
+        factoryBean.setDirtyTracking(dirtyTracking);
+        factoryBean.afterPropertiesSet();
+        return new Neo4jTemplate(factoryBean.getObject());
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(new JtaTransactionManagerFactoryBean(db).getObject());
+    }
+
+    private String storedName(long id) {
+        try (Transaction tx = db.beginTx()) {
+            String name = (String) db.getNodeById(id).getProperty("name");
+            tx.success();
+            return name;
+        }
+    }
+
+    private Node saveAndUpdate(Neo4jTemplate template) {
+        try (Transaction tx = db.beginTx()) {
+            Thing thing = new Thing();
+            thing.name = "thing";
+            thing.count = 1;
+            Long id = template.save(thing).id;
+            Thing loaded = template.findOne(id, Thing.class);
+            Node node = db.getNodeById(id);
+            node.setProperty("count", 42);
+            loaded.name = "renamed";
+            template.save(loaded);
+            tx.success();
+            return node;
+        }
+    }
+
+    @Test
+    public void testOnlyChangedPropertiesAreWritten() throws Exception {
+        Node node = saveAndUpdate(template(true));
+        try (Transaction tx = db.beginTx()) {
+            assertEquals("renamed", node.getProperty("name"));
+            assertEquals(42, node.getProperty("count"));
+            tx.success();
+        }
+    }
+
+    @Test
+    public void testAllPropertiesAreWrittenWithoutDirtyTracking() throws Exception {
+        Node node = saveAndUpdate(template(false));
+        try (Transaction tx = db.beginTx()) {
+            assertEquals("renamed", node.getProperty("name"));
+            assertEquals(1, node.getProperty("count"));
+            tx.success();
+        }
+    }
+
+    @Test
+    public void testSnapshotIsRecordedOnLoadAndSave() throws Exception {
+        final Neo4jTemplate template = template(true);
+        transactionTemplate().execute(new TransactionCallback<Object>() {
+            @Override
+            public Object doInTransaction(TransactionStatus status) {
+                Thing thing = new Thing();
+                thing.name = "thing";
+                template.save(thing);
+                Node node = db.getNodeById(thing.id);
+                EntitySnapshots snapshots = template.getInfrastructure().getEntitySnapshots();
+                assertNotNull(snapshots.get(thing, node));
+                Thing loaded = template.findOne(thing.id, Thing.class);
+                assertNotNull(snapshots.get(loaded, node));
+                assertNull(snapshots.get(thing, node));
+                return null;
+            }
+        });
+    }
+
+    @Test
+    public void testRolledBackSaveWithoutSynchronizationIsWrittenAgain() throws Exception {
+        Neo4jTemplate template = template(true);
+        Thing thing = new Thing();
+        thing.name = "thing";
+        try (Transaction tx = db.beginTx()) {
+            template.save(thing);
+            tx.success();
+        }
+        Thing loaded;
+        try (Transaction tx = db.beginTx()) {
+            loaded = template.findOne(thing.id, Thing.class);
+            loaded.name = "renamed";
+            template.save(loaded);
+            // no success, rolls back
+        }
+        assertEquals("thing", storedName(thing.id));
+        try (Transaction tx = db.beginTx()) {
+            template.save(loaded);
+            tx.success();
+        }
+        assertEquals("renamed", storedName(thing.id));
+    }
+
+    @Test
+    public void testRolledBackSaveWithSynchronizationIsWrittenAgain() throws Exception {
+        final Neo4jTemplate template = template(true);
+        final Thing thing = new Thing();
+        thing.name = "thing";
+        try (Transaction tx = db.beginTx()) {
+            template.save(thing);
+            tx.success();
+        }
+        final Thing loaded = transactionTemplate().execute(new TransactionCallback<Thing>() {
+            @Override
+            public Thing doInTransaction(TransactionStatus status) {
+                Thing loaded = template.findOne(thing.id, Thing.class);
+                loaded.name = "renamed";
+                template.save(loaded);
+                status.setRollbackOnly();
+                return loaded;
+            }
+        });
+        assertEquals("thing", storedName(thing.id));
+        transactionTemplate().execute(new TransactionCallback<Object>() {
+            @Override
+            public Object doInTransaction(TransactionStatus status) {
+                template.save(loaded);
+                return null;
+            }
+        });
+        assertEquals("renamed", storedName(thing.id));
+    }
+
+    @Test
+    public void testChangedRelationshipsAreWritten() throws Exception {
+        Neo4jTemplate template = template(true);
+        try (Transaction tx = db.beginTx()) {
+            Member a = new Member("a"), b = new Member("b");
+            a.friends.add(b);
+            template.save(a);
+            Member loaded = template.findOne(a.id, Member.class);
+            template.save(loaded);
+            Node node = db.getNodeById(a.id);
+            assertEquals(1, IteratorUtil.count(node.getRelationships(DynamicRelationshipType.withName("KNOWS"))));
+
+            loaded.friends.add(template.save(new Member("c")));
+            template.save(loaded);
+            assertEquals(2, IteratorUtil.count(node.getRelationships(DynamicRelationshipType.withName("KNOWS"))));
+            tx.success();
+        }
+    }
+
+    @Test
+    public void testIndexFollowsChangedProperties() throws Exception {
+        Neo4jTemplate template = template(true);
+        try (Transaction tx = db.beginTx()) {
+            Member member = template.save(new Member("before"));
+            Member loaded = template.findOne(member.id, Member.class);
+            template.save(loaded);
+            assertEquals(1, IteratorUtil.count(template.lookup("members", "name", "before")));
+
+            loaded.name = "after";
+            template.save(loaded);
+            assertEquals(0, IteratorUtil.count(template.lookup("members", "name", "before")));
+            assertEquals(1, IteratorUtil.count(template.lookup("members", "name", "after")));
+            tx.success();
+        }
+    }
+
+    @Test
+    public void testSnapshotsOfRelatedEntitiesAreCollected() throws Exception {
+        Neo4jTemplate template = template(true);
+        EntitySnapshots snapshots = template.getInfrastructure().getEntitySnapshots();
+        try (Transaction tx = db.beginTx()) {
+            Member a = new Member("a"), b = new Member("b");
+            a.friends.add(b);
+            template.save(a);
+            Member loadedA = template.findOne(a.id, Member.class);
+            Member loadedB = template.findOne(b.id, Member.class);
+            assertNotNull(loadedA);
+            assertNotNull(loadedB);
+            assertTrue(snapshots.size() >= 2);
+            tx.success();
+        }
+        for (int i = 0; i < 50 && snapshots.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, snapshots.size());
+    }
+}
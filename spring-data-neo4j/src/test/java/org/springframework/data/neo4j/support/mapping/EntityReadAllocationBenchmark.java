@@ -0,0 +1,85 @@
+package org.springframework.data.neo4j.support.mapping;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.support.MappingInfrastructureFactoryBean;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the heap allocated per entity when mapping nodes to entities in bulk, which includes the entity states
+ * and their field accessor tables. Not a unit test, run the main method.
+ *
+ * @author mh
+ * @since 12.03.15
+ */
+public class EntityReadAllocationBenchmark {
+
+    private static final int ENTITIES = 100000;
+    private static final int ROUNDS = 5;
+
+    @NodeEntity
+    public static class Reading {
+        @GraphId Long id;
+        String sensor;
+        String unit;
+        double value;
+        long timestamp;
+        int quality;
+        boolean calibrated;
+    }
+
+    public static void main(String[] args) throws Exception {
+        GraphDatabaseService db = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        try {
+            Neo4jTemplate template = new Neo4jTemplate(MappingInfrastructureFactoryBean.createDirect(db, null));
+            List<Node> nodes = createNodes(db, template);
+            System.out.printf("%-8s %20s %20s%n", "round", "bytes/entity", "entities/s");
+            for (int round = 1; round <= ROUNDS; round++) {
+                try (Transaction tx = db.beginTx()) {
+                    long allocated = allocatedBytes();
+                    long start = System.nanoTime();
+                    for (Node node : nodes) {
+                        template.createEntityFromState(node, Reading.class, template.getMappingPolicy(Reading.class));
+                    }
+                    long nanos = System.nanoTime() - start;
+                    long bytes = allocatedBytes() - allocated;
+                    System.out.printf("%-8d %20d %20d%n", round, bytes / ENTITIES, ENTITIES * 1000000000L / nanos);
+                    tx.success();
+                }
+            }
+        } finally {
+            db.shutdown();
+        }
+    }
+
+    private static List<Node> createNodes(GraphDatabaseService db, Neo4jTemplate template) {
+        List<Node> nodes = new ArrayList<>(ENTITIES);
+        try (Transaction tx = db.beginTx()) {
+            for (int i = 0; i < ENTITIES; i++) {
+                Reading reading = new Reading();
+                reading.sensor = "sensor-" + (i % 100);
+                reading.unit = "C";
+                reading.value = i / 10d;
+                reading.timestamp = i;
+                reading.quality = i % 5;
+                reading.calibrated = i % 2 == 0;
+                template.save(reading);
+                nodes.add(db.getNodeById(reading.id));
+            }
+            tx.success();
+        }
+        return nodes;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,168 @@
+package org.springframework.data.neo4j.support.mapping;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.*;
+import org.neo4j.graphdb.index.AutoIndexer;
+import org.neo4j.graphdb.index.RelationshipIndex;
+import org.neo4j.helpers.collection.IteratorUtil;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.support.Infrastructure;
+import org.springframework.data.neo4j.support.MappingInfrastructureFactoryBean;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategyFactory;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author mh
+ * @since 11.11.13
+ */
+public class EntityRemoverTests {
+    private GraphDatabaseService db;
+
+    @NodeEntity
+    public static class Thing {
+        @GraphId Long id;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        db = new TestGraphDatabaseFactory().newImpermanentDatabase();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        db.shutdown();
+    }
+
+    @Test
+    public void testRemoveNodeEntityWithAutoIndex() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            AutoIndexer<Node> nodeAutoIndexer = db.index().getNodeAutoIndexer();
+            nodeAutoIndexer.setEnabled(true);
+            nodeAutoIndexer.startAutoIndexingProperty("foo");
+            Infrastructure infrastructure = MappingInfrastructureFactoryBean.createDirect(db, null);
+            Node node = db.createNode();
+            node.setProperty("foo", "bar");
+            infrastructure.getEntityRemover().remove(node);
+            node = db.createNode();
+            node.setProperty("foo", "bar");
+            infrastructure.getGraphDatabase().remove(node);
+            tx.success();
+        }
+    }
+    @Test
+    public void testRemoveRelationshipEntityWithAutoIndex() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            AutoIndexer<Relationship> autoIndexer = db.index().getRelationshipAutoIndexer();
+            autoIndexer.setEnabled(true);
+            autoIndexer.startAutoIndexingProperty("foo");
+            Infrastructure infrastructure = MappingInfrastructureFactoryBean.createDirect(db, null);
+            final Node node = db.createNode();
+
+            Relationship relationship = node.createRelationshipTo(node, DynamicRelationshipType.withName("KNOWS"));
+            relationship.setProperty("foo", "bar");
+            infrastructure.getEntityRemover().remove(relationship);
+
+            relationship = node.createRelationshipTo(node, DynamicRelationshipType.withName("KNOWS"));
+            relationship.setProperty("foo", "bar");
+            infrastructure.getGraphDatabase().remove(relationship);
+            tx.success();
+        }
+    }
+
+    @Test
+    public void testRemoveNodesWithTheirRelationships() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            Infrastructure infrastructure = MappingInfrastructureFactoryBean.createDirect(db, null);
+            final RelationshipType knows = DynamicRelationshipType.withName("KNOWS");
+            final Node a = db.createNode(), b = db.createNode(), c = db.createNode();
+            a.createRelationshipTo(b, knows);
+            b.createRelationshipTo(c, knows);
+            a.createRelationshipTo(a, knows);
+
+            infrastructure.getEntityRemover().removeNodes(asList(a.getId(), b.getId()));
+
+            assertFalse(exists(db, a.getId()));
+            assertFalse(exists(db, b.getId()));
+            assertTrue(exists(db, c.getId()));
+            assertFalse(c.hasRelationship());
+            tx.success();
+        }
+    }
+
+    @Test
+    public void testRemoveRelationships() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            Infrastructure infrastructure = MappingInfrastructureFactoryBean.createDirect(db, null);
+            final RelationshipType knows = DynamicRelationshipType.withName("KNOWS");
+            final Node a = db.createNode(), b = db.createNode();
+            final Relationship first = a.createRelationshipTo(b, knows);
+            final Relationship second = b.createRelationshipTo(a, knows);
+            final Relationship third = a.createRelationshipTo(a, knows);
+
+            infrastructure.getEntityRemover().removeRelationships(asList(first.getId(), third.getId()));
+
+            assertEquals(asList(second), IteratorUtil.asCollection(a.getRelationships()));
+            tx.success();
+        }
+    }
+
+    @Test
+    public void testRemoveNodesRemovesRelationshipsFromIndexesWithoutTypedRelationships() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            final MappingInfrastructureFactoryBean factoryBean = new MappingInfrastructureFactoryBean(db, null);
+            factoryBean.setTypeRepresentationStrategy(TypeRepresentationStrategyFactory.Strategy.Noop);
+            factoryBean.afterPropertiesSet();
+            Infrastructure infrastructure = factoryBean.getObject();
+            final RelationshipIndex index = db.index().forRelationships("knows");
+            final Node a = db.createNode(), b = db.createNode(), c = db.createNode();
+            index.add(a.createRelationshipTo(b, DynamicRelationshipType.withName("KNOWS")), "name", "ab");
+            final Relationship bc = b.createRelationshipTo(c, DynamicRelationshipType.withName("KNOWS"));
+            index.add(bc, "name", "bc");
+
+            infrastructure.getEntityRemover().removeNodes(asList(a.getId()));
+            infrastructure.getEntityRemover().removeRelationships(asList(bc.getId()));
+
+            assertEquals(0, index.get("name", "ab").size());
+            assertEquals(0, index.get("name", "bc").size());
+            assertFalse(c.hasRelationship());
+            tx.success();
+        }
+    }
+
+    @Test
+    public void testDeleteAllCountsDuplicateEntitiesOnce() throws Exception {
+        final MappingInfrastructureFactoryBean factoryBean = new MappingInfrastructureFactoryBean(db, null);
+        factoryBean.setCountCacheTimeToLive(60000);
+        factoryBean.afterPropertiesSet();
+        final Neo4jTemplate template = new Neo4jTemplate(factoryBean.getObject());
+        try (Transaction tx = db.beginTx()) {
+            final Thing a = template.save(new Thing());
+            template.save(new Thing());
+            template.save(new Thing());
+            assertEquals(3, template.count(Thing.class));
+
+            template.deleteAll(asList(a, a, template.findOne(a.id, Thing.class)));
+
+            assertEquals(2, template.count(Thing.class));
+            tx.success();
+        }
+    }
+
+    private boolean exists(GraphDatabaseService db, long nodeId) {
+        try {
+            db.getNodeById(nodeId);
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.support.node.NodeEntityInstantiator;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author mh
+ * @since 12.03.15
+ */
+public class GeneratedAccessorsTests {
+
+    private Neo4jMappingContext mappingContext;
+    private Neo4jPersistentEntityImpl<?> personEntity;
+
+    @Before
+    public void setUp() throws Exception {
+        mappingContext = new Neo4jMappingContext();
+        personEntity = mappingContext.getPersistentEntity(Person.class);
+        mappingContext.setGeneratedAccessors(true);
+    }
+
+    @Test
+    public void testFieldsAreAccessedWithMethodHandles() throws Exception {
+        Person person = new Person("Michael", 37);
+        PersistentPropertyAccessor accessor = personEntity.getPropertyAccessor(person);
+        assertTrue(accessor instanceof MethodHandlePropertyAccessor);
+        assertEquals("Michael", accessor.getProperty(personEntity.getPersistentProperty("name")));
+        assertEquals(37, accessor.getProperty(personEntity.getPersistentProperty("age")));
+
+        accessor.setProperty(personEntity.getPersistentProperty("name"), "Emil");
+        accessor.setProperty(personEntity.getPersistentProperty("age"), 30);
+        Person spouse = new Person("Anna", 35);
+        accessor.setProperty(personEntity.getPersistentProperty("spouse"), spouse);
+        assertEquals("Emil", person.getName());
+        assertEquals(30, person.getAge());
+        assertSame(spouse, person.getSpouse());
+    }
+
+    @Test
+    public void testSettingIsAppliedToKnownEntities() throws Exception {
+        assertTrue(mappingContext.getPersistentEntity(Person.class).isGeneratedAccessors());
+        mappingContext.setGeneratedAccessors(false);
+        assertFalse(personEntity.getPropertyAccessor(new Person()) instanceof MethodHandlePropertyAccessor);
+    }
+
+    @Test
+    public void testEntitiesAreInstantiatedWithConstructorHandles() throws Exception {
+        NodeEntityInstantiator instantiator = new NodeEntityInstantiator(null);
+        instantiator.setGeneratedAccessors(true);
+        Node node = mock(Node.class);
+        when(node.getId()).thenReturn(42L);
+        Person person = instantiator.createEntityFromState(node, Person.class, null);
+        assertEquals(Long.valueOf(42), person.getId());
+    }
+}
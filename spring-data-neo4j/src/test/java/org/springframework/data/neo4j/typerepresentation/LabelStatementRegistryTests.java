@@ -0,0 +1,62 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.typerepresentation;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.support.mapping.StoredEntityType;
+import org.springframework.data.neo4j.support.typerepresentation.LabelStatementRegistry;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author mh
+ * @since 12.03.15
+ */
+public class LabelStatementRegistryTests {
+
+    private Neo4jMappingContext mappingContext;
+    private StoredEntityType personType;
+
+    @Before
+    public void setUp() throws Exception {
+        mappingContext = new Neo4jMappingContext();
+        personType = mappingContext.getStoredEntityType(Person.class);
+    }
+
+    @Test
+    public void testStatementsAreRenderedWhenTheTypeIsAdded() throws Exception {
+        LabelStatementRegistry.LabelStatements statements = mappingContext.getLabelStatementRegistry().get(personType);
+        assertEquals("match (n:`Person`) return n", statements.getFindAll());
+        assertEquals("match (n:`Person`) return count(*)", statements.getCount());
+        assertEquals("match (n) where id(n)={nodeId} set n:`Person`", statements.getSetLabel());
+        assertEquals(new LinkedHashSet<>(Arrays.asList("Being", "Person", "_Person")), statements.getHierarchyLabels());
+        assertSame(statements, mappingContext.getLabelStatementRegistry().get(personType));
+    }
+
+    @Test
+    public void testUnregisteredTypesAreRenderedOnFirstUse() throws Exception {
+        LabelStatementRegistry registry = new LabelStatementRegistry();
+        LabelStatementRegistry.LabelStatements statements = registry.get(personType);
+        assertEquals("match (n:`Person`) return count(*)", statements.getCount());
+        assertSame(statements, registry.get(personType));
+    }
+}
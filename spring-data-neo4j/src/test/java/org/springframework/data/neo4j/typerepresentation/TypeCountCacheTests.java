@@ -0,0 +1,113 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.typerepresentation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
+import org.springframework.data.neo4j.model.Being;
+import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.support.mapping.StoredEntityType;
+import org.springframework.data.neo4j.support.typerepresentation.TypeCountCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author mh
+ * @since 12.03.15
+ */
+public class TypeCountCacheTests {
+
+    private TypeRepresentationStrategy<Node> strategy;
+    private StoredEntityType personType;
+    private StoredEntityType beingType;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+        personType = mappingContext.getStoredEntityType(Person.class);
+        beingType = mappingContext.getStoredEntityType(Being.class);
+        strategy = Mockito.mock(TypeRepresentationStrategy.class);
+        when(strategy.count(personType)).thenReturn(10L);
+        when(strategy.count(beingType)).thenReturn(15L);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testCountIsReadOnceAndAdjusted() throws Exception {
+        TypeCountCache cache = new TypeCountCache(60000);
+        assertEquals(10, cache.count(personType, strategy));
+        assertEquals(15, cache.count(beingType, strategy));
+        cache.created(personType);
+        cache.created(personType);
+        cache.removed(personType);
+        assertEquals(11, cache.count(personType, strategy));
+        assertEquals(16, cache.count(beingType, strategy));
+        verify(strategy, times(1)).count(personType);
+    }
+
+    @Test
+    public void testCountIsReconciledAfterTimeToLive() throws Exception {
+        TypeCountCache cache = new TypeCountCache(10);
+        assertEquals(10, cache.count(personType, strategy));
+        cache.created(personType);
+        Thread.sleep(50);
+        assertEquals(10, cache.count(personType, strategy));
+        verify(strategy, times(2)).count(personType);
+    }
+
+    @Test
+    public void testChangesAreAppliedOnCommit() throws Exception {
+        TypeCountCache cache = new TypeCountCache(60000);
+        assertEquals(10, cache.count(personType, strategy));
+        TransactionSynchronizationManager.initSynchronization();
+        cache.created(personType);
+        cache.created(personType);
+        assertEquals(12, cache.count(personType, strategy));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(12, cache.count(personType, strategy));
+    }
+
+    @Test
+    public void testChangesAreDroppedOnRollback() throws Exception {
+        TypeCountCache cache = new TypeCountCache(60000);
+        assertEquals(10, cache.count(personType, strategy));
+        TransactionSynchronizationManager.initSynchronization();
+        cache.created(personType);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+        assertEquals(10, cache.count(personType, strategy));
+    }
+}
@@ -24,6 +24,8 @@ import org.neo4j.graphdb.Node;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.neo4j.repository.GraphRepository;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.typerepresentation.TypeCountCache;
+import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategies;
 import org.springframework.data.neo4j.unique.common.CommonClub;
 import org.springframework.data.neo4j.unique.common.CommonUniqueClub;
 import org.springframework.data.neo4j.unique.common.CommonUniqueEntityTestBase;
@@ -124,6 +126,30 @@ public class UniqueSchemaBasedEntityTests extends CommonUniqueEntityTestBase {
         assertEquals("foo description", club2.getProperty("description"));
     }
 
+    @Test
+    public void savingAllUniqueEntitiesShouldOnlyCountCreatedNodes() {
+        final TypeRepresentationStrategies strategies = neo4jTemplate.getInfrastructure().getTypeRepresentationStrategies();
+        strategies.setCountCache(new TypeCountCache(60000));
+        try {
+            assertEquals(0, neo4jTemplate.count(UniqueClub.class));
+            UniqueClub existing = neo4jTemplate.save(new UniqueClub("foo"));
+
+            UniqueClub foo = new UniqueClub("foo");
+            UniqueClub bar = new UniqueClub("bar");
+            UniqueClub otherBar = new UniqueClub("bar");
+            neo4jTemplate.saveAll(Arrays.asList(foo, bar, otherBar));
+
+            assertEquals("Expected the existing node Id", existing.getId(), foo.getId());
+            assertNotNull(bar.getId());
+            assertEquals("Expected same node Ids", bar.getId(), otherBar.getId());
+            Map<String, Object> clubs = neo4jTemplate.query("MATCH (n:`UniqueClub`) RETURN count(*) AS clubs", Collections.<String, Object>emptyMap()).single();
+            assertEquals(2, ((Number) clubs.get("clubs")).longValue());
+            assertEquals(2, neo4jTemplate.count(UniqueClub.class));
+        } finally {
+            strategies.setCountCache(null);
+        }
+    }
+
 
     @Override
     protected CommonClub createNonUniqueClub(String name) {